@@ -18,6 +18,7 @@ public class AuthResponse {
     @Builder.Default
     private String tokenType = "Bearer";
     private Long expiresIn;
+    private String refreshToken;
     private UserInfo user;
 
     /**
@@ -0,0 +1,62 @@
+package com.tournament.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Versión de un recurso o colección para peticiones condicionales (ETag / Last-Modified)
+ */
+@Data
+@AllArgsConstructor
+public class ResourceVersion {
+
+    /**
+     * ETag fuerte, ya entrecomillado
+     */
+    private String etag;
+
+    /**
+     * Última modificación en milisegundos desde epoch, o -1 si no se conoce
+     */
+    private long lastModified;
+
+    /**
+     * Crea una versión a partir de una etiqueta y una fecha de modificación opcional
+     * @param tag Etiqueta sin comillas
+     * @param lastModified Fecha de última modificación (puede ser null)
+     * @return Versión del recurso
+     */
+    public static ResourceVersion of(String tag, LocalDateTime lastModified) {
+        long millis = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return new ResourceVersion("\"" + tag + "\"", millis);
+    }
+
+    /**
+     * Versión de otra representación del mismo recurso (p. ej. otra proyección o formato)
+     * @param variant Token que distingue la representación
+     * @return Versión con el mismo Last-Modified y un ETag propio
+     */
+    public ResourceVersion withVariant(String variant) {
+        return new ResourceVersion(etag.substring(0, etag.length() - 1) + "-" + variant + "\"", lastModified);
+    }
+
+    /**
+     * La más reciente de varias fechas de modificación
+     * @param values Fechas (pueden ser null)
+     * @return Fecha más reciente, o null si no hay ninguna
+     */
+    public static LocalDateTime latest(LocalDateTime... values) {
+        LocalDateTime latest = null;
+        for (LocalDateTime value : values) {
+            if (value != null && (latest == null || value.isAfter(latest))) {
+                latest = value;
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tournament.application.dto;
+
+import com.tournament.domain.entity.OrganizerRevenue;
+import com.tournament.domain.entity.TournamentRevenue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para la respuesta de ingresos de un torneo o de un organizador
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueResponse {
+
+    private Long organizerId;
+    private Long tournamentId;
+    private Long ticketsSold;
+    private Long ticketsRefunded;
+    private BigDecimal grossAmount;
+    private BigDecimal feeAmount;
+    private BigDecimal refundedAmount;
+    private BigDecimal refundedFeeAmount;
+    private BigDecimal netAmount;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Construye la respuesta a partir del agregado de un torneo
+     * @param revenue Agregado del torneo
+     * @return Respuesta de ingresos
+     */
+    public static RevenueResponse of(TournamentRevenue revenue) {
+        return RevenueResponse.builder()
+                .organizerId(revenue.getOrganizerId())
+                .tournamentId(revenue.getTournamentId())
+                .ticketsSold(revenue.getTicketsSold())
+                .ticketsRefunded(revenue.getTicketsRefunded())
+                .grossAmount(revenue.getGrossAmount())
+                .feeAmount(revenue.getFeeAmount())
+                .refundedAmount(revenue.getRefundedAmount())
+                .refundedFeeAmount(revenue.getRefundedFeeAmount())
+                .netAmount(net(revenue.getGrossAmount(), revenue.getFeeAmount(),
+                        revenue.getRefundedAmount(), revenue.getRefundedFeeAmount()))
+                .updatedAt(revenue.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Construye la respuesta a partir del agregado de un organizador
+     * @param revenue Agregado del organizador
+     * @return Respuesta de ingresos
+     */
+    public static RevenueResponse of(OrganizerRevenue revenue) {
+        return RevenueResponse.builder()
+                .organizerId(revenue.getOrganizerId())
+                .ticketsSold(revenue.getTicketsSold())
+                .ticketsRefunded(revenue.getTicketsRefunded())
+                .grossAmount(revenue.getGrossAmount())
+                .feeAmount(revenue.getFeeAmount())
+                .refundedAmount(revenue.getRefundedAmount())
+                .refundedFeeAmount(revenue.getRefundedFeeAmount())
+                .netAmount(net(revenue.getGrossAmount(), revenue.getFeeAmount(),
+                        revenue.getRefundedAmount(), revenue.getRefundedFeeAmount()))
+                .updatedAt(revenue.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Ingreso neto del organizador: lo cobrado sin comisión menos lo devuelto sin comisión
+     */
+    private static BigDecimal net(BigDecimal gross, BigDecimal fee, BigDecimal refunded, BigDecimal refundedFee) {
+        return gross.subtract(fee).subtract(refunded.subtract(refundedFee));
+    }
+}
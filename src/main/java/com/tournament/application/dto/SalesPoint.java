@@ -0,0 +1,26 @@
+package com.tournament.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para un punto de la serie temporal de ventas de tickets
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPoint {
+
+    private LocalDateTime bucketStart;
+    private Long ticketsSold;
+    private Long ticketsRefunded;
+    private BigDecimal grossAmount;
+    private BigDecimal feeAmount;
+    private BigDecimal refundedAmount;
+}
@@ -0,0 +1,113 @@
+package com.tournament.application.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Campos seleccionables de un torneo para respuestas parciales (?fields=) y la vista resumida
+ */
+public enum TournamentField {
+
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    IS_FREE("isFree", "isFree"),
+    PRICE("price", "price"),
+    MAX_PARTICIPANTS("maxParticipants", "maxParticipants"),
+    CURRENT_PARTICIPANTS("currentParticipants", "currentParticipants"),
+    START_DATE("startDate", "startDate"),
+    END_DATE("endDate", "endDate"),
+    STATUS("status", "status"),
+    COMMISSION_PERCENTAGE("commissionPercentage", "commissionPercentage"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    CATEGORY_ID("categoryId", "category.id"),
+    GAME_TYPE_ID("gameTypeId", "gameType.id"),
+    ORGANIZER_ID("organizerId", "organizer.id"),
+    CATEGORY("category", "category.id"),
+    GAME_TYPE("gameType", "gameType.id"),
+    ORGANIZER("organizer", "organizer.id", "organizer.username", "organizer.firstName",
+              "organizer.lastName", "organizer.role");
+
+    /**
+     * Vista compacta: solo escalares y claves foráneas, sin objetos anidados ni joins
+     */
+    public static final Set<TournamentField> SUMMARY = Collections.unmodifiableSet(EnumSet.of(
+            ID, NAME, STATUS, IS_FREE, PRICE, MAX_PARTICIPANTS, CURRENT_PARTICIPANTS,
+            START_DATE, END_DATE, CATEGORY_ID, GAME_TYPE_ID, ORGANIZER_ID));
+
+    private final String jsonName;
+    private final List<String> attributePaths;
+
+    TournamentField(String jsonName, String... attributePaths) {
+        this.jsonName = jsonName;
+        this.attributePaths = List.of(attributePaths);
+    }
+
+    /**
+     * Nombre de la propiedad en la respuesta JSON
+     * @return Nombre JSON
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Rutas de atributos JPA necesarias para construir el campo
+     * @return Rutas de atributos
+     */
+    public List<String> getAttributePaths() {
+        return attributePaths;
+    }
+
+    /**
+     * Token que identifica un conjunto normalizado de campos, para distinguir el ETag de cada proyección
+     * @param fields Campos solicitados
+     * @return Máscara de bits de los campos en hexadecimal
+     */
+    public static String versionToken(Set<TournamentField> fields) {
+        long mask = 0;
+        for (TournamentField field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return "f" + Long.toHexString(mask);
+    }
+
+    /**
+     * Resuelve los campos solicitados a partir de los parámetros de la petición
+     * @param fields Lista separada por comas de nombres JSON (puede ser null)
+     * @param view Nombre de la vista predefinida, actualmente solo "summary" (puede ser null)
+     * @return Conjunto de campos ordenado según el enum
+     * @throws IllegalArgumentException si un campo o vista no existe
+     */
+    public static Set<TournamentField> parse(String fields, String view) {
+        EnumSet<TournamentField> result = EnumSet.noneOf(TournamentField.class);
+
+        if (view != null && !view.isBlank()) {
+            if (!"summary".equals(view.trim().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Vista desconocida: " + view);
+            }
+            result.addAll(SUMMARY);
+        }
+
+        if (fields != null && !fields.isBlank()) {
+            for (String name : fields.split(",")) {
+                String trimmed = name.trim();
+                if (trimmed.isEmpty()) continue;
+                result.add(Arrays.stream(values())
+                        .filter(field -> field.jsonName.equals(trimmed))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Campo desconocido: " + trimmed)));
+            }
+        }
+
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Debe solicitar al menos un campo");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tournament.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con el resultado de una importación masiva de usuarios
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+
+    private int totalRows;
+    private int imported;
+    private int rejected;
+    private long durationMs;
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * DTO para una fila rechazada
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String username;
+        private String message;
+    }
+}
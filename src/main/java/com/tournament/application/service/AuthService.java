@@ -4,28 +4,54 @@ import com.tournament.application.dto.AuthResponse;
 import com.tournament.application.dto.LoginRequest;
 import com.tournament.application.dto.RegisterRequest;
 import com.tournament.domain.entity.User;
+import com.tournament.domain.event.AuditEvent;
+import com.tournament.domain.event.UserStatusChangedEvent;
 import com.tournament.domain.repository.UserRepository;
 import com.tournament.infrastructure.security.JwtTokenProvider;
+import com.tournament.infrastructure.security.TokenRevocationService;
+import com.tournament.infrastructure.security.UserStatus;
+import com.tournament.infrastructure.security.UserStatusCache;
+import com.tournament.infrastructure.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
- * Servicio de aplicación para la autenticación de usuarios
+ * Servicio de aplicación para la autenticación de usuarios.
+ *
+ * Login y registro no se ejecutan dentro de una transacción: BCrypt tarda decenas de
+ * milisegundos (y puede esperar turno en el pool acotado de hashing), y retener mientras tanto
+ * una conexión del pool de base de datos lo agotaría bajo carga. El usuario se lee en una
+ * transacción de solo lectura corta y las escrituras van en otra transacción posterior; el resto
+ * de operaciones declaran su propia transacción.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserStatusCache userStatusCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final PlatformTransactionManager transactionManager;
+
+    // Con tokens de acceso de corta duración la ruta caliente confía en los claims del JWT
+    @Value("${jwt.trust-access-token:true}")
+    private boolean trustAccessToken;
 
     /**
      * Autentica un usuario y genera un token JWT
@@ -35,7 +61,8 @@ public class AuthService {
     public AuthResponse login(LoginRequest request) {
         log.info("Intentando autenticar usuario: {}", request.getUsername());
 
-        User user = userRepository.findByUsername(request.getUsername())
+        // La conexión se libera antes de verificar la contraseña
+        User user = readOnlyTransaction().execute(status -> userRepository.findByUsername(request.getUsername()))
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
@@ -48,22 +75,37 @@ public class AuthService {
             throw new IllegalArgumentException("Usuario inactivo");
         }
 
-        String token = jwtTokenProvider.generateToken(user);
-        log.info("Usuario autenticado exitosamente: {}", request.getUsername());
-
-        return AuthResponse.builder()
-                .token(token)
-                .expiresIn(jwtTokenProvider.getTimeUntilExpiration(token))
-                .user(AuthResponse.UserInfo.builder()
-                        .id(user.getId())
-                        .username(user.getUsername())
-                        .email(user.getEmail())
-                        .firstName(user.getFirstName())
-                        .lastName(user.getLastName())
-                        .role(user.getRole().name())
-                        .fullName(user.getFullName())
-                        .build())
-                .build();
+        // Rehash transparente si el coste configurado de BCrypt ha cambiado
+        String upgradedHash = passwordEncoder.upgradeEncoding(user.getPasswordHash())
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            if (upgradedHash != null) {
+                user.setPasswordHash(upgradedHash);
+                userRepository.save(user);
+                log.info("Hash de contraseña actualizado al coste configurado para usuario: {}", request.getUsername());
+            }
+
+            String token = jwtTokenProvider.generateToken(user);
+            eventPublisher.publishEvent(AuditEvent.of(user.getId(), "LOGIN", "USER", user.getId()));
+            log.info("Usuario autenticado exitosamente: {}", request.getUsername());
+
+            return AuthResponse.builder()
+                    .token(token)
+                    .expiresIn(jwtTokenProvider.getTimeUntilExpiration(token))
+                    .refreshToken(refreshTokenService.issue(user))
+                    .user(AuthResponse.UserInfo.builder()
+                            .id(user.getId())
+                            .username(user.getUsername())
+                            .email(user.getEmail())
+                            .firstName(user.getFirstName())
+                            .lastName(user.getLastName())
+                            .role(user.getRole().name())
+                            .fullName(user.getFullName())
+                            .build())
+                    .build();
+        });
     }
 
     /**
@@ -74,37 +116,42 @@ public class AuthService {
     public AuthResponse register(RegisterRequest request) {
         log.info("Intentando registrar nuevo usuario: {}", request.getUsername());
 
-        // Verificar si el username ya existe
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            log.warn("Intento de registro con username existente: {}", request.getUsername());
-            throw new IllegalArgumentException("El nombre de usuario ya existe");
-        }
+        // El hash se calcula antes de abrir la transacción
+        String passwordHash = passwordEncoder.encode(request.getPassword());
 
-        // Verificar si el email ya existe
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            log.warn("Intento de registro con email existente: {}", request.getEmail());
-            throw new IllegalArgumentException("El email ya está registrado");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> saveNewUser(request, passwordHash));
+    }
 
-        // Crear nuevo usuario
+    private AuthResponse saveNewUser(RegisterRequest request, String passwordHash) {
+        // Sin consultas previas: las restricciones únicas de la tabla deciden, sin carreras
         User newUser = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHash)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .role(User.UserRole.PARTICIPANT)
                 .isActive(true)
                 .build();
 
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            DuplicateUserException duplicate = DuplicateUserException.from(e).orElseThrow(() -> e);
+            log.warn("Intento de registro con {} existente: {}", duplicate.getField(), request.getUsername());
+            throw duplicate;
+        }
+
         String token = jwtTokenProvider.generateToken(savedUser);
+        eventPublisher.publishEvent(AuditEvent.of(savedUser.getId(), "USER_REGISTERED", "USER", savedUser.getId()));
 
         log.info("Usuario registrado exitosamente: {}", request.getUsername());
 
         return AuthResponse.builder()
                 .token(token)
                 .expiresIn(jwtTokenProvider.getTimeUntilExpiration(token))
+                .refreshToken(refreshTokenService.issue(savedUser))
                 .user(AuthResponse.UserInfo.builder()
                         .id(savedUser.getId())
                         .username(savedUser.getUsername())
@@ -122,89 +169,169 @@ public class AuthService {
      * @param token Token a validar
      * @return true si el token es válido
      */
+    @Transactional(readOnly = true)
     public boolean validateToken(String token) {
         log.debug("Validando token JWT");
-        
-        if (!jwtTokenProvider.validateToken(token)) {
-            log.warn("Token JWT inválido");
-            return false;
-        }
-
-        String username = jwtTokenProvider.extractUsername(token);
-        Optional<User> user = userRepository.findByUsername(username);
 
-        if (user.isEmpty()) {
-            log.warn("Usuario no encontrado para token válido: {}", username);
+        try {
+            String username = trustAccessToken
+                    ? verifyAccessToken(token).getUsername()
+                    : authenticate(token).getUsername();
+            log.debug("Token JWT válido para usuario: {}", username);
+            return true;
+        } catch (IllegalArgumentException e) {
+            log.warn("Token JWT rechazado: {}", e.getMessage());
             return false;
         }
-
-        if (!user.get().getIsActive()) {
-            log.warn("Usuario inactivo con token válido: {}", username);
-            return false;
-        }
-
-        log.debug("Token JWT válido para usuario: {}", username);
-        return true;
     }
 
     /**
-     * Refresca un token JWT
-     * @param token Token actual
-     * @return Nuevo token
+     * Rota el refresh token y emite un nuevo token de acceso. Junto con getUserInfoFromToken,
+     * es la única operación sobre tokens que puede consultar la base de datos.
+     * @param refreshToken Refresh token opaco actual
+     * @return Nuevo token de acceso y nuevo refresh token
      */
-    public AuthResponse refreshToken(String token) {
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public AuthResponse refreshToken(String refreshToken) {
         log.info("Refrescando token JWT");
 
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new IllegalArgumentException("Token inválido");
-        }
-
-        String username = jwtTokenProvider.extractUsername(token);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation.user();
 
         if (!user.getIsActive()) {
+            refreshTokenService.revokeAll(user.getId());
             throw new IllegalArgumentException("Usuario inactivo");
         }
 
         String newToken = jwtTokenProvider.generateToken(user);
-        log.info("Token refrescado exitosamente para usuario: {}", username);
+        log.info("Token refrescado exitosamente para usuario: {}", user.getUsername());
 
         return AuthResponse.builder()
                 .token(newToken)
                 .expiresIn(jwtTokenProvider.getTimeUntilExpiration(newToken))
-                .user(AuthResponse.UserInfo.builder()
-                        .id(user.getId())
-                        .username(user.getUsername())
-                        .email(user.getEmail())
-                        .firstName(user.getFirstName())
-                        .lastName(user.getLastName())
-                        .role(user.getRole().name())
-                        .fullName(user.getFullName())
-                        .build())
+                .refreshToken(rotation.refreshToken())
+                .user(toUserInfo(UserStatus.of(user)))
                 .build();
     }
 
     /**
-     * Obtiene información del usuario a partir del token
+     * Obtiene información del usuario a partir del token. Nombre y apellidos no viajan en el
+     * token, así que siempre se consulta el estado del usuario en UserStatusCache, que accede a
+     * la base de datos cuando la entrada no está en caché o ha vencido.
      * @param token Token JWT
      * @return Información del usuario
      */
+    @Transactional(readOnly = true)
     public AuthResponse.UserInfo getUserInfoFromToken(String token) {
         log.debug("Obteniendo información del usuario desde token");
-        
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new IllegalArgumentException("Token inválido");
-        }
 
-        String username = jwtTokenProvider.extractUsername(token);
-        User user = userRepository.findByUsername(username)
+        return toUserInfo(authenticate(token));
+    }
+
+    /**
+     * Desactiva un usuario e invalida sus tokens
+     * @param userId ID del usuario
+     */
+    @Transactional
+    public void deactivateUser(Long userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
-        if (!user.getIsActive()) {
+        user.deactivate();
+        saveAndPublishStatusChange(user);
+        refreshTokenService.revokeAll(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, "USER_DEACTIVATED", "USER", userId));
+        log.info("Usuario desactivado: {}", user.getUsername());
+    }
+
+    /**
+     * Cambia el rol de un usuario e invalida sus tokens
+     * @param userId ID del usuario
+     * @param role Nuevo rol
+     */
+    @Transactional
+    public void changeUserRole(Long userId, User.UserRole role) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        if (user.getRole() == role) return;
+
+        User.UserRole previousRole = user.getRole();
+        user.changeRole(role);
+        saveAndPublishStatusChange(user);
+        refreshTokenService.revokeAll(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, "USER_ROLE_CHANGED", "USER", userId,
+                Map.of("previousRole", String.valueOf(previousRole), "newRole", role.name())));
+        log.info("Rol del usuario {} cambiado a {}", user.getUsername(), role);
+    }
+
+    /**
+     * Revoca todos los tokens emitidos para un usuario
+     * @param userId ID del usuario
+     */
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        user.revokeTokens();
+        saveAndPublishStatusChange(user);
+        refreshTokenService.revokeAll(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, "TOKENS_REVOKED", "USER", userId));
+        log.info("Tokens revocados para usuario: {}", user.getUsername());
+    }
+
+    /**
+     * Verifica el token y comprueba el estado del usuario con la caché,
+     * sin acceder a la base de datos mientras la entrada esté vigente
+     * @param token Token JWT
+     * @return Estado del usuario autenticado
+     */
+    private UserStatus authenticate(String token) {
+        VerifiedToken verified = verifyAccessToken(token);
+
+        UserStatus user = userStatusCache.get(verified.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+
+        if (!user.isActive()) {
             throw new IllegalArgumentException("Usuario inactivo");
         }
 
+        if (!user.acceptsTokenVersion(verified)) {
+            throw new IllegalArgumentException("Token revocado");
+        }
+
+        return user;
+    }
+
+    /**
+     * Verifica firma, expiración y revocación del token sin acceder a la base de datos
+     * @param token Token JWT
+     * @return Token verificado
+     */
+    private VerifiedToken verifyAccessToken(String token) {
+        VerifiedToken verified = jwtTokenProvider.verify(token)
+                .orElseThrow(() -> new IllegalArgumentException("Token inválido"));
+
+        if (tokenRevocationService.isRevoked(verified)) {
+            throw new IllegalArgumentException("Token revocado");
+        }
+        return verified;
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private void saveAndPublishStatusChange(User user) {
+        userRepository.save(user);
+        // La caché se invalida tras el commit mediante el evento
+        eventPublisher.publishEvent(new UserStatusChangedEvent(user.getId(), user.getUsername(), LocalDateTime.now()));
+    }
+
+    private AuthResponse.UserInfo toUserInfo(UserStatus user) {
         return AuthResponse.UserInfo.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -217,17 +344,18 @@ public class AuthService {
     }
 
     /**
-     * Cierra la sesión de un usuario (logout)
+     * Cierra la sesión de un usuario (logout) revocando el token hasta su expiración
      * @param token Token a invalidar
      */
+    @Transactional
     public void logout(String token) {
         log.info("Cerrando sesión de usuario");
-        
-        // En una implementación real, aquí se invalidaría el token
-        // Por ahora, solo registramos la acción
-        if (jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.extractUsername(token);
-            log.info("Sesión cerrada para usuario: {}", username);
-        }
+
+        jwtTokenProvider.verify(token).ifPresent(verified -> {
+            tokenRevocationService.revoke(verified);
+            eventPublisher.publishEvent(AuditEvent.of(null, "LOGOUT", "USER", null,
+                    Map.of("username", verified.getUsername())));
+            log.info("Sesión cerrada para usuario: {}", verified.getUsername());
+        });
     }
 } 
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TournamentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de negocio de venta y validación de tickets y de ocupación de torneos.
+ *
+ * Todas las etiquetas tienen cardinalidad acotada: los resultados son enumerados y la ocupación
+ * se publica solo para los top-n torneos abiertos más ocupados, más una serie "other" con el
+ * agregado del resto. La ocupación se recalcula periódicamente con dos consultas de proyección,
+ * no en cada compra.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessMetrics {
+
+    static final String OTHER = "other";
+
+    /**
+     * Resultado de una compra de ticket
+     */
+    public enum PurchaseOutcome {
+        SUCCESS, NOT_FOUND, CLOSED, FULL, DUPLICATE, ERROR
+    }
+
+    /**
+     * Resultado de una validación de ticket en el acceso
+     */
+    public enum ValidationOutcome {
+        VALID, NOT_FOUND, USED, INACTIVE, NOT_IN_PROGRESS
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final TournamentRepository tournamentRepository;
+
+    @Value("${tournament.metrics.occupancy.top-n:10}")
+    private int topN;
+
+    private final Map<PurchaseOutcome, Timer> purchaseTimers = new EnumMap<>(PurchaseOutcome.class);
+    private final Map<ValidationOutcome, Timer> validationTimers = new EnumMap<>(ValidationOutcome.class);
+    private MultiGauge occupancyGauge;
+    private MultiGauge availableGauge;
+    private volatile SeatRow openTotals = new SeatRow(OTHER, 0, 0);
+    private volatile long openTournaments;
+
+    @PostConstruct
+    void registerMetrics() {
+        // Registradas de antemano para que las tasas por resultado existan aunque valgan cero
+        for (PurchaseOutcome outcome : PurchaseOutcome.values()) {
+            purchaseTimers.put(outcome, latencyTimer("tickets.purchase", "Compras de tickets por resultado", outcome));
+        }
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            validationTimers.put(outcome, latencyTimer("tickets.validation", "Validaciones de tickets por resultado", outcome));
+        }
+        occupancyGauge = MultiGauge.builder("tournament.seats.occupancy")
+                .description("Fracción de plazas ocupadas de los torneos abiertos más ocupados y del resto (other)")
+                .register(meterRegistry);
+        availableGauge = MultiGauge.builder("tournament.seats.available")
+                .description("Plazas libres de los torneos abiertos más ocupados y del resto (other)")
+                .register(meterRegistry);
+        Gauge.builder("tournament.open.count", this, metrics -> metrics.openTournaments)
+                .description("Torneos con el registro abierto")
+                .register(meterRegistry);
+        Gauge.builder("tournament.seats.open.occupancy", this, metrics -> metrics.openTotals.occupancy())
+                .description("Fracción de plazas ocupadas en el conjunto de torneos abiertos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra una compra de ticket
+     * @param outcome Resultado
+     * @param elapsedNanos Duración en nanosegundos
+     */
+    public void recordPurchase(PurchaseOutcome outcome, long elapsedNanos) {
+        purchaseTimers.get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra una compra cuando termine la transacción en curso: SUCCESS solo si se confirma y
+     * ERROR si se revierte, con la latencia hasta el commit incluido. Sin transacción se registra
+     * SUCCESS en el acto.
+     * @param startedNanos Inicio de la compra (System.nanoTime)
+     */
+    public void recordPurchaseOnCompletion(long startedNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordPurchase(PurchaseOutcome.SUCCESS, System.nanoTime() - startedNanos);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordPurchase(status == STATUS_COMMITTED ? PurchaseOutcome.SUCCESS : PurchaseOutcome.ERROR,
+                        System.nanoTime() - startedNanos);
+            }
+        });
+    }
+
+    /**
+     * Registra una validación de ticket
+     * @param outcome Resultado
+     * @param elapsedNanos Duración en nanosegundos
+     */
+    public void recordValidation(ValidationOutcome outcome, long elapsedNanos) {
+        validationTimers.get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra la creación de un torneo
+     * @param free true si es gratuito
+     */
+    public void recordTournamentCreated(boolean free) {
+        Counter.builder("tournaments.created")
+                .description("Torneos creados")
+                .tag("free", String.valueOf(free))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Cuenta los cambios de estado confirmados, manuales o del planificador
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentStatusChanged(TournamentStatusChangedEvent event) {
+        Counter.builder("tournament.status.transitions")
+                .description("Cambios de estado de torneos")
+                .tag("from", event.getPreviousStatus() != null ? event.getPreviousStatus().name() : "NONE")
+                .tag("to", event.getNewStatus().name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Recalcula la ocupación de los torneos abiertos
+     */
+    @Scheduled(fixedDelayString = "${tournament.metrics.occupancy.refresh-interval-ms:30000}",
+               initialDelayString = "${tournament.metrics.occupancy.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void refreshSeatOccupancy() {
+        try {
+            List<TournamentRepository.SeatOccupancy> top = tournamentRepository.findOpenSeatOccupancy(PageRequest.of(0, topN));
+            TournamentRepository.SeatTotals totals = tournamentRepository.findOpenSeatTotals();
+
+            List<SeatRow> rows = occupancyRows(top, totals);
+            occupancyGauge.register(rows.stream()
+                    .<MultiGauge.Row<?>>map(row -> MultiGauge.Row.of(Tags.of("tournament", row.tournament()), row.occupancy()))
+                    .toList(), true);
+            availableGauge.register(rows.stream()
+                    .<MultiGauge.Row<?>>map(row -> MultiGauge.Row.of(Tags.of("tournament", row.tournament()), row.available()))
+                    .toList(), true);
+
+            openTournaments = totals != null && totals.getTournaments() != null ? totals.getTournaments() : 0;
+            openTotals = new SeatRow(OTHER, totals != null ? nullToZero(totals.getTaken()) : 0,
+                    totals != null ? nullToZero(totals.getCapacity()) : 0);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo recalcular la ocupación de torneos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Filas de ocupación: una por torneo del top y "other" con el resto, si queda alguno
+     */
+    static List<SeatRow> occupancyRows(List<TournamentRepository.SeatOccupancy> top, TournamentRepository.SeatTotals totals) {
+        List<SeatRow> rows = new ArrayList<>(top.size() + 1);
+        long topTaken = 0;
+        long topCapacity = 0;
+        for (TournamentRepository.SeatOccupancy tournament : top) {
+            long taken = nullToZero(tournament.getTaken());
+            long capacity = nullToZero(tournament.getCapacity());
+            rows.add(new SeatRow(String.valueOf(tournament.getId()), taken, capacity));
+            topTaken += taken;
+            topCapacity += capacity;
+        }
+        long remaining = totals != null && totals.getTournaments() != null ? totals.getTournaments() - top.size() : 0;
+        if (remaining > 0) {
+            rows.add(new SeatRow(OTHER, Math.max(0, nullToZero(totals.getTaken()) - topTaken),
+                    Math.max(0, nullToZero(totals.getCapacity()) - topCapacity)));
+        }
+        return rows;
+    }
+
+    private Timer latencyTimer(String name, String description, Enum<?> outcome) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private static long nullToZero(Number value) {
+        return value != null ? value.longValue() : 0;
+    }
+
+    /**
+     * Ocupación de un torneo o del agregado "other"
+     */
+    record SeatRow(String tournament, long taken, long capacity) {
+
+        double occupancy() {
+            return capacity > 0 ? (double) taken / capacity : 0.0;
+        }
+
+        long available() {
+            return Math.max(0, capacity - taken);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.tournament.application.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV en streaming (RFC 4180): campos separados por comas, entre comillas opcionales,
+ * con "" como comilla escapada y saltos de línea dentro de campos entrecomillados.
+ * Mantiene en memoria un único registro.
+ */
+final class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber = 1;
+    private long recordLine;
+    private boolean firstRecord = true;
+
+    CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Lee el siguiente registro
+     * @return Campos del registro, o null al final del fichero
+     * @throws IllegalArgumentException si hay comillas sin cerrar
+     */
+    List<String> next() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        if (firstRecord) {
+            firstRecord = false;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+
+        recordLine = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Comillas sin cerrar en la línea " + recordLine);
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * @return Línea del fichero en la que empieza el último registro leído
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.tournament.application.service;
+
+import lombok.Getter;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Violación de las restricciones únicas de usuarios (username o email).
+ *
+ * Se obtiene a partir de la violación que devuelve la base de datos, en lugar de consultar
+ * antes de insertar, de modo que la comprobación no cuesta consultas adicionales y no tiene
+ * carreras entre registros simultáneos.
+ */
+@Getter
+public class DuplicateUserException extends IllegalArgumentException {
+
+    /**
+     * Campo cuyo valor ya existe
+     */
+    public enum Field {
+        USERNAME, EMAIL
+    }
+
+    private final Field field;
+
+    public DuplicateUserException(Field field) {
+        super(field == Field.USERNAME ? "El nombre de usuario ya existe" : "El email ya está registrado");
+        this.field = field;
+    }
+
+    /**
+     * Traduce una violación de integridad a la restricción única afectada.
+     * Las restricciones se llaman users_username_key y users_email_key (V1 y la entidad User);
+     * si el driver no informa del nombre se recurre al mensaje del error SQL.
+     * @param e Violación devuelta por la base de datos
+     * @return Campo duplicado, o vacío si la violación es de otro tipo
+     */
+    public static Optional<DuplicateUserException> from(DataIntegrityViolationException e) {
+        StringBuilder detail = new StringBuilder();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && violation.getConstraintName() != null) {
+                detail.append(violation.getConstraintName()).append(' ');
+            }
+            if (cause.getCause() == null && cause.getMessage() != null) {
+                detail.append(cause.getMessage());
+            }
+        }
+
+        String text = detail.toString().toLowerCase(Locale.ROOT);
+        if (text.contains("users_email_key") || text.contains("(email")) {
+            return Optional.of(new DuplicateUserException(Field.EMAIL));
+        }
+        if (text.contains("users_username_key") || text.contains("(username")) {
+            return Optional.of(new DuplicateUserException(Field.USERNAME));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,261 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Notification;
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envío masivo de notificaciones a los poseedores de tickets de un torneo.
+ *
+ * Tras confirmarse un cambio de estado relevante, el envío se ejecuta en segundo plano: los
+ * destinatarios se leen con una consulta en streaming sobre la partición de tickets del torneo
+ * (cursor con fetch-size, sin cargar la lista completa) y se insertan en lotes de batch-size
+ * filas, cada uno en su propia transacción con un único INSERT ... SELECT FROM unnest(...) y la
+ * actualización de los contadores de no leídas. Los IDs se reservan en bloques del tamaño de
+ * incremento de la secuencia (V7), compatibles con el optimizador pooled de Hibernate. Cada lote
+ * toma su sent_at al insertarse, justo antes de confirmar: markAllRead compara por sent_at y un
+ * lote confirmado después de una marca de lectura no debe quedar cubierto por ella.
+ *
+ * El envío vive en memoria: si la aplicación se detiene a mitad, los lotes ya confirmados se
+ * conservan y el resto no se envía.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.notifications.fanout.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationFanoutService {
+
+    // Debe coincidir con INCREMENT BY de notifications_id_seq y el allocationSize de Notification
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String RECIPIENTS_SQL =
+            "SELECT DISTINCT user_id FROM tickets " +
+            "WHERE tournament_id = ? AND status <> 'CANCELLED' AND user_id IS NOT NULL ORDER BY user_id";
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('notifications_id_seq') FROM generate_series(1, ?)";
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (id, tournament_id, user_id, message, type, is_read, sent_at) " +
+            "SELECT r.id, ?, r.user_id, ?, ?, false, ? FROM unnest(?::bigint[], ?::bigint[]) AS r(id, user_id)";
+    private static final String COUNTERS_SQL =
+            "INSERT INTO notification_counters (user_id, unread_count, updated_at) " +
+            "SELECT u, 1, ? FROM unnest(?::bigint[]) AS u ORDER BY u " +
+            "ON CONFLICT (user_id) DO UPDATE SET unread_count = notification_counters.unread_count + 1, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tournament.notifications.fanout.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${tournament.notifications.fanout.fetch-size:5000}")
+    private int fetchSize;
+
+    @Value("${tournament.notifications.fanout.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Counter sentCounter;
+    private Timer fanoutTimer;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-fanout");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        sentCounter = Counter.builder("notifications.sent")
+                .description("Notificaciones creadas por envíos masivos")
+                .register(meterRegistry);
+        fanoutTimer = Timer.builder("notification.fanout")
+                .description("Duración de cada envío masivo de notificaciones")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Lanza el envío una vez confirmado el cambio de estado
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TournamentStatusChangedEvent event) {
+        Notification.NotificationType type = event.getNewStatus() == Tournament.TournamentStatus.CANCELLED
+                ? Notification.NotificationType.WARNING : Notification.NotificationType.INFO;
+        String template = messageTemplate(event.getNewStatus());
+        if (template == null) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    fanOut(event.getTournamentId(), template, type);
+                } catch (RuntimeException e) {
+                    log.error("Error en el envío de notificaciones del torneo {}: {}", event.getTournamentId(), e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Cola de envíos llena, notificaciones del torneo {} descartadas", event.getTournamentId());
+        }
+    }
+
+    /**
+     * Crea una notificación para cada poseedor de ticket del torneo
+     * @param tournamentId ID del torneo
+     * @param template Mensaje con %s para el nombre del torneo
+     * @param type Tipo de notificación
+     * @return Número de notificaciones creadas
+     */
+    public long fanOut(Long tournamentId, String template, Notification.NotificationType type) {
+        long started = System.nanoTime();
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM tournaments WHERE id = ?", String.class, tournamentId);
+        if (names.isEmpty()) return 0;
+
+        Batch batch = new Batch(tournamentId, String.format(template, names.get(0)), type);
+
+        // PostgreSQL solo usa cursor (fetch-size) dentro de una transacción
+        TransactionTemplate streaming = new TransactionTemplate(transactionManager);
+        TransactionTemplate writes = new TransactionTemplate(transactionManager);
+        writes.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        streaming.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RECIPIENTS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, tournamentId);
+            return ps;
+        }, (ResultSet rs) -> {
+            batch.userIds.add(rs.getLong(1));
+            if (batch.userIds.size() >= batchSize) {
+                writes.executeWithoutResult(s -> insert(batch));
+            }
+        }));
+        if (!batch.userIds.isEmpty()) {
+            writes.executeWithoutResult(s -> insert(batch));
+        }
+
+        fanoutTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.info("{} notificaciones enviadas para el torneo {}", batch.sent, tournamentId);
+        return batch.sent;
+    }
+
+    private void insert(Batch batch) {
+        Long[] userIds = batch.userIds.toArray(new Long[0]);
+        Long[] ids = reserveIds(userIds.length);
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setLong(1, batch.tournamentId);
+            ps.setString(2, batch.message);
+            ps.setString(3, batch.type.name());
+            ps.setTimestamp(4, sentAt);
+            ps.setArray(5, bigintArray(connection, ids));
+            ps.setArray(6, bigintArray(connection, userIds));
+            return ps;
+        });
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COUNTERS_SQL);
+            ps.setTimestamp(1, sentAt);
+            ps.setArray(2, bigintArray(connection, userIds));
+            return ps;
+        });
+
+        batch.sent += userIds.length;
+        sentCounter.increment(userIds.length);
+        batch.userIds.clear();
+    }
+
+    /**
+     * Reserva count IDs: cada nextval entrega el extremo superior de un bloque de ID_BLOCK_SIZE
+     */
+    private Long[] reserveIds(int count) {
+        List<Long> upperBounds = jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class,
+                (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+        return expandIdBlocks(upperBounds, count);
+    }
+
+    static Long[] expandIdBlocks(List<Long> upperBounds, int count) {
+        Long[] ids = new Long[count];
+        int index = 0;
+        for (Long upper : upperBounds) {
+            for (long id = upper - ID_BLOCK_SIZE + 1; id <= upper && index < count; id++) {
+                ids[index++] = id;
+            }
+        }
+        if (index < count) {
+            throw new IllegalStateException("Bloques de IDs insuficientes: " + index + " de " + count);
+        }
+        return ids;
+    }
+
+    private static Array bigintArray(Connection connection, Long[] values) throws SQLException {
+        return connection.createArrayOf("bigint", values);
+    }
+
+    /**
+     * Mensaje para cada estado que afecta a los poseedores de tickets; null si no se notifica
+     */
+    static String messageTemplate(Tournament.TournamentStatus status) {
+        return switch (status) {
+            case REGISTRATION_CLOSED -> "El registro del torneo %s se ha cerrado";
+            case IN_PROGRESS -> "El torneo %s ha comenzado";
+            case COMPLETED -> "El torneo %s ha finalizado";
+            case CANCELLED -> "El torneo %s ha sido cancelado";
+            default -> null;
+        };
+    }
+
+    /**
+     * Estado de un envío en curso: destinatarios pendientes de insertar y total enviado
+     */
+    private static final class Batch {
+
+        private final Long tournamentId;
+        private final String message;
+        private final Notification.NotificationType type;
+        private final List<Long> userIds = new ArrayList<>();
+        private long sent;
+
+        private Batch(Long tournamentId, String message, Notification.NotificationType type) {
+            this.tournamentId = tournamentId;
+            this.message = message;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Notification;
+import com.tournament.domain.repository.NotificationCounterRepository;
+import com.tournament.domain.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Servicio de aplicación para la consulta y lectura de notificaciones.
+ *
+ * El recuento de no leídas se sirve desde notification_counters; cada marca de lectura descuenta
+ * del contador en la misma transacción exactamente las filas que ha cambiado.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class NotificationService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository counterRepository;
+
+    /**
+     * Obtiene las notificaciones de un usuario, de la más reciente a la más antigua
+     * @param userId ID del usuario
+     * @param beforeId Paginación por cursor: solo notificaciones con ID menor (null = desde la última)
+     * @param limit Tamaño de página
+     * @return Lista de notificaciones
+     */
+    @Transactional(readOnly = true)
+    public List<Notification> getNotifications(Long userId, Long beforeId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return notificationRepository.findByUserIdBefore(userId, beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * Obtiene el número de notificaciones no leídas sin recorrer la tabla de notificaciones
+     * @param userId ID del usuario
+     * @return Notificaciones no leídas
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findUnreadCount(userId).orElse(0L);
+    }
+
+    /**
+     * Marca como leídas varias notificaciones de un usuario
+     * @param userId ID del usuario
+     * @param ids IDs de notificación; se ignoran las ajenas o ya leídas
+     * @return Número de notificaciones marcadas
+     */
+    public int markRead(Long userId, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return 0;
+        if (ids.size() > MAX_PAGE_SIZE * 10) {
+            throw new IllegalArgumentException("Demasiadas notificaciones en una sola petición");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return discount(userId, notificationRepository.markReadByIds(userId, ids, now), now);
+    }
+
+    /**
+     * Marca como leídas todas las notificaciones de un usuario
+     * @param userId ID del usuario
+     * @param upTo Fecha de envío de la última notificación vista (null = todas); las enviadas
+     *             después siguen sin leer
+     * @return Número de notificaciones marcadas
+     */
+    public int markAllRead(Long userId, LocalDateTime upTo) {
+        LocalDateTime now = LocalDateTime.now();
+        return discount(userId, notificationRepository.markAllReadSentUpTo(userId,
+                upTo != null ? upTo : now, now), now);
+    }
+
+    private int discount(Long userId, int marked, LocalDateTime now) {
+        if (marked > 0) {
+            counterRepository.decrement(userId, marked, now);
+            log.debug("{} notificaciones marcadas como leídas para usuario {}", marked, userId);
+        }
+        return marked;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tournament.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.domain.entity.OutboxEvent;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registro de eventos de integración en el outbox transaccional.
+ *
+ * Los eventos se guardan en la transacción del cambio que describen: si ésta se revierte, el
+ * evento desaparece con ella, y si se confirma, OutboxRelay lo publicará aunque el broker no
+ * esté disponible en ese momento. La petición solo paga un INSERT agrupado con el resto.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    public static final String TICKET_PURCHASED = "ticket.purchased";
+    public static final String TICKET_USED = "ticket.used";
+    public static final String TOURNAMENT_STATUS_CHANGED = "tournament.status-changed";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Añade un evento al outbox; exige una transacción en curso
+     * @param aggregateType Tipo de agregado
+     * @param aggregateId ID del agregado
+     * @param eventType Tipo de evento (clave de enrutado)
+     * @param payload Contenido del evento
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String aggregateType, Long aggregateId, String eventType, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento " + eventType + " no serializable", e);
+        }
+        outboxEventRepository.save(OutboxEvent.pending(aggregateType, aggregateId, eventType, json));
+        log.debug("Evento {} registrado en el outbox para {} {}", eventType, aggregateType, aggregateId);
+    }
+
+    /**
+     * Los cambios de estado, manuales o del planificador, se registran antes del commit de su transacción
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTournamentStatusChanged(TournamentStatusChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("tournamentId", event.getTournamentId());
+        payload.put("previousStatus", event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null);
+        payload.put("newStatus", event.getNewStatus().name());
+        payload.put("occurredAt", String.valueOf(event.getOccurredAt()));
+        enqueue("TOURNAMENT", event.getTournamentId(), TOURNAMENT_STATUS_CHANGED, payload);
+    }
+}
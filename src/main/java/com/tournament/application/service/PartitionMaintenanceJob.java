@@ -0,0 +1,130 @@
+package com.tournament.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantenimiento de las particiones mensuales de audit_logs (V8).
+ *
+ * Crea por adelantado las particiones de los próximos meses, para que las filas nuevas no caigan
+ * en la partición DEFAULT, y elimina las que superan la retención con DETACH + DROP: la purga es
+ * instantánea y no genera DELETE masivos ni bloat. Un advisory lock de transacción evita que
+ * varias réplicas lo ejecuten a la vez. Las particiones hash de tickets son fijas y no necesitan
+ * mantenimiento.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceJob {
+
+    static final String PARENT_TABLE = "audit_logs";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("audit_logs_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${tournament.partitions.audit-logs.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${tournament.partitions.audit-logs.retention-months:12}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * Crea las particiones futuras y elimina las caducadas
+     */
+    @Scheduled(cron = "${tournament.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext('partition-maintenance'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Mantenimiento de particiones en curso en otra instancia");
+                    return;
+                }
+
+                YearMonth current = YearMonth.now();
+                Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                        "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ?", String.class, PARENT_TABLE));
+
+                for (YearMonth month : monthsToCreate(existing, current, premakeMonths)) {
+                    jdbcTemplate.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                            partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+                    log.info("Partición {} creada", partitionName(month));
+                }
+
+                for (String partition : partitionsToDrop(existing, current, retentionMonths)) {
+                    jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", PARENT_TABLE, partition));
+                    jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+                    log.info("Partición caducada {} eliminada", partition);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Error en el mantenimiento de particiones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Meses, del actual a premakeMonths por delante, que aún no tienen partición
+     */
+    static List<YearMonth> monthsToCreate(Set<String> existing, YearMonth current, int premakeMonths) {
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Particiones mensuales anteriores a la ventana de retención (el mes actual y los
+     * retentionMonths anteriores se conservan). La partición DEFAULT nunca se elimina.
+     */
+    static List<String> partitionsToDrop(Set<String> existing, YearMonth current, int retentionMonths) {
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<String> expired = new ArrayList<>();
+        for (String name : existing) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(name);
+            if (matcher.matches()
+                    && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(oldestKept)) {
+                expired.add(name);
+            }
+        }
+        expired.sort(null);
+        return expired;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "audit_logs_p" + month.format(SUFFIX);
+    }
+}
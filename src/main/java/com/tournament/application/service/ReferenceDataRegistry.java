@@ -0,0 +1,256 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.TournamentResponse;
+import com.tournament.domain.entity.Category;
+import com.tournament.domain.entity.GameType;
+import com.tournament.domain.repository.CategoryRepository;
+import com.tournament.domain.repository.GameTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registro en memoria de los datos de referencia (categorías y tipos de juego).
+ *
+ * Carga ambas tablas al arrancar en mapas inmutables indexados por ID y por código,
+ * de modo que la validación y el mapeo de respuestas de torneos no consultan la base
+ * de datos. La instantánea se reemplaza de forma atómica al refrescarse, ya sea
+ * periódicamente o cuando se detecta un ID que aún no estaba cargado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final GameTypeRepository gameTypeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Carga inicial al arrancar la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron cargar los datos de referencia al arrancar: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refresco periódico para recoger cambios hechos fuera de la aplicación
+     */
+    @Scheduled(fixedDelayString = "${tournament.reference-data.refresh-interval-ms:300000}",
+               initialDelayString = "${tournament.reference-data.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Error refrescando datos de referencia: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarga categorías y tipos de juego y publica una nueva instantánea
+     */
+    public synchronized void refresh() {
+        List<Category> categories = categoryRepository.findAll();
+        List<GameType> gameTypes = gameTypeRepository.findAllWithCategory();
+
+        Map<Long, TournamentResponse.CategoryResponse> categoriesById = new LinkedHashMap<>();
+        Map<String, TournamentResponse.CategoryResponse> categoriesByCode = new LinkedHashMap<>();
+        for (Category category : categories) {
+            TournamentResponse.CategoryResponse response = toCategoryResponse(category);
+            categoriesById.put(category.getId(), response);
+            categoriesByCode.put(category.getCode(), response);
+        }
+
+        Map<Long, TournamentResponse.GameTypeResponse> gameTypesById = new LinkedHashMap<>();
+        Map<String, TournamentResponse.GameTypeResponse> gameTypesByCode = new LinkedHashMap<>();
+        for (GameType gameType : gameTypes) {
+            TournamentResponse.GameTypeResponse response = toGameTypeResponse(gameType);
+            gameTypesById.put(gameType.getId(), response);
+            gameTypesByCode.put(gameType.getCode(), response);
+        }
+
+        this.snapshot = new Snapshot(categoriesById, categoriesByCode, gameTypesById, gameTypesByCode);
+        log.info("Datos de referencia cargados: {} categorías, {} tipos de juego",
+                categoriesById.size(), gameTypesById.size());
+    }
+
+    /**
+     * Busca una categoría por ID
+     * @param id ID de la categoría
+     * @return Categoría encontrada
+     */
+    public Optional<TournamentResponse.CategoryResponse> findCategory(Long id) {
+        if (id == null) return Optional.empty();
+
+        TournamentResponse.CategoryResponse category = snapshot.categoriesById.get(id);
+        if (category == null && categoryRepository.existsById(id)) {
+            refresh();
+            category = snapshot.categoriesById.get(id);
+        }
+        return Optional.ofNullable(category);
+    }
+
+    /**
+     * Busca una categoría por código
+     * @param code Código de la categoría
+     * @return Categoría encontrada
+     */
+    public Optional<TournamentResponse.CategoryResponse> findCategoryByCode(String code) {
+        return Optional.ofNullable(snapshot.categoriesByCode.get(code));
+    }
+
+    /**
+     * Busca un tipo de juego por ID
+     * @param id ID del tipo de juego
+     * @return Tipo de juego encontrado
+     */
+    public Optional<TournamentResponse.GameTypeResponse> findGameType(Long id) {
+        if (id == null) return Optional.empty();
+
+        TournamentResponse.GameTypeResponse gameType = snapshot.gameTypesById.get(id);
+        if (gameType == null && gameTypeRepository.existsById(id)) {
+            refresh();
+            gameType = snapshot.gameTypesById.get(id);
+        }
+        return Optional.ofNullable(gameType);
+    }
+
+    /**
+     * Busca un tipo de juego por código
+     * @param code Código del tipo de juego
+     * @return Tipo de juego encontrado
+     */
+    public Optional<TournamentResponse.GameTypeResponse> findGameTypeByCode(String code) {
+        return Optional.ofNullable(snapshot.gameTypesByCode.get(code));
+    }
+
+    /**
+     * Obtiene todas las categorías cargadas
+     * @return Lista inmutable de categorías
+     */
+    public List<TournamentResponse.CategoryResponse> getCategories() {
+        return snapshot.categories;
+    }
+
+    /**
+     * Obtiene todos los tipos de juego cargados
+     * @return Lista inmutable de tipos de juego
+     */
+    public List<TournamentResponse.GameTypeResponse> getGameTypes() {
+        return snapshot.gameTypes;
+    }
+
+    /**
+     * ETag de la lista de categorías actual
+     * @return ETag entrecomillado
+     */
+    public String getCategoriesETag() {
+        return snapshot.categoriesETag;
+    }
+
+    /**
+     * ETag de la lista de tipos de juego actual
+     * @return ETag entrecomillado
+     */
+    public String getGameTypesETag() {
+        return snapshot.gameTypesETag;
+    }
+
+    /**
+     * Versión conjunta de categorías y tipos de juego, para los ETag de recursos que los incluyen
+     * @return Token corto que cambia con cualquier cambio de los datos de referencia
+     */
+    public String getVersion() {
+        return snapshot.version;
+    }
+
+    private TournamentResponse.CategoryResponse toCategoryResponse(Category category) {
+        if (category == null) return null;
+
+        return TournamentResponse.CategoryResponse.builder()
+                .id(category.getId())
+                .code(category.getCode())
+                .description(category.getDescription())
+                .alias(category.getAlias())
+                .build();
+    }
+
+    private TournamentResponse.GameTypeResponse toGameTypeResponse(GameType gameType) {
+        return TournamentResponse.GameTypeResponse.builder()
+                .id(gameType.getId())
+                .code(gameType.getCode())
+                .fullName(gameType.getFullName())
+                .playersCount(gameType.getPlayersCount())
+                .category(toCategoryResponse(gameType.getCategory()))
+                .build();
+    }
+
+    /**
+     * Instantánea inmutable de los datos de referencia
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+        private final Map<Long, TournamentResponse.CategoryResponse> categoriesById;
+        private final Map<String, TournamentResponse.CategoryResponse> categoriesByCode;
+        private final Map<Long, TournamentResponse.GameTypeResponse> gameTypesById;
+        private final Map<String, TournamentResponse.GameTypeResponse> gameTypesByCode;
+        private final List<TournamentResponse.CategoryResponse> categories;
+        private final List<TournamentResponse.GameTypeResponse> gameTypes;
+        private final String categoriesETag;
+        private final String gameTypesETag;
+        private final String version;
+
+        private Snapshot(Map<Long, TournamentResponse.CategoryResponse> categoriesById,
+                         Map<String, TournamentResponse.CategoryResponse> categoriesByCode,
+                         Map<Long, TournamentResponse.GameTypeResponse> gameTypesById,
+                         Map<String, TournamentResponse.GameTypeResponse> gameTypesByCode) {
+            this.categoriesById = Map.copyOf(categoriesById);
+            this.categoriesByCode = Map.copyOf(categoriesByCode);
+            this.gameTypesById = Map.copyOf(gameTypesById);
+            this.gameTypesByCode = Map.copyOf(gameTypesByCode);
+            // Las listas conservan el orden de carga; los mapas copiados no lo garantizan
+            this.categories = List.copyOf(categoriesById.values());
+            this.gameTypes = List.copyOf(gameTypesById.values());
+            this.categoriesETag = "\"c-" + digest(this.categories) + "\"";
+            this.gameTypesETag = "\"g-" + digest(this.gameTypes) + "\"";
+            this.version = digest(List.of(this.categoriesETag, this.gameTypesETag)).substring(0, 12);
+        }
+    }
+
+    /**
+     * Resumen SHA-256 (128 bits) del contenido servido: toString de los DTOs incluye todos sus
+     * campos, de modo que cualquier cambio visible en la respuesta cambia el ETag
+     */
+    static String digest(List<?> values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object value : values) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.RefreshToken;
+import com.tournament.domain.entity.User;
+import com.tournament.domain.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Servicio de refresh tokens opacos con rotación.
+ *
+ * Cada uso entrega un token nuevo de la misma familia y marca el anterior como rotado.
+ * Presentar un token ya rotado o revocado indica que fue robado o reutilizado: se revoca
+ * la familia completa y el usuario debe volver a autenticarse.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-token.expiration:P30D}")
+    private Duration refreshTokenExpiration;
+
+    /**
+     * Emite un refresh token para una sesión nueva
+     * @param user Usuario autenticado
+     * @return Valor opaco del token
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString(), LocalDateTime.now());
+    }
+
+    /**
+     * Rota un refresh token: lo marca como usado y emite uno nuevo de la misma familia
+     * @param rawToken Valor opaco presentado por el cliente
+     * @return Usuario y nuevo refresh token
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token inválido");
+        }
+
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException("Refresh token inválido"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.isSpent()) {
+            // La revocación se confirma aunque la petición falle (noRollbackFor)
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Reutilización de refresh token detectada para usuario {}: {} tokens de la familia revocados",
+                    current.getUser().getUsername(), revoked);
+            throw new IllegalArgumentException("Refresh token reutilizado");
+        }
+
+        if (current.isExpired(now)) {
+            throw new IllegalArgumentException("Refresh token expirado");
+        }
+
+        current.markRotated(now);
+        String next = issue(current.getUser(), current.getFamilyId(), now);
+        return new Rotation(current.getUser(), next);
+    }
+
+    /**
+     * Revoca todas las sesiones de un usuario
+     * @param userId ID del usuario
+     */
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        log.info("Refresh tokens revocados para usuario {}: {}", userId, revoked);
+    }
+
+    /**
+     * Elimina los refresh tokens expirados
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}",
+               initialDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Refresh tokens expirados eliminados: {}", purged);
+        }
+    }
+
+    private String issue(User user, String familyId, LocalDateTime now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(refreshTokenExpiration))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Resultado de una rotación
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
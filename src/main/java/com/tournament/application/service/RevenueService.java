@@ -0,0 +1,119 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.RevenueResponse;
+import com.tournament.domain.entity.OrganizerRevenue;
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.entity.TournamentRevenue;
+import com.tournament.domain.repository.TournamentRevenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Servicio de aplicación para los agregados de ingresos y comisiones.
+ *
+ * Cada compra y cada cancelación suma sus importes a la fila del torneo en tournament_revenue en
+ * la misma transacción que el ticket, con un UPDATE incremental; los informes de torneo leen una
+ * única fila por clave primaria. Los ingresos del organizador se suman al consultar a partir de
+ * las filas de sus torneos: una fila por organizador actualizada en cada compra serializaría las
+ * ventas de todos sus torneos. Las filas se actualizan siempre en el mismo orden (torneo y serie
+ * temporal) para que dos transacciones concurrentes no se bloqueen mutuamente.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RevenueService {
+
+    private final TournamentRevenueRepository tournamentRevenueRepository;
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    /**
+     * Crea el agregado vacío de un torneo recién creado
+     * @param tournament Torneo creado
+     */
+    public void openTournament(Tournament tournament) {
+        if (!tournamentRevenueRepository.existsById(tournament.getId())) {
+            tournamentRevenueRepository.save(TournamentRevenue.empty(tournament.getId(), organizerId(tournament)));
+        }
+    }
+
+    /**
+     * Suma la venta de un ticket; exige la transacción de la compra
+     * @param tournament Torneo del ticket
+     * @param totalAmount Importe total cobrado
+     * @param serviceFee Comisión incluida en el importe
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Tournament tournament, BigDecimal totalAmount, BigDecimal serviceFee) {
+        LocalDateTime now = LocalDateTime.now();
+        Long organizerId = organizerId(tournament);
+
+        if (tournamentRevenueRepository.addSale(tournament.getId(), totalAmount, serviceFee, now) == 0) {
+            tournamentRevenueRepository.saveAndFlush(TournamentRevenue.empty(tournament.getId(), organizerId));
+            tournamentRevenueRepository.addSale(tournament.getId(), totalAmount, serviceFee, now);
+        }
+        salesAnalyticsService.recordSale(tournament.getId(), organizerId, now, totalAmount, serviceFee);
+    }
+
+    /**
+     * Suma la devolución de un ticket cancelado; exige la transacción de la cancelación
+     * @param tournament Torneo del ticket
+     * @param totalAmount Importe total devuelto
+     * @param serviceFee Comisión devuelta
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRefund(Tournament tournament, BigDecimal totalAmount, BigDecimal serviceFee) {
+        LocalDateTime now = LocalDateTime.now();
+        Long organizerId = organizerId(tournament);
+
+        if (tournamentRevenueRepository.addRefund(tournament.getId(), totalAmount, serviceFee, now) == 0) {
+            log.warn("Devolución sin agregado de ingresos para el torneo {}", tournament.getId());
+        }
+        salesAnalyticsService.recordRefund(tournament.getId(), organizerId, now, totalAmount);
+    }
+
+    /**
+     * Obtiene los ingresos acumulados de un organizador, sumando los de sus torneos
+     * @param organizerId ID del organizador
+     * @return Ingresos del organizador (a cero si no tiene torneos)
+     */
+    @Transactional(readOnly = true)
+    public RevenueResponse getOrganizerRevenue(Long organizerId) {
+        return RevenueResponse.of(tournamentRevenueRepository.sumByOrganizerId(organizerId)
+                .orElseGet(() -> OrganizerRevenue.empty(organizerId)));
+    }
+
+    /**
+     * Obtiene los ingresos de cada torneo de un organizador
+     * @param organizerId ID del organizador
+     * @return Ingresos por torneo
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueResponse> getTournamentRevenueByOrganizer(Long organizerId) {
+        return tournamentRevenueRepository.findByOrganizerIdOrderByTournamentId(organizerId).stream()
+                .map(RevenueResponse::of)
+                .toList();
+    }
+
+    /**
+     * Obtiene los ingresos de un torneo
+     * @param tournamentId ID del torneo
+     * @return Ingresos del torneo
+     */
+    @Transactional(readOnly = true)
+    public Optional<RevenueResponse> getTournamentRevenue(Long tournamentId) {
+        return tournamentRevenueRepository.findById(tournamentId).map(RevenueResponse::of);
+    }
+
+    private static Long organizerId(Tournament tournament) {
+        return tournament.getOrganizer() != null ? tournament.getOrganizer().getId() : null;
+    }
+}
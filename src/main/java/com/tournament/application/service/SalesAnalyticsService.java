@@ -0,0 +1,143 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.SalesPoint;
+import com.tournament.domain.entity.SalesBucket;
+import com.tournament.domain.repository.SalesBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio de aplicación para las series temporales de ventas de tickets.
+ *
+ * Las ventas y devoluciones se suman a la fila de su minuto en ticket_sales_buckets dentro de la
+ * transacción del ticket; RevenueService lo invoca con la fila del torneo en tournament_revenue
+ * ya bloqueada, por lo que dos compras del mismo torneo no pueden crear el mismo intervalo a la
+ * vez. SalesBucketDownsamplingJob reagrupa después los intervalos antiguos en horas y días.
+ *
+ * Las consultas agrupan las filas, sea cual sea su resolución, por la granularidad pedida: pedir
+ * minutos de un periodo ya reagrupado devuelve un punto por hora o por día.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SalesAnalyticsService {
+
+    static final int MAX_POINTS = 10_000;
+
+    private static final String SERIES_SQL =
+            "SELECT date_trunc('%s', bucket_start) AS bucket, SUM(tickets_sold), SUM(tickets_refunded), " +
+            "SUM(gross_amount), SUM(fee_amount), SUM(refunded_amount) FROM ticket_sales_buckets " +
+            "WHERE %s = ? AND bucket_start >= ? AND bucket_start < ? GROUP BY 1 ORDER BY 1";
+
+    private static final RowMapper<SalesPoint> POINT_MAPPER = (rs, rowNum) -> SalesPoint.builder()
+            .bucketStart(rs.getTimestamp(1).toLocalDateTime())
+            .ticketsSold(rs.getLong(2))
+            .ticketsRefunded(rs.getLong(3))
+            .grossAmount(rs.getBigDecimal(4))
+            .feeAmount(rs.getBigDecimal(5))
+            .refundedAmount(rs.getBigDecimal(6))
+            .build();
+
+    private final SalesBucketRepository salesBucketRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Suma una venta a su intervalo de un minuto; exige la transacción de la compra
+     * @param tournamentId ID del torneo
+     * @param organizerId ID del organizador
+     * @param at Fecha de la venta
+     * @param totalAmount Importe total cobrado
+     * @param serviceFee Comisión incluida en el importe
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Long tournamentId, Long organizerId, LocalDateTime at, BigDecimal totalAmount, BigDecimal serviceFee) {
+        LocalDateTime bucketStart = SalesBucket.Resolution.MINUTE.truncate(at);
+        if (salesBucketRepository.addSale(tournamentId, SalesBucket.Resolution.MINUTE, bucketStart, totalAmount, serviceFee) == 0) {
+            createBucket(tournamentId, organizerId, bucketStart);
+            salesBucketRepository.addSale(tournamentId, SalesBucket.Resolution.MINUTE, bucketStart, totalAmount, serviceFee);
+        }
+    }
+
+    /**
+     * Suma una devolución a su intervalo de un minuto; exige la transacción de la cancelación
+     * @param tournamentId ID del torneo
+     * @param organizerId ID del organizador
+     * @param at Fecha de la devolución
+     * @param totalAmount Importe total devuelto
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRefund(Long tournamentId, Long organizerId, LocalDateTime at, BigDecimal totalAmount) {
+        LocalDateTime bucketStart = SalesBucket.Resolution.MINUTE.truncate(at);
+        if (salesBucketRepository.addRefund(tournamentId, SalesBucket.Resolution.MINUTE, bucketStart, totalAmount) == 0) {
+            createBucket(tournamentId, organizerId, bucketStart);
+            salesBucketRepository.addRefund(tournamentId, SalesBucket.Resolution.MINUTE, bucketStart, totalAmount);
+        }
+    }
+
+    /**
+     * Obtiene la serie de ventas de un torneo
+     * @param tournamentId ID del torneo
+     * @param granularity Granularidad de los puntos
+     * @param from Inicio del periodo (incluido)
+     * @param to Fin del periodo (excluido)
+     * @return Puntos con ventas, ordenados por fecha
+     */
+    @Transactional(readOnly = true)
+    public List<SalesPoint> getTournamentSales(Long tournamentId, SalesBucket.Resolution granularity,
+                                               LocalDateTime from, LocalDateTime to) {
+        return series("tournament_id", tournamentId, granularity, from, to);
+    }
+
+    /**
+     * Obtiene la serie de ventas de todos los torneos de un organizador
+     * @param organizerId ID del organizador
+     * @param granularity Granularidad de los puntos
+     * @param from Inicio del periodo (incluido)
+     * @param to Fin del periodo (excluido)
+     * @return Puntos con ventas, ordenados por fecha
+     */
+    @Transactional(readOnly = true)
+    public List<SalesPoint> getOrganizerSales(Long organizerId, SalesBucket.Resolution granularity,
+                                              LocalDateTime from, LocalDateTime to) {
+        return series("organizer_id", organizerId, granularity, from, to);
+    }
+
+    private List<SalesPoint> series(String column, Long id, SalesBucket.Resolution granularity,
+                                    LocalDateTime from, LocalDateTime to) {
+        validateRange(granularity, from, to);
+        LocalDateTime start = granularity.truncate(from);
+        return jdbcTemplate.query(String.format(SERIES_SQL, granularity.name().toLowerCase(), column), POINT_MAPPER,
+                id, Timestamp.valueOf(start), Timestamp.valueOf(to));
+    }
+
+    private void createBucket(Long tournamentId, Long organizerId, LocalDateTime bucketStart) {
+        salesBucketRepository.saveAndFlush(SalesBucket.empty(
+                new SalesBucket.Key(tournamentId, SalesBucket.Resolution.MINUTE, bucketStart), organizerId));
+    }
+
+    /**
+     * Rechaza periodos vacíos o con más de MAX_POINTS puntos a la granularidad pedida
+     */
+    static void validateRange(SalesBucket.Resolution granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null) {
+            throw new IllegalArgumentException("Granularidad y periodo obligatorios");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("El inicio del periodo debe ser anterior al fin");
+        }
+        if (granularity.getUnit().between(granularity.truncate(from), to) >= MAX_POINTS) {
+            throw new IllegalArgumentException("Periodo demasiado largo para la granularidad " + granularity);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.SalesBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Reagrupado de las series de ventas (V12).
+ *
+ * Los intervalos de un minuto anteriores a minute-retention se funden en intervalos de una hora, y
+ * los de una hora anteriores a hour-retention en intervalos de un día. Cada paso es una única
+ * sentencia que borra las filas finas y suma sus totales a las gruesas, así que las consultas
+ * nunca ven una venta duplicada ni perdida. Los cortes se alinean al inicio de la hora o del día
+ * para que ningún intervalo grueso quede repartido. Un advisory lock de transacción evita que
+ * varias réplicas lo ejecuten a la vez.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.analytics.downsampling.enabled", havingValue = "true", matchIfMissing = true)
+public class SalesBucketDownsamplingJob {
+
+    private static final String DOWNSAMPLE_SQL =
+            "WITH moved AS (DELETE FROM ticket_sales_buckets WHERE resolution = ? AND bucket_start < ? RETURNING *) " +
+            "INSERT INTO ticket_sales_buckets (tournament_id, resolution, bucket_start, organizer_id, tickets_sold, " +
+            "tickets_refunded, gross_amount, fee_amount, refunded_amount) " +
+            "SELECT tournament_id, ?, date_trunc('%1$s', bucket_start), MAX(organizer_id), SUM(tickets_sold), " +
+            "SUM(tickets_refunded), SUM(gross_amount), SUM(fee_amount), SUM(refunded_amount) " +
+            "FROM moved GROUP BY tournament_id, date_trunc('%1$s', bucket_start) " +
+            "ON CONFLICT (tournament_id, resolution, bucket_start) DO UPDATE SET " +
+            "tickets_sold = ticket_sales_buckets.tickets_sold + EXCLUDED.tickets_sold, " +
+            "tickets_refunded = ticket_sales_buckets.tickets_refunded + EXCLUDED.tickets_refunded, " +
+            "gross_amount = ticket_sales_buckets.gross_amount + EXCLUDED.gross_amount, " +
+            "fee_amount = ticket_sales_buckets.fee_amount + EXCLUDED.fee_amount, " +
+            "refunded_amount = ticket_sales_buckets.refunded_amount + EXCLUDED.refunded_amount";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${tournament.analytics.downsampling.minute-retention:P2D}")
+    private Duration minuteRetention;
+
+    @Value("${tournament.analytics.downsampling.hour-retention:P90D}")
+    private Duration hourRetention;
+
+    /**
+     * Funde los intervalos antiguos en la resolución siguiente
+     */
+    @Scheduled(cron = "${tournament.analytics.downsampling.cron:0 5 * * * *}")
+    public void downsample() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext('sales-bucket-downsampling'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Reagrupado de ventas en curso en otra instancia");
+                    return;
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                merge(SalesBucket.Resolution.MINUTE, SalesBucket.Resolution.HOUR, cutoff(SalesBucket.Resolution.HOUR, now, minuteRetention));
+                merge(SalesBucket.Resolution.HOUR, SalesBucket.Resolution.DAY, cutoff(SalesBucket.Resolution.DAY, now, hourRetention));
+            });
+        } catch (RuntimeException e) {
+            log.error("Error en el reagrupado de ventas: {}", e.getMessage());
+        }
+    }
+
+    private void merge(SalesBucket.Resolution source, SalesBucket.Resolution target, LocalDateTime cutoff) {
+        int buckets = jdbcTemplate.update(String.format(DOWNSAMPLE_SQL, target.name().toLowerCase()),
+                source.name(), Timestamp.valueOf(cutoff), target.name());
+        if (buckets > 0) {
+            log.info("Ventas {} anteriores a {} reagrupadas en {} intervalos {}", source, cutoff, buckets, target);
+        }
+    }
+
+    /**
+     * Fin del periodo a reagrupar: now - retention, alineado al inicio del intervalo destino
+     */
+    static LocalDateTime cutoff(SalesBucket.Resolution target, LocalDateTime now, Duration retention) {
+        return target.truncate(now.minus(retention));
+    }
+}
@@ -0,0 +1,242 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.TicketExpiryJob;
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TicketExpiryJobRepository;
+import com.tournament.domain.repository.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expiración masiva de los tickets activos de torneos finalizados o cancelados.
+ *
+ * El trabajo se registra en ticket_expiry_jobs dentro de la misma transacción que el cambio de
+ * estado y se procesa en segundo plano por lotes: cada lote bloquea la fila del trabajo, expira
+ * hasta chunk-size tickets con un único UPDATE ... WHERE id IN y avanza el cursor en la misma
+ * transacción. Entre lotes se hace una pausa para no retener bloqueos ni saturar la base de datos.
+ * Un barrido periódico reanuda los trabajos pendientes tras un reinicio.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.ticket-expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class TicketExpiryService {
+
+    private final TicketExpiryJobRepository jobRepository;
+    private final TicketRepository ticketRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tournament.ticket-expiry.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${tournament.ticket-expiry.pause-ms:50}")
+    private long pauseMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pendingJobs = new AtomicLong();
+
+    private Counter expiredCounter;
+    private Timer chunkTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        expiredCounter = Counter.builder("tickets.expired")
+                .description("Tickets expirados por finalización o cancelación del torneo")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("ticket.expiry.chunk")
+                .description("Duración de cada lote de expiración de tickets")
+                .register(meterRegistry);
+        Gauge.builder("ticket.expiry.jobs.pending", pendingJobs, AtomicLong::get)
+                .description("Trabajos de expiración pendientes en el último barrido")
+                .register(meterRegistry);
+        Gauge.builder("ticket.expiry.jobs.running", running, Set::size)
+                .description("Trabajos de expiración en ejecución en esta instancia")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Registra el trabajo en la misma transacción que el cambio de estado,
+     * de modo que no se pierde aunque la aplicación se detenga antes de procesarlo
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void registerJob(TournamentStatusChangedEvent event) {
+        if (!endsTicketValidity(event.getNewStatus())) return;
+
+        Optional<TicketExpiryJob> existing = jobRepository.findById(event.getTournamentId());
+        if (existing.isEmpty()) {
+            jobRepository.save(TicketExpiryJob.pending(event.getTournamentId()));
+            log.info("Trabajo de expiración de tickets registrado para el torneo {}", event.getTournamentId());
+        } else if (!existing.get().isPending()) {
+            // Un torneo que vuelve a finalizar o se cancela después puede tener tickets activos nuevos
+            existing.get().restart();
+            jobRepository.save(existing.get());
+            log.info("Trabajo de expiración de tickets reabierto para el torneo {}", event.getTournamentId());
+        }
+    }
+
+    /**
+     * Lanza el trabajo una vez confirmado el cambio de estado
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TournamentStatusChangedEvent event) {
+        if (endsTicketValidity(event.getNewStatus())) {
+            submit(event.getTournamentId());
+        }
+    }
+
+    /**
+     * Reanuda al arrancar los trabajos interrumpidos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        resumePending();
+    }
+
+    /**
+     * Reanuda los trabajos pendientes que no se están ejecutando en esta instancia
+     */
+    @Scheduled(fixedDelayString = "${tournament.ticket-expiry.resume-interval-ms:300000}",
+               initialDelayString = "${tournament.ticket-expiry.resume-interval-ms:300000}")
+    public void resumePending() {
+        try {
+            List<Long> pending = jobRepository.findTournamentIdsByStatus(TicketExpiryJob.JobStatus.PENDING);
+            pendingJobs.set(pending.size());
+            pending.forEach(this::submit);
+        } catch (RuntimeException e) {
+            log.warn("Error reanudando trabajos de expiración de tickets: {}", e.getMessage());
+        }
+    }
+
+    private void submit(Long tournamentId) {
+        if (running.contains(tournamentId)) return;
+        try {
+            executor.execute(() -> run(tournamentId));
+        } catch (RejectedExecutionException e) {
+            log.debug("Ejecutor de expiración detenido; el torneo {} se reanudará en el próximo arranque", tournamentId);
+        }
+    }
+
+    /**
+     * Procesa por lotes el trabajo de un torneo hasta completarlo
+     * @param tournamentId ID del torneo
+     */
+    void run(Long tournamentId) {
+        if (!running.add(tournamentId)) return;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ChunkResult result = chunkTimer.record(() -> processChunk(tournamentId));
+
+                if (result.expired() > 0) {
+                    expiredCounter.increment(result.expired());
+                }
+                if (result.state() == ChunkState.COMPLETED) {
+                    log.info("Expiración de tickets completada para el torneo {}: {} tickets", tournamentId, result.total());
+                    break;
+                }
+                if (result.state() == ChunkState.SKIPPED) {
+                    log.debug("Trabajo de expiración del torneo {} en curso en otra instancia", tournamentId);
+                    break;
+                }
+
+                log.debug("Expiración de tickets del torneo {}: {} en el lote, {} en total",
+                        tournamentId, result.expired(), result.total());
+                TimeUnit.MILLISECONDS.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Error expirando tickets del torneo {}; se reintentará: {}", tournamentId, e.getMessage());
+        } finally {
+            running.remove(tournamentId);
+        }
+    }
+
+    /**
+     * Procesa un lote en su propia transacción, bloqueando la fila del trabajo
+     * para que una sola instancia avance el cursor
+     * @param tournamentId ID del torneo
+     * @return Resultado del lote
+     */
+    ChunkResult processChunk(Long tournamentId) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<TicketExpiryJob> locked = jobRepository.lockByTournamentId(tournamentId);
+            if (locked.isEmpty()) {
+                return new ChunkResult(ChunkState.SKIPPED, 0, 0);
+            }
+
+            TicketExpiryJob job = locked.get();
+            if (!job.isPending()) {
+                return new ChunkResult(ChunkState.COMPLETED, 0, job.getExpiredCount());
+            }
+
+            List<Long> ids = ticketRepository.findActiveIdsAfter(tournamentId, job.getLastTicketId(),
+                    PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                job.complete();
+                return new ChunkResult(ChunkState.COMPLETED, 0, job.getExpiredCount());
+            }
+
+            int expired = ticketRepository.expireActiveByTournamentIdAndIdIn(tournamentId, ids);
+            job.advance(ids.get(ids.size() - 1), expired);
+            return new ChunkResult(ChunkState.IN_PROGRESS, expired, job.getExpiredCount());
+        });
+    }
+
+    private static boolean endsTicketValidity(Tournament.TournamentStatus status) {
+        return status == Tournament.TournamentStatus.COMPLETED || status == Tournament.TournamentStatus.CANCELLED;
+    }
+
+    enum ChunkState {
+        IN_PROGRESS,
+        COMPLETED,
+        SKIPPED
+    }
+
+    /**
+     * Resultado de un lote de expiración
+     */
+    record ChunkResult(ChunkState state, int expired, long total) {
+    }
+}
@@ -5,14 +5,18 @@ import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.tournament.application.dto.ResourceVersion;
 import com.tournament.domain.entity.Ticket;
 import com.tournament.domain.entity.Tournament;
 import com.tournament.domain.entity.User;
+import com.tournament.domain.event.AuditEvent;
 import com.tournament.domain.repository.TicketRepository;
 import com.tournament.domain.repository.TournamentRepository;
 import com.tournament.domain.repository.UserRepository;
+import com.tournament.infrastructure.monitoring.RequestTiming;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +24,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,9 +40,18 @@ import java.util.UUID;
 @Transactional
 public class TicketService {
 
+    private static final String REGISTRATION_CLOSED = "El torneo no está abierto para registro";
+    private static final String TOURNAMENT_FULL = "El torneo está completo";
+    private static final String DUPLICATE_TICKET = "El usuario ya tiene un ticket para este torneo";
+
     private final TicketRepository ticketRepository;
     private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final RevenueService revenueService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final BusinessMetrics businessMetrics;
 
     /**
      * Crea un ticket para un torneo
@@ -46,7 +61,24 @@ public class TicketService {
      */
     public Ticket createTicket(Long userId, Long tournamentId) {
         log.info("Creando ticket para usuario {} en torneo {}", userId, tournamentId);
+        long started = System.nanoTime();
+
+        try {
+            Ticket savedTicket = purchase(userId, tournamentId);
+            // El resultado se conoce al confirmar: un fallo en el flush o el commit cuenta como error
+            businessMetrics.recordPurchaseOnCompletion(started);
+            log.info("Ticket creado exitosamente: {}", savedTicket.getId());
+            return savedTicket;
+        } catch (RuntimeException e) {
+            businessMetrics.recordPurchase(purchaseOutcome(e), System.nanoTime() - started);
+            throw e;
+        }
+    }
 
+    /**
+     * Valida la compra y crea el ticket con sus efectos (participantes, ingresos, auditoría y outbox)
+     */
+    private Ticket purchase(Long userId, Long tournamentId) {
         // Validar usuario
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
@@ -55,30 +87,39 @@ public class TicketService {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new IllegalArgumentException("Torneo no encontrado"));
 
-        // Validar que el torneo esté abierto para registro
-        if (!tournament.isRegistrationOpen()) {
-            throw new IllegalStateException("El torneo no está abierto para registro");
+        // Validar que no esté completo (antes que el registro: isRegistrationOpen también falla si está completo)
+        if (tournament.isFull()) {
+            throw new IllegalStateException(TOURNAMENT_FULL);
         }
 
-        // Validar que no esté completo
-        if (tournament.isFull()) {
-            throw new IllegalStateException("El torneo está completo");
+        // Validar que el torneo esté abierto para registro
+        if (!tournament.isRegistrationOpen()) {
+            throw new IllegalStateException(REGISTRATION_CLOSED);
         }
 
         // Validar que el usuario no tenga ya un ticket para este torneo
         List<Ticket> existingTickets = ticketRepository.findByUserIdAndTournamentId(userId, tournamentId);
         if (!existingTickets.isEmpty()) {
-            throw new IllegalStateException("El usuario ya tiene un ticket para este torneo");
+            throw new IllegalStateException(DUPLICATE_TICKET);
         }
 
         // Generar códigos únicos
-        String qrCode = generateQRCode();
-        String uniqueCode = generateUniqueCode();
+        String qrCode;
+        String uniqueCode;
+        try (RequestTiming.Span span = RequestTiming.span("codes")) {
+            qrCode = generateQRCode();
+            uniqueCode = generateUniqueCode();
+        }
 
         // Calcular precios
-        BigDecimal price = tournament.getIsFree() ? BigDecimal.ZERO : tournament.getPrice();
-        BigDecimal serviceFee = tournament.calculateCommission(price);
-        BigDecimal totalAmount = price.add(serviceFee);
+        BigDecimal price;
+        BigDecimal serviceFee;
+        BigDecimal totalAmount;
+        try (RequestTiming.Span span = RequestTiming.span("commission")) {
+            price = tournament.getIsFree() ? BigDecimal.ZERO : tournament.getPrice();
+            serviceFee = tournament.calculateCommission(price);
+            totalAmount = price.add(serviceFee);
+        }
 
         // Crear ticket
         Ticket ticket = Ticket.builder()
@@ -98,8 +139,16 @@ public class TicketService {
         // Incrementar contador de participantes
         tournament.incrementParticipants();
         tournamentRepository.save(tournament);
-
-        log.info("Ticket creado exitosamente: {}", savedTicket.getId());
+        revenueService.recordSale(tournament, totalAmount, serviceFee);
+
+        eventPublisher.publishEvent(AuditEvent.of(userId, "TICKET_CREATED", "TICKET", savedTicket.getId(),
+                Map.of("tournamentId", tournamentId, "totalAmount", totalAmount)));
+        outboxService.enqueue("TICKET", savedTicket.getId(), OutboxService.TICKET_PURCHASED, Map.of(
+                "ticketId", savedTicket.getId(),
+                "tournamentId", tournamentId,
+                "userId", userId,
+                "totalAmount", totalAmount,
+                "purchasedAt", String.valueOf(savedTicket.getPurchaseDate())));
         return savedTicket;
     }
 
@@ -162,31 +211,62 @@ public class TicketService {
         return ticketRepository.findAllWithUserAndTournament();
     }
 
+    /**
+     * Obtiene la versión de un ticket sin cargar la entidad
+     * @param id ID del ticket
+     * @return Versión del ticket, vacía si no existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTicketVersion(Long id) {
+        // Todos los estados distintos de ACTIVE son finales, así que el estado basta como versión del
+        // ticket; el usuario, el torneo y su organizador se serializan con él y aportan su fecha.
+        // Sin Last-Modified: una cancelación no deja marca de tiempo, solo el ETag es fiable
+        return ticketRepository.findVersionById(id)
+                .map(version -> ResourceVersion.of("k" + version.getId() + "-" + version.getStatus() + "-"
+                        + toVersionToken(ResourceVersion.latest(version.getTournamentModified(),
+                                version.getUserModified(), version.getOrganizerModified()))
+                        + "-" + referenceDataRegistry.getVersion(), null));
+    }
+
+    /**
+     * Obtiene la versión agregada de todos los tickets
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllTicketsVersion() {
+        return toAggregateVersion("ka", ticketRepository.findAggregateVersion());
+    }
+
+    /**
+     * Obtiene la versión agregada de los tickets de un usuario
+     * @param userId ID del usuario
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getTicketsByUserVersion(Long userId) {
+        return toAggregateVersion("ku" + userId, ticketRepository.findAggregateVersionByUserId(userId));
+    }
+
+    /**
+     * Obtiene la versión agregada de los tickets de un torneo
+     * @param tournamentId ID del torneo
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getTicketsByTournamentVersion(Long tournamentId) {
+        return toAggregateVersion("kt" + tournamentId, ticketRepository.findAggregateVersionByTournamentId(tournamentId));
+    }
+
     /**
      * Valida y usa un ticket
      * @param qrCode Código QR del ticket
      * @return true si el ticket es válido y se usó exitosamente
      */
     public boolean validateAndUseTicket(String qrCode) {
-        Optional<Ticket> ticketOpt = ticketRepository.findByQrCode(qrCode);
-        
-        if (ticketOpt.isEmpty()) {
-            log.warn("Ticket no encontrado con QR: {}", qrCode);
-            return false;
-        }
-
-        Ticket ticket = ticketOpt.get();
-        
-        if (!ticket.isValid()) {
-            log.warn("Ticket no válido: {}", ticket.getId());
-            return false;
-        }
-
-        ticket.markAsUsed();
-        ticketRepository.save(ticket);
-        
-        log.info("Ticket usado exitosamente: {}", ticket.getId());
-        return true;
+        long started = System.nanoTime();
+        BusinessMetrics.ValidationOutcome outcome = validateAndUse(qrCode);
+        businessMetrics.recordValidation(outcome, System.nanoTime() - started);
+        return outcome == BusinessMetrics.ValidationOutcome.VALID;
     }
 
     /**
@@ -205,23 +285,69 @@ public class TicketService {
         ticket.cancel();
         ticketRepository.save(ticket);
 
-        // Decrementar contador de participantes si el ticket estaba activo antes de cancelar
+        // Decrementar contador de participantes y devolver el importe si el ticket estaba activo antes de cancelar
         if (wasActive) {
             Tournament tournament = ticket.getTournament();
             tournament.decrementParticipants();
             tournamentRepository.save(tournament);
+            revenueService.recordRefund(tournament, ticket.getTotalAmount(), ticket.getServiceFee());
         }
 
+        eventPublisher.publishEvent(AuditEvent.of(null, "TICKET_CANCELLED", "TICKET", ticketId));
         log.info("Ticket cancelado: {}", ticketId);
     }
 
+    /**
+     * Resultado de una compra rechazada según la excepción lanzada por createTicket
+     */
+    private static BusinessMetrics.PurchaseOutcome purchaseOutcome(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) return BusinessMetrics.PurchaseOutcome.NOT_FOUND;
+        if (e instanceof IllegalStateException) {
+            if (REGISTRATION_CLOSED.equals(e.getMessage())) return BusinessMetrics.PurchaseOutcome.CLOSED;
+            if (TOURNAMENT_FULL.equals(e.getMessage())) return BusinessMetrics.PurchaseOutcome.FULL;
+            if (DUPLICATE_TICKET.equals(e.getMessage())) return BusinessMetrics.PurchaseOutcome.DUPLICATE;
+        }
+        return BusinessMetrics.PurchaseOutcome.ERROR;
+    }
+
+    /**
+     * Valida y usa un ticket, indicando el motivo si no es válido
+     */
+    private BusinessMetrics.ValidationOutcome validateAndUse(String qrCode) {
+        Optional<Ticket> ticketOpt = ticketRepository.findByQrCode(qrCode);
+        
+        if (ticketOpt.isEmpty()) {
+            log.warn("Ticket no encontrado con QR: {}", qrCode);
+            return BusinessMetrics.ValidationOutcome.NOT_FOUND;
+        }
+
+        Ticket ticket = ticketOpt.get();
+        
+        if (!ticket.isValid()) {
+            log.warn("Ticket no válido: {}", ticket.getId());
+            if (ticket.isUsed()) return BusinessMetrics.ValidationOutcome.USED;
+            return ticket.isActive() ? BusinessMetrics.ValidationOutcome.NOT_IN_PROGRESS : BusinessMetrics.ValidationOutcome.INACTIVE;
+        }
+
+        ticket.markAsUsed();
+        ticketRepository.save(ticket);
+        eventPublisher.publishEvent(AuditEvent.of(null, "TICKET_USED", "TICKET", ticket.getId()));
+        outboxService.enqueue("TICKET", ticket.getId(), OutboxService.TICKET_USED, Map.of(
+                "ticketId", ticket.getId(),
+                "tournamentId", ticket.getTournament().getId(),
+                "usedAt", String.valueOf(ticket.getUsedAt())));
+        
+        log.info("Ticket usado exitosamente: {}", ticket.getId());
+        return BusinessMetrics.ValidationOutcome.VALID;
+    }
+
     /**
      * Genera una imagen QR en Base64
      * @param qrCode Código QR
      * @return Imagen QR en Base64
      */
     public String generateQRCodeImage(String qrCode) {
-        try {
+        try (RequestTiming.Span span = RequestTiming.span("qr")) {
             QRCodeWriter qrCodeWriter = new QRCodeWriter();
             BitMatrix bitMatrix = qrCodeWriter.encode(qrCode, BarcodeFormat.QR_CODE, 200, 200);
             
@@ -236,28 +362,42 @@ public class TicketService {
     }
 
     /**
-     * Genera un código QR único
+     * Construye la versión de una colección de tickets a partir de sus conteos
+     */
+    private ResourceVersion toAggregateVersion(String prefix, TicketRepository.AggregateVersion aggregate) {
+        long count = aggregate != null && aggregate.getCount() != null ? aggregate.getCount() : 0;
+        long maxId = aggregate != null && aggregate.getMaxId() != null ? aggregate.getMaxId() : 0;
+        long active = aggregate != null && aggregate.getActiveCount() != null ? aggregate.getActiveCount() : 0;
+        LocalDateTime associations = aggregate != null ? ResourceVersion.latest(aggregate.getTournamentModified(),
+                aggregate.getUserModified(), aggregate.getOrganizerModified()) : null;
+        return ResourceVersion.of(prefix + "-" + count + "-" + maxId + "-" + active + "-"
+                + toVersionToken(associations) + "-" + referenceDataRegistry.getVersion(), null);
+    }
+
+    /**
+     * Representa una fecha como token compacto para el ETag
+     */
+    private String toVersionToken(LocalDateTime dateTime) {
+        if (dateTime == null) return "0";
+        return Long.toString(dateTime.toEpochSecond(ZoneOffset.UTC), 36) + "." + dateTime.getNano();
+    }
+
+    /**
+     * Genera un código QR único.
+     * Usa el UUID completo: con la tabla particionada la base de datos solo exige unicidad por
+     * torneo, y comprobar la existencia recorrería las 16 particiones sin evitar carreras. Entre
+     * torneos nada impide un duplicado salvo la aleatoriedad del UUID.
      * @return Código QR único
      */
     private String generateQRCode() {
-        String qrCode;
-        do {
-            qrCode = "TICKET-" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
-        } while (ticketRepository.existsByQrCode(qrCode));
-        
-        return qrCode;
+        return "TICKET-" + UUID.randomUUID().toString().replace("-", "").toUpperCase();
     }
 
     /**
-     * Genera un código único
+     * Genera un código único con el UUID completo, como generateQRCode
      * @return Código único
      */
     private String generateUniqueCode() {
-        String uniqueCode;
-        do {
-            uniqueCode = "TM-" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (ticketRepository.existsByUniqueCode(uniqueCode));
-        
-        return uniqueCode;
+        return "TM-" + UUID.randomUUID().toString().replace("-", "").toUpperCase();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,288 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Motor del ciclo de vida de los torneos.
+ *
+ * Mantiene en memoria una cola de plazos (cierre de registro, inicio y fin) y programa un único
+ * despertar para el plazo más próximo, en lugar de sondear la base de datos con frecuencia.
+ * Al vencer, aplica las transiciones con UPDATE ... WHERE id IN sobre las filas que logra
+ * bloquear con FOR UPDATE SKIP LOCKED, de modo que con varias réplicas cada transición la
+ * aplica una sola instancia. Una resincronización periódica de baja frecuencia recoge los
+ * cambios hechos por otras réplicas y los plazos que entran en el horizonte.
+ *
+ * Si una fila vencida está bloqueada en ese momento (por ejemplo, por una compra que actualiza
+ * current_participants) o la transacción falla, el torneo vuelve a la cola con un reintento
+ * corto mientras su plazo siga pendiente.
+ *
+ * Con registration-close-lead = PT0S (valor por defecto) no hay cierre previo de registro: los
+ * torneos pasan de REGISTRATION_OPEN a IN_PROGRESS al comenzar y REGISTRATION_CLOSED solo se
+ * alcanza por cambio manual de estado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class TournamentLifecycleScheduler {
+
+    private final TournamentRepository tournamentRepository;
+    private final TaskScheduler taskScheduler;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tournament.lifecycle.registration-close-lead:PT0S}")
+    private Duration registrationCloseLead;
+
+    @Value("${tournament.lifecycle.horizon:PT2H}")
+    private Duration horizon;
+
+    @Value("${tournament.lifecycle.retry-delay:PT5S}")
+    private Duration retryDelay;
+
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime nextWakeUpAt;
+
+    /**
+     * Carga inicial de plazos al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        resync();
+    }
+
+    /**
+     * Reconstruye la cola a partir de la base de datos. Los plazos ya vencidos
+     * (por ejemplo, mientras la aplicación estaba detenida) se procesan de inmediato.
+     */
+    @Scheduled(fixedDelayString = "${tournament.lifecycle.resync-interval-ms:600000}",
+               initialDelayString = "${tournament.lifecycle.resync-interval-ms:600000}")
+    public void resync() {
+        try {
+            LocalDateTime until = LocalDateTime.now().plus(horizon).plus(registrationCloseLead);
+            List<TournamentRepository.LifecycleDeadline> pending = tournamentRepository.findLifecycleDeadlines(until);
+
+            synchronized (this) {
+                deadlines.clear();
+                pending.forEach(this::enqueue);
+                reschedule();
+            }
+            log.debug("Plazos de ciclo de vida resincronizados: {} torneos", pending.size());
+        } catch (RuntimeException e) {
+            log.warn("Error resincronizando plazos de ciclo de vida: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra los plazos del nuevo estado tras un cambio confirmado
+     * @param event Evento de cambio de estado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TournamentStatusChangedEvent event) {
+        synchronized (this) {
+            enqueue(event.getTournamentId(), event.getNewStatus(), event.getStartDate(), event.getEndDate());
+            reschedule();
+        }
+    }
+
+    /**
+     * Procesa los plazos vencidos y programa el siguiente despertar
+     */
+    void processDueDeadlines() {
+        Set<Long> dueIds = new HashSet<>();
+        synchronized (this) {
+            wakeUp = null;
+            nextWakeUpAt = null;
+            LocalDateTime now = LocalDateTime.now();
+            while (!deadlines.isEmpty() && !deadlines.peek().at().isAfter(now)) {
+                dueIds.add(deadlines.poll().tournamentId());
+            }
+        }
+
+        Set<Long> retryIds = new HashSet<>();
+        if (!dueIds.isEmpty()) {
+            try {
+                Set<Long> pending = new HashSet<>(dueIds);
+                pending.removeAll(applyTransitions(dueIds));
+                if (!pending.isEmpty()) {
+                    retryIds.addAll(stillDue(pending));
+                }
+            } catch (RuntimeException e) {
+                log.error("Error aplicando transiciones de ciclo de vida: {}", e.getMessage());
+                retryIds.addAll(dueIds);
+            }
+        }
+
+        synchronized (this) {
+            if (!retryIds.isEmpty()) {
+                LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+                retryIds.forEach(id -> deadlines.add(new Deadline(retryAt, id)));
+                log.debug("Torneos {} bloqueados o con error, se reintentan en {}", retryIds, retryDelay);
+            }
+            reschedule();
+        }
+    }
+
+    /**
+     * Filtra los torneos cuyo plazo sigue pendiente: los que no se han podido bloquear. Los que ya
+     * ha transicionado otra réplica o han cambiado de estado se descartan
+     * @param ids IDs no transicionados
+     * @return IDs que deben reintentarse
+     */
+    private Set<Long> stillDue(Set<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> due = new HashSet<>();
+        for (TournamentRepository.LifecycleDeadline deadline : tournamentRepository.findLifecycleDeadlinesByIdIn(ids)) {
+            if (isDue(deadline, now)) {
+                due.add(deadline.getId());
+            }
+        }
+        return due;
+    }
+
+    private boolean isDue(TournamentRepository.LifecycleDeadline deadline, LocalDateTime now) {
+        if (deadline.getStatus() == null) return false;
+        return switch (deadline.getStatus()) {
+            case REGISTRATION_OPEN -> deadline.getStartDate() != null
+                    && !deadline.getStartDate().minus(registrationCloseLead).isAfter(now);
+            case REGISTRATION_CLOSED -> deadline.getStartDate() != null && !deadline.getStartDate().isAfter(now);
+            case IN_PROGRESS -> deadline.getEndDate() != null && !deadline.getEndDate().isAfter(now);
+            default -> false;
+        };
+    }
+
+    /**
+     * Aplica en una transacción todas las transiciones pendientes de los torneos indicados.
+     * El orden cierre → inicio → fin permite recuperar varios plazos perdidos en una sola pasada.
+     * @param ids IDs de los torneos con plazos vencidos
+     * @return IDs de los torneos que han cambiado de estado
+     */
+    Set<Long> applyTransitions(Set<Long> ids) {
+        List<TournamentStatusChangedEvent> events = new TransactionTemplate(transactionManager).execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TournamentStatusChangedEvent> changes = new ArrayList<>();
+
+            if (!registrationCloseLead.isZero()) {
+                transition(ids, Tournament.TournamentStatus.REGISTRATION_OPEN, Tournament.TournamentStatus.REGISTRATION_CLOSED,
+                        tournamentRepository.lockIdsStartingBy(ids, Tournament.TournamentStatus.REGISTRATION_OPEN.name(),
+                                now.plus(registrationCloseLead)), now, changes);
+            }
+            transition(ids, Tournament.TournamentStatus.REGISTRATION_OPEN, Tournament.TournamentStatus.IN_PROGRESS,
+                    tournamentRepository.lockIdsStartingBy(ids, Tournament.TournamentStatus.REGISTRATION_OPEN.name(), now),
+                    now, changes);
+            transition(ids, Tournament.TournamentStatus.REGISTRATION_CLOSED, Tournament.TournamentStatus.IN_PROGRESS,
+                    tournamentRepository.lockIdsStartingBy(ids, Tournament.TournamentStatus.REGISTRATION_CLOSED.name(), now),
+                    now, changes);
+            transition(ids, Tournament.TournamentStatus.IN_PROGRESS, Tournament.TournamentStatus.COMPLETED,
+                    tournamentRepository.lockIdsEndingBy(ids, Tournament.TournamentStatus.IN_PROGRESS.name(), now),
+                    now, changes);
+
+            // Publicados dentro de la transacción: los listeners transaccionales se ejecutan tras el commit
+            changes.forEach(eventPublisher::publishEvent);
+            return changes;
+        });
+
+        Set<Long> transitioned = new HashSet<>();
+        if (events != null && !events.isEmpty()) {
+            events.forEach(event -> transitioned.add(event.getTournamentId()));
+            log.info("Transiciones de ciclo de vida aplicadas: {}", events.size());
+        }
+        return transitioned;
+    }
+
+    private void transition(Set<Long> candidates,
+                            Tournament.TournamentStatus from,
+                            Tournament.TournamentStatus to,
+                            List<Long> lockedIds,
+                            LocalDateTime now,
+                            List<TournamentStatusChangedEvent> changes) {
+        if (lockedIds.isEmpty()) return;
+
+        tournamentRepository.updateStatusByIdIn(lockedIds, to, now);
+        for (TournamentRepository.LifecycleDeadline deadline : tournamentRepository.findLifecycleDeadlinesByIdIn(lockedIds)) {
+            changes.add(new TournamentStatusChangedEvent(
+                    deadline.getId(), from, to, deadline.getStartDate(), deadline.getEndDate(), now));
+        }
+        log.debug("Torneos {} pasan de {} a {}", lockedIds, from, to);
+    }
+
+    private void enqueue(TournamentRepository.LifecycleDeadline deadline) {
+        enqueue(deadline.getId(), deadline.getStatus(), deadline.getStartDate(), deadline.getEndDate());
+    }
+
+    private void enqueue(Long tournamentId, Tournament.TournamentStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        if (status == null) return;
+
+        switch (status) {
+            case REGISTRATION_OPEN -> {
+                if (!registrationCloseLead.isZero() && startDate != null) {
+                    addDeadline(startDate.minus(registrationCloseLead), tournamentId);
+                }
+                addDeadline(startDate, tournamentId);
+            }
+            case REGISTRATION_CLOSED -> addDeadline(startDate, tournamentId);
+            case IN_PROGRESS -> addDeadline(endDate, tournamentId);
+            default -> {
+                // Estados sin transición automática
+            }
+        }
+    }
+
+    private void addDeadline(LocalDateTime at, Long tournamentId) {
+        // Fuera del horizonte: la siguiente resincronización lo recogerá
+        if (at == null || at.isAfter(LocalDateTime.now().plus(horizon))) return;
+        deadlines.add(new Deadline(at, tournamentId));
+    }
+
+    /**
+     * Programa el despertar para el plazo más próximo si es anterior al ya programado
+     */
+    private void reschedule() {
+        Deadline head = deadlines.peek();
+        if (head == null) return;
+        if (nextWakeUpAt != null && !head.at().isBefore(nextWakeUpAt)) return;
+
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        nextWakeUpAt = head.at();
+        wakeUp = taskScheduler.schedule(this::processDueDeadlines,
+                head.at().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Plazo de un torneo en la cola
+     */
+    private record Deadline(LocalDateTime at, Long tournamentId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            return this.at.compareTo(other.at);
+        }
+    }
+}
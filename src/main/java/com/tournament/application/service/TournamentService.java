@@ -1,18 +1,28 @@
 package com.tournament.application.service;
 
 import com.tournament.application.dto.CreateTournamentRequest;
+import com.tournament.application.dto.ResourceVersion;
+import com.tournament.application.dto.TournamentField;
 import com.tournament.application.dto.TournamentResponse;
 import com.tournament.domain.entity.*;
+import com.tournament.domain.event.AuditEvent;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
 import com.tournament.domain.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +38,10 @@ public class TournamentService {
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final GameTypeRepository gameTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevenueService revenueService;
+    private final BusinessMetrics businessMetrics;
 
     /**
      * Crea un nuevo torneo
@@ -41,14 +55,16 @@ public class TournamentService {
         User organizer = userRepository.findById(request.getOrganizerId())
                 .orElseThrow(() -> new IllegalArgumentException("Organizador no encontrado"));
 
-        // Validar categoría
-        Category category = categoryRepository.findById(request.getCategoryId())
+        // Validar categoría y tipo de juego contra los datos de referencia en memoria
+        referenceDataRegistry.findCategory(request.getCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Categoría no encontrada"));
-
-        // Validar tipo de juego
-        GameType gameType = gameTypeRepository.findById(request.getGameTypeId())
+        referenceDataRegistry.findGameType(request.getGameTypeId())
                 .orElseThrow(() -> new IllegalArgumentException("Tipo de juego no encontrado"));
 
+        // Referencias sin consulta: solo se necesita la clave foránea
+        Category category = categoryRepository.getReferenceById(request.getCategoryId());
+        GameType gameType = gameTypeRepository.getReferenceById(request.getGameTypeId());
+
         // Validar límites de torneos gratuitos
         if (Boolean.TRUE.equals(request.getIsFree())) {
             validateFreeTournamentLimits(organizer);
@@ -73,6 +89,10 @@ public class TournamentService {
                 .build();
 
         Tournament savedTournament = tournamentRepository.save(tournament);
+        revenueService.openTournament(savedTournament);
+        businessMetrics.recordTournamentCreated(Boolean.TRUE.equals(savedTournament.getIsFree()));
+        eventPublisher.publishEvent(AuditEvent.of(organizer.getId(), "TOURNAMENT_CREATED", "TOURNAMENT",
+                savedTournament.getId(), Map.of("isFree", Boolean.TRUE.equals(savedTournament.getIsFree()))));
         log.info("Torneo creado exitosamente: {}", savedTournament.getId());
 
         return mapToResponse(savedTournament);
@@ -123,6 +143,75 @@ public class TournamentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Obtiene torneos con solo los campos solicitados.
+     * La consulta selecciona únicamente las columnas necesarias; categoría y tipo de juego
+     * se resuelven desde el registro en memoria y el organizador solo se une si se pide.
+     * @param fields Campos solicitados
+     * @param organizerId Filtrar por organizador (null para no filtrar)
+     * @param openOnly Solo torneos abiertos para registro
+     * @return Lista de torneos proyectados
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTournamentsProjected(Set<TournamentField> fields, Long organizerId, boolean openOnly) {
+        Set<String> attributePaths = new LinkedHashSet<>();
+        fields.forEach(field -> attributePaths.addAll(field.getAttributePaths()));
+
+        List<Map<String, Object>> rows = tournamentRepository.findProjected(
+                attributePaths, organizerId, openOnly ? LocalDateTime.now() : null);
+
+        return rows.stream()
+                .map(row -> mapProjectedRow(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene la versión de un torneo sin cargar la entidad
+     * @param id ID del torneo
+     * @return Versión del torneo, vacía si no existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTournamentVersion(Long id) {
+        return tournamentRepository.findVersionById(id)
+                .map(version -> {
+                    // La respuesta incluye el organizador y los datos de referencia
+                    LocalDateTime lastModified = ResourceVersion.latest(version.getUpdatedAt() != null
+                            ? version.getUpdatedAt() : version.getCreatedAt(), version.getOrganizerModified());
+                    return ResourceVersion.of("t" + version.getId() + "-" + toVersionToken(lastModified)
+                            + "-" + referenceDataRegistry.getVersion(), lastModified);
+                });
+    }
+
+    /**
+     * Obtiene la versión agregada de todos los torneos
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllTournamentsVersion() {
+        return toAggregateVersion("ta", tournamentRepository.findAggregateVersion());
+    }
+
+    /**
+     * Obtiene la versión agregada de los torneos de un organizador
+     * @param organizerId ID del organizador
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getTournamentsByOrganizerVersion(Long organizerId) {
+        return toAggregateVersion("to" + organizerId,
+                tournamentRepository.findAggregateVersionByOrganizerId(organizerId));
+    }
+
+    /**
+     * Obtiene la versión agregada de los torneos abiertos para registro
+     * @return Versión de la colección
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getOpenTournamentsVersion() {
+        return toAggregateVersion("tr",
+                tournamentRepository.findAggregateVersionOpenForRegistration(LocalDateTime.now()));
+    }
+
     /**
      * Actualiza el estado de un torneo
      * @param id ID del torneo
@@ -133,9 +222,15 @@ public class TournamentService {
         Tournament tournament = tournamentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Torneo no encontrado"));
 
+        Tournament.TournamentStatus previousStatus = tournament.getStatus();
         tournament.setStatus(status);
         Tournament updatedTournament = tournamentRepository.save(tournament);
 
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new TournamentStatusChangedEvent(
+                    id, previousStatus, status, tournament.getStartDate(), tournament.getEndDate(), LocalDateTime.now()));
+        }
+
         log.info("Estado del torneo {} actualizado a: {}", id, status);
         return mapToResponse(updatedTournament);
     }
@@ -185,6 +280,63 @@ public class TournamentService {
         }
     }
 
+    /**
+     * Convierte una fila proyectada en la representación JSON de los campos solicitados
+     */
+    private Map<String, Object> mapProjectedRow(Map<String, Object> row, Set<TournamentField> fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (TournamentField field : fields) {
+            Object value;
+            switch (field) {
+                case CATEGORY -> value = referenceDataRegistry.findCategory((Long) row.get("category.id")).orElse(null);
+                case GAME_TYPE -> value = referenceDataRegistry.findGameType((Long) row.get("gameType.id")).orElse(null);
+                case ORGANIZER -> value = mapProjectedOrganizer(row);
+                default -> value = toJsonValue(row.get(field.getAttributePaths().get(0)));
+            }
+            result.put(field.getJsonName(), value);
+        }
+        return result;
+    }
+
+    /**
+     * Construye el organizador proyectado (sin email)
+     */
+    private Map<String, Object> mapProjectedOrganizer(Map<String, Object> row) {
+        if (row.get("organizer.id") == null) return null;
+
+        Map<String, Object> organizer = new LinkedHashMap<>();
+        organizer.put("id", row.get("organizer.id"));
+        organizer.put("username", row.get("organizer.username"));
+        organizer.put("firstName", row.get("organizer.firstName"));
+        organizer.put("lastName", row.get("organizer.lastName"));
+        organizer.put("role", toJsonValue(row.get("organizer.role")));
+        organizer.put("fullName", User.fullName((String) row.get("organizer.firstName"), (String) row.get("organizer.lastName")));
+        return organizer;
+    }
+
+    private Object toJsonValue(Object value) {
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value;
+    }
+
+    /**
+     * Construye la versión de una colección a partir de su conteo y última modificación
+     */
+    private ResourceVersion toAggregateVersion(String prefix, TournamentRepository.AggregateVersion aggregate) {
+        long count = aggregate != null && aggregate.getCount() != null ? aggregate.getCount() : 0;
+        LocalDateTime lastModified = aggregate != null
+                ? ResourceVersion.latest(aggregate.getLastModified(), aggregate.getOrganizerModified()) : null;
+        return ResourceVersion.of(prefix + "-" + count + "-" + toVersionToken(lastModified)
+                + "-" + referenceDataRegistry.getVersion(), lastModified);
+    }
+
+    /**
+     * Representa una fecha como token compacto para el ETag
+     */
+    private String toVersionToken(LocalDateTime dateTime) {
+        if (dateTime == null) return "0";
+        return Long.toString(dateTime.toEpochSecond(ZoneOffset.UTC), 36) + "." + dateTime.getNano();
+    }
+
     /**
      * Mapea una entidad Tournament a TournamentResponse
      * @param tournament Entidad del torneo
@@ -195,8 +347,8 @@ public class TournamentService {
                 .id(tournament.getId())
                 .name(tournament.getName())
                 .description(tournament.getDescription())
-                .category(mapCategoryResponse(tournament.getCategory()))
-                .gameType(mapGameTypeResponse(tournament.getGameType()))
+                .category(resolveCategoryResponse(tournament.getCategory()))
+                .gameType(resolveGameTypeResponse(tournament.getGameType()))
                 .organizer(mapUserResponse(tournament.getOrganizer()))
                 .isFree(tournament.getIsFree())
                 .price(tournament.getPrice())
@@ -211,6 +363,26 @@ public class TournamentService {
                 .build();
     }
 
+    /**
+     * Resuelve la categoría desde el registro en memoria, evitando inicializar el proxy
+     */
+    private TournamentResponse.CategoryResponse resolveCategoryResponse(Category category) {
+        if (category == null) return null;
+
+        return referenceDataRegistry.findCategory(category.getId())
+                .orElseGet(() -> mapCategoryResponse(category));
+    }
+
+    /**
+     * Resuelve el tipo de juego desde el registro en memoria, evitando inicializar el proxy
+     */
+    private TournamentResponse.GameTypeResponse resolveGameTypeResponse(GameType gameType) {
+        if (gameType == null) return null;
+
+        return referenceDataRegistry.findGameType(gameType.getId())
+                .orElseGet(() -> mapGameTypeResponse(gameType));
+    }
+
     /**
      * Mapea una entidad Category a CategoryResponse
      */
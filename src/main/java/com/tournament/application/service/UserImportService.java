@@ -0,0 +1,333 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.RegisterRequest;
+import com.tournament.application.dto.UserImportResult;
+import com.tournament.domain.entity.User;
+import com.tournament.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de usuarios desde CSV.
+ *
+ * El fichero se lee en streaming y se procesa por lotes de batch-size filas: cada lote se valida
+ * con las mismas reglas que el registro, descarta en dos consultas los usernames y emails ya
+ * existentes, calcula los hashes BCrypt en paralelo en un pool acotado y se inserta en su propia
+ * transacción con INSERT agrupados en lotes JDBC. Si otro registro concurrente provoca una
+ * violación de unicidad, ese lote se reintenta fila a fila para aislar los duplicados.
+ *
+ * Cabecera obligatoria: username,email,password,firstName,lastName; columna role opcional.
+ * El endpoint no está restringido a administradores mientras la autenticación no se aplique,
+ * así que solo se admite el rol PARTICIPANT: las filas con cualquier otro rol se rechazan.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "password", "firstname", "lastname");
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${tournament.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${tournament.user-import.batch-size:500}")
+    private int batchSize;
+
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor hashPool;
+    private Counter importedCounter;
+
+    @PostConstruct
+    void init() {
+        // Mismo coste que el PasswordEncoder de la aplicación, pero sin competir con su cola de logins
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        hashPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, batchSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Con varias importaciones simultáneas el hilo llamante hace el hashing: presión hacia atrás
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        importedCounter = Counter.builder("users.imported")
+                .description("Usuarios creados por importación masiva")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * Importa usuarios desde un CSV
+     * @param input Contenido CSV en UTF-8
+     * @return Resultado con filas importadas y rechazadas
+     * @throws IllegalArgumentException si la cabecera no contiene las columnas obligatorias
+     */
+    public UserImportResult importUsers(InputStream input) throws IOException {
+        long started = System.nanoTime();
+        UserImportResult result = UserImportResult.builder().build();
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = columns(csv.next());
+            Set<String> seenUsernames = new HashSet<>();
+            Set<String> seenEmails = new HashSet<>();
+            List<Row> batch = new ArrayList<>(batchSize);
+
+            try {
+                List<String> record;
+                while ((record = csv.next()) != null) {
+                    if (record.size() == 1 && record.get(0).isBlank()) continue;
+
+                    result.setTotalRows(result.getTotalRows() + 1);
+                    Row row = parse(csv.getRecordLine(), record, columns, result);
+                    if (row == null) continue;
+
+                    if (!seenUsernames.add(row.request().getUsername()) || !seenEmails.add(row.request().getEmail())) {
+                        reject(result, row, "Usuario o email repetido en el fichero");
+                        continue;
+                    }
+
+                    batch.add(row);
+                    if (batch.size() >= batchSize) {
+                        importBatch(batch, result);
+                        batch.clear();
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // CSV mal formado a mitad de fichero: se conservan los lotes ya insertados
+                result.getErrors().add(UserImportResult.RowError.builder()
+                        .line(csv.getRecordLine()).message(e.getMessage()).build());
+            }
+            importBatch(batch, result);
+        }
+
+        result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Importación de usuarios: {} filas, {} importadas, {} rechazadas en {} ms",
+                result.getTotalRows(), result.getImported(), result.getRejected(), result.getDurationMs());
+        return result;
+    }
+
+    /**
+     * Valida, hashea e inserta un lote
+     */
+    private void importBatch(List<Row> batch, UserImportResult result) {
+        if (batch.isEmpty()) return;
+
+        Set<String> existingUsernames = userRepository.findExistingUsernames(
+                batch.stream().map(row -> row.request().getUsername()).toList());
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                batch.stream().map(row -> row.request().getEmail()).toList());
+
+        List<Row> pending = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (existingUsernames.contains(row.request().getUsername())) {
+                reject(result, row, new DuplicateUserException(DuplicateUserException.Field.USERNAME).getMessage());
+            } else if (existingEmails.contains(row.request().getEmail())) {
+                reject(result, row, new DuplicateUserException(DuplicateUserException.Field.EMAIL).getMessage());
+            } else {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) return;
+
+        List<String> hashes = hash(pending);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            // IDs de secuencia pooled: Hibernate agrupa los INSERT en lotes de hibernate.jdbc.batch_size
+            List<User> users = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                users.add(toUser(pending.get(i), hashes.get(i)));
+            }
+            transaction.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+            });
+            imported(result, pending.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Lote de importación con duplicados concurrentes; se reintenta fila a fila");
+            for (int i = 0; i < pending.size(); i++) {
+                Row row = pending.get(i);
+                // Entidad nueva: la del lote revertido ya tiene ID asignado
+                User user = toUser(row, hashes.get(i));
+                try {
+                    transaction.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+                    imported(result, 1);
+                } catch (DataIntegrityViolationException rowViolation) {
+                    reject(result, row, DuplicateUserException.from(rowViolation)
+                            .map(Throwable::getMessage)
+                            .orElse("Violación de integridad de datos"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula los hashes del lote en paralelo en el pool acotado
+     */
+    private List<String> hash(List<Row> rows) {
+        List<Future<String>> futures = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String password = row.request().getPassword();
+            futures.add(hashPool.submit(() -> passwordEncoder.encode(password)));
+        }
+
+        List<String> hashes = new ArrayList<>(rows.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Importación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error calculando hashes de contraseñas", e.getCause());
+        }
+        return hashes;
+    }
+
+    private static User toUser(Row row, String passwordHash) {
+        RegisterRequest request = row.request();
+        return User.builder()
+                .username(request.getUsername())
+                .email(request.getEmail())
+                .passwordHash(passwordHash)
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .role(row.role())
+                .isActive(true)
+                .build();
+    }
+
+    /**
+     * Posición de cada columna a partir de la cabecera (sin distinguir mayúsculas)
+     */
+    private static Map<String, Integer> columns(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("El fichero está vacío");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Faltan columnas obligatorias: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    /**
+     * Construye y valida la fila con las reglas de RegisterRequest
+     * @return Fila válida, o null si se ha rechazado
+     */
+    private Row parse(long line, List<String> record, Map<String, Integer> columns, UserImportResult result) {
+        RegisterRequest request = RegisterRequest.builder()
+                .username(field(record, columns, "username"))
+                .email(field(record, columns, "email"))
+                .password(field(record, columns, "password"))
+                .firstName(field(record, columns, "firstname"))
+                .lastName(field(record, columns, "lastname"))
+                .role(columns.containsKey("role") ? field(record, columns, "role") : null)
+                .build();
+        Row row = new Row(line, request, User.UserRole.PARTICIPANT);
+
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            reject(result, row, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        String role = request.getRole();
+        if (role == null || role.isBlank()) {
+            return row;
+        }
+        try {
+            User.UserRole userRole = User.UserRole.valueOf(role.trim().toUpperCase(Locale.ROOT));
+            if (userRole != User.UserRole.PARTICIPANT) {
+                reject(result, row, "Rol no permitido en importación: " + userRole);
+                return null;
+            }
+            return row;
+        } catch (IllegalArgumentException e) {
+            reject(result, row, "Rol no válido: " + role);
+            return null;
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < record.size() ? record.get(index).trim() : null;
+    }
+
+    private void imported(UserImportResult result, int count) {
+        result.setImported(result.getImported() + count);
+        importedCounter.increment(count);
+    }
+
+    private static void reject(UserImportResult result, Row row, String message) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(UserImportResult.RowError.builder()
+                    .line(row.line())
+                    .username(row.request().getUsername())
+                    .message(message)
+                    .build());
+        }
+    }
+
+    /**
+     * Fila del CSV ya validada
+     */
+    record Row(long line, RegisterRequest request, User.UserRole role) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad de dominio que representa una notificación enviada a un usuario.
+ * Usuario y torneo se guardan como IDs: los listados no necesitan cargar ninguna de las dos entidades.
+ */
+@Entity
+@Table(name = "notifications")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notifications_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20)
+    private NotificationType type;
+
+    @Column(name = "is_read")
+    private Boolean isRead;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    /**
+     * Enum que define los tipos de notificación
+     */
+    public enum NotificationType {
+        INFO,
+        WARNING
+    }
+}
@@ -0,0 +1,31 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contador de notificaciones no leídas de un usuario, mantenido junto a las inserciones y lecturas
+ */
+@Entity
+@Table(name = "notification_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.tournament.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ingresos de todos los torneos de un organizador.
+ *
+ * No se persiste: se suma al consultar a partir de las filas de tournament_revenue del
+ * organizador (TournamentRevenueRepository.sumByOrganizerId). Una fila única por organizador
+ * serializaría todas las compras de sus torneos en su bloqueo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizerRevenue {
+
+    private Long organizerId;
+    private Long ticketsSold;
+    private Long ticketsRefunded;
+    private BigDecimal grossAmount;
+    private BigDecimal feeAmount;
+    private BigDecimal refundedAmount;
+    private BigDecimal refundedFeeAmount;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Crea el agregado vacío de un organizador
+     * @param organizerId ID del organizador
+     * @return Agregado sin ventas
+     */
+    public static OrganizerRevenue empty(Long organizerId) {
+        return OrganizerRevenue.builder()
+                .organizerId(organizerId)
+                .ticketsSold(0L)
+                .ticketsRefunded(0L)
+                .grossAmount(BigDecimal.ZERO)
+                .feeAmount(BigDecimal.ZERO)
+                .refundedAmount(BigDecimal.ZERO)
+                .refundedFeeAmount(BigDecimal.ZERO)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
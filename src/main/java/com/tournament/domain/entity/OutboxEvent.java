@@ -0,0 +1,71 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio pendiente de publicar, escrito en la misma transacción que el cambio que describe
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * Crea un evento listo para publicarse
+     * @param aggregateType Tipo de agregado (TICKET, TOURNAMENT)
+     * @param aggregateId ID del agregado
+     * @param eventType Tipo de evento
+     * @param payload Contenido JSON
+     * @return Evento nuevo
+     */
+    public static OutboxEvent pending(String aggregateType, Long aggregateId, String eventType, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(now)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
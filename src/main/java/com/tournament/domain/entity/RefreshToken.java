@@ -0,0 +1,74 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un refresh token. Solo se guarda el hash del valor opaco
+ * entregado al cliente; cada uso lo rota por uno nuevo de la misma familia.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_tokens_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "token_hash", unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    /**
+     * Verifica si el token ya fue usado o revocado
+     * @return true si no puede volver a usarse
+     */
+    public boolean isSpent() {
+        return rotatedAt != null || revokedAt != null;
+    }
+
+    /**
+     * Verifica si el token ha expirado
+     * @param now Instante de referencia
+     * @return true si ha expirado
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Marca el token como rotado
+     * @param now Instante de la rotación
+     */
+    public void markRotated(LocalDateTime now) {
+        this.rotatedAt = now;
+    }
+}
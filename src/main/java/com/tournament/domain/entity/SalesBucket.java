@@ -0,0 +1,115 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Ventas de tickets de un torneo agregadas en un intervalo de tiempo
+ */
+@Entity
+@Table(name = "ticket_sales_buckets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesBucket {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "organizer_id")
+    private Long organizerId;
+
+    @Column(name = "tickets_sold", nullable = false)
+    private Long ticketsSold;
+
+    @Column(name = "tickets_refunded", nullable = false)
+    private Long ticketsRefunded;
+
+    @Column(name = "gross_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal grossAmount;
+
+    @Column(name = "fee_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal feeAmount;
+
+    @Column(name = "refunded_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal refundedAmount;
+
+    /**
+     * Resoluciones de los intervalos, de la más fina a la más gruesa
+     */
+    public enum Resolution {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Resolution(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Obtiene la unidad temporal del intervalo
+         * @return Unidad temporal
+         */
+        public ChronoUnit getUnit() {
+            return this.unit;
+        }
+
+        /**
+         * Alinea una fecha al inicio de su intervalo
+         * @param time Fecha
+         * @return Inicio del intervalo
+         */
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(this.unit);
+        }
+    }
+
+    /**
+     * Clave del intervalo: torneo, resolución e inicio
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "tournament_id")
+        private Long tournamentId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "resolution", length = 10)
+        private Resolution resolution;
+
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+    }
+
+    /**
+     * Crea un intervalo vacío
+     * @param key Clave del intervalo
+     * @param organizerId ID del organizador
+     * @return Intervalo sin ventas
+     */
+    public static SalesBucket empty(Key key, Long organizerId) {
+        return SalesBucket.builder()
+                .key(key)
+                .organizerId(organizerId)
+                .ticketsSold(0L)
+                .ticketsRefunded(0L)
+                .grossAmount(BigDecimal.ZERO)
+                .feeAmount(BigDecimal.ZERO)
+                .refundedAmount(BigDecimal.ZERO)
+                .build();
+    }
+}
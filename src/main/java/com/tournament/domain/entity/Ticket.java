@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -12,10 +13,19 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
- * Entidad de dominio que representa un ticket de acceso a un torneo
+ * Entidad de dominio que representa un ticket de acceso a un torneo.
+ *
+ * La tabla está particionada por tournament_id (V8): la clave primaria es (tournament_id, id) y
+ * la base de datos solo exige que qr_code y unique_code sean únicos por torneo. Entre torneos no
+ * hay ninguna restricción: que no se repitan depende de la aleatoriedad de los UUID completos
+ * (122 bits) con que TicketService genera ambos códigos, no de la base de datos. tournament_id
+ * se mapea como clave de partición para que los UPDATE y DELETE por id lean una sola partición.
  */
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"tournament_id", "qr_code"}),
+        @UniqueConstraint(columnNames = {"tournament_id", "unique_code"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,7 +34,8 @@ import java.time.LocalDateTime;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "tickets_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,13 +43,17 @@ public class Ticket {
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "tournament_id")
+    @JoinColumn(name = "tournament_id", nullable = false, insertable = false, updatable = false)
     private Tournament tournament;
 
-    @Column(name = "qr_code", unique = true, nullable = false)
+    @PartitionKey
+    @Column(name = "tournament_id", nullable = false, updatable = false)
+    private Long tournamentId;
+
+    @Column(name = "qr_code", nullable = false)
     private String qrCode;
 
-    @Column(name = "unique_code", unique = true, nullable = false, length = 50)
+    @Column(name = "unique_code", nullable = false, length = 50)
     private String uniqueCode;
 
     @Column(name = "purchase_date", nullable = false)
@@ -64,6 +79,16 @@ public class Ticket {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Copia el torneo de la asociación en la clave de partición antes de insertar
+     */
+    @PrePersist
+    void assignPartitionKey() {
+        if (this.tournamentId == null && this.tournament != null) {
+            this.tournamentId = this.tournament.getId();
+        }
+    }
+
     /**
      * Enum que define los estados posibles de un ticket
      */
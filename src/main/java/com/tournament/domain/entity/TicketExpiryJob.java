@@ -0,0 +1,109 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra el progreso de la expiración masiva de tickets de un torneo.
+ * El cursor lastTicketId permite reanudar el trabajo tras un reinicio.
+ */
+@Entity
+@Table(name = "ticket_expiry_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketExpiryJob {
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "last_ticket_id", nullable = false)
+    private Long lastTicketId;
+
+    @Column(name = "expired_count", nullable = false)
+    private Long expiredCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * Enum que define los estados del trabajo de expiración
+     */
+    public enum JobStatus {
+        PENDING,
+        COMPLETED
+    }
+
+    /**
+     * Crea un trabajo pendiente para un torneo
+     * @param tournamentId ID del torneo
+     * @return Trabajo nuevo
+     */
+    public static TicketExpiryJob pending(Long tournamentId) {
+        LocalDateTime now = LocalDateTime.now();
+        return TicketExpiryJob.builder()
+                .tournamentId(tournamentId)
+                .status(JobStatus.PENDING)
+                .lastTicketId(0L)
+                .expiredCount(0L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Avanza el cursor tras procesar un lote
+     * @param lastId Último ID de ticket procesado
+     * @param expired Tickets expirados en el lote
+     */
+    public void advance(Long lastId, int expired) {
+        this.lastTicketId = lastId;
+        this.expiredCount += expired;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marca el trabajo como completado
+     */
+    public void complete() {
+        this.status = JobStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+        this.completedAt = this.updatedAt;
+    }
+
+    /**
+     * Vuelve a poner pendiente un trabajo completado, recorriendo de nuevo los tickets desde el
+     * principio; el total expirado se acumula
+     */
+    public void restart() {
+        this.status = JobStatus.PENDING;
+        this.lastTicketId = 0L;
+        this.updatedAt = LocalDateTime.now();
+        this.completedAt = null;
+    }
+
+    /**
+     * Verifica si el trabajo está pendiente
+     * @return true si está pendiente
+     */
+    public boolean isPending() {
+        return JobStatus.PENDING.equals(this.status);
+    }
+}
@@ -25,7 +25,8 @@ import java.time.LocalDateTime;
 public class Tournament {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_seq")
+    @SequenceGenerator(name = "tournament_seq", sequenceName = "tournaments_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 200)
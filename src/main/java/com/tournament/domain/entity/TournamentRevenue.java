@@ -0,0 +1,70 @@
+package com.tournament.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Agregado de ingresos de un torneo, mantenido junto a las compras y cancelaciones de tickets
+ */
+@Entity
+@Table(name = "tournament_revenue")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentRevenue {
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "organizer_id")
+    private Long organizerId;
+
+    @Column(name = "tickets_sold", nullable = false)
+    private Long ticketsSold;
+
+    @Column(name = "tickets_refunded", nullable = false)
+    private Long ticketsRefunded;
+
+    @Column(name = "gross_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal grossAmount;
+
+    @Column(name = "fee_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal feeAmount;
+
+    @Column(name = "refunded_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal refundedAmount;
+
+    @Column(name = "refunded_fee_amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal refundedFeeAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Crea el agregado vacío de un torneo
+     * @param tournamentId ID del torneo
+     * @param organizerId ID del organizador
+     * @return Agregado sin ventas
+     */
+    public static TournamentRevenue empty(Long tournamentId, Long organizerId) {
+        return TournamentRevenue.builder()
+                .tournamentId(tournamentId)
+                .organizerId(organizerId)
+                .ticketsSold(0L)
+                .ticketsRefunded(0L)
+                .grossAmount(BigDecimal.ZERO)
+                .feeAmount(BigDecimal.ZERO)
+                .refundedAmount(BigDecimal.ZERO)
+                .refundedFeeAmount(BigDecimal.ZERO)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
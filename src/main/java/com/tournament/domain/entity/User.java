@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
  * Entidad de dominio que representa un usuario del sistema
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        // Mismos nombres que genera PostgreSQL en V1: las violaciones se reconocen por nombre
+        @UniqueConstraint(name = "users_username_key", columnNames = "username"),
+        @UniqueConstraint(name = "users_email_key", columnNames = "email")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,13 +28,14 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "username", unique = true, nullable = false, length = 50)
+    @Column(name = "username", nullable = false, length = 50)
     private String username;
 
-    @Column(name = "email", unique = true, nullable = false, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
     @Column(name = "password_hash", nullable = false)
@@ -49,6 +54,10 @@ public class User {
     @Column(name = "is_active")
     private Boolean isActive;
 
+    @Builder.Default
+    @Column(name = "token_version")
+    private Integer tokenVersion = 0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -83,7 +92,50 @@ public class User {
      * @return Nombre completo
      */
     public String getFullName() {
-        return firstName + " " + lastName;
+        return fullName(firstName, lastName);
+    }
+
+    /**
+     * Compone el nombre completo omitiendo las partes ausentes
+     * @param firstName Nombre (puede ser null)
+     * @param lastName Apellido (puede ser null)
+     * @return Nombre completo, vacío si faltan ambas partes
+     */
+    public static String fullName(String firstName, String lastName) {
+        if (firstName == null) return lastName != null ? lastName : "";
+        return lastName != null ? firstName + " " + lastName : firstName;
+    }
+
+    /**
+     * Obtiene la versión actual de los tokens del usuario
+     * @return Versión de tokens, 0 si no se ha inicializado
+     */
+    public int currentTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
+    /**
+     * Invalida todos los tokens emitidos hasta ahora para el usuario
+     */
+    public void revokeTokens() {
+        this.tokenVersion = currentTokenVersion() + 1;
+    }
+
+    /**
+     * Desactiva el usuario y revoca sus tokens
+     */
+    public void deactivate() {
+        this.isActive = false;
+        revokeTokens();
+    }
+
+    /**
+     * Cambia el rol del usuario y revoca sus tokens, que llevan el rol anterior
+     * @param newRole Nuevo rol
+     */
+    public void changeRole(UserRole newRole) {
+        this.role = newRole;
+        revokeTokens();
     }
 
     /**
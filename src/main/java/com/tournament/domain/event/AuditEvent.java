@@ -0,0 +1,29 @@
+package com.tournament.domain.event;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Evento de dominio para el registro de auditoría (audit_logs).
+ * Se publica dentro de la transacción y solo se registra si ésta se confirma
+ */
+@Value
+public class AuditEvent {
+
+    Long userId;
+    String action;
+    String entityType;
+    Long entityId;
+    Map<String, Object> details;
+    LocalDateTime occurredAt;
+
+    public static AuditEvent of(Long userId, String action, String entityType, Long entityId, Map<String, Object> details) {
+        return new AuditEvent(userId, action, entityType, entityId, details, LocalDateTime.now());
+    }
+
+    public static AuditEvent of(Long userId, String action, String entityType, Long entityId) {
+        return of(userId, action, entityType, entityId, Map.of());
+    }
+}
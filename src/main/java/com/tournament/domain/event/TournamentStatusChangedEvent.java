@@ -0,0 +1,21 @@
+package com.tournament.domain.event;
+
+import com.tournament.domain.entity.Tournament;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio publicado cuando un torneo cambia de estado,
+ * ya sea manualmente o por el planificador del ciclo de vida
+ */
+@Value
+public class TournamentStatusChangedEvent {
+
+    Long tournamentId;
+    Tournament.TournamentStatus previousStatus;
+    Tournament.TournamentStatus newStatus;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+    LocalDateTime occurredAt;
+}
@@ -0,0 +1,17 @@
+package com.tournament.domain.event;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio publicado cuando cambia el estado de un usuario relevante para
+ * la autenticación: activación, rol o versión de tokens
+ */
+@Value
+public class UserStatusChangedEvent {
+
+    Long userId;
+    String username;
+    LocalDateTime occurredAt;
+}
@@ -2,6 +2,7 @@ package com.tournament.domain.repository;
 
 import com.tournament.domain.entity.GameType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -65,4 +66,11 @@ public interface GameTypeRepository extends JpaRepository<GameType, Long> {
      * @return Lista de tipos de juego individuales
      */
     List<GameType> findByPlayersCountEquals(Integer playersCount);
-} 
\ No newline at end of file
+
+    /**
+     * Obtiene todos los tipos de juego con su categoría cargada
+     * @return Lista de tipos de juego
+     */
+    @Query("SELECT g FROM GameType g LEFT JOIN FETCH g.category")
+    List<GameType> findAllWithCategory();
+}
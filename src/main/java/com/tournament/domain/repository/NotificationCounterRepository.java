@@ -0,0 +1,41 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio de dominio para la entidad NotificationCounter
+ */
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    /**
+     * Obtiene el número de notificaciones no leídas de un usuario
+     * @param userId ID del usuario
+     * @return Recuento o vacío si el usuario nunca ha recibido notificaciones
+     */
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") Long userId);
+
+    /**
+     * Descuenta notificaciones leídas sin bajar de cero
+     * @param userId ID del usuario
+     * @param count Notificaciones marcadas como leídas
+     * @param updatedAt Fecha de actualización
+     * @return Filas actualizadas
+     */
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET " +
+           "c.unreadCount = CASE WHEN c.unreadCount > :count THEN c.unreadCount - :count ELSE 0 END, " +
+           "c.updatedAt = :updatedAt WHERE c.userId = :userId")
+    int decrement(@Param("userId") Long userId,
+                  @Param("count") long count,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,62 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio de dominio para la entidad Notification
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Notificaciones de un usuario anteriores a un ID, de la más reciente a la más antigua
+     * @param userId ID del usuario
+     * @param beforeId ID a partir del cual paginar (exclusivo)
+     * @param pageable Tamaño de página
+     * @return Lista de notificaciones
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<Notification> findByUserIdBefore(@Param("userId") Long userId,
+                                          @Param("beforeId") Long beforeId,
+                                          Pageable pageable);
+
+    /**
+     * Marca como leídas las notificaciones indicadas que sigan sin leer
+     * @param userId ID del usuario propietario
+     * @param ids IDs de notificación
+     * @param readAt Fecha de lectura
+     * @return Número de notificaciones marcadas
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.userId = :userId AND n.isRead = false AND n.id IN :ids")
+    int markReadByIds(@Param("userId") Long userId,
+                      @Param("ids") Collection<Long> ids,
+                      @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Marca como leídas todas las notificaciones sin leer de un usuario enviadas hasta una fecha.
+     * Se compara sent_at y no el ID: con secuencias pooled cada nodo reserva su propio bloque de
+     * IDs, así que un ID mayor no implica una notificación posterior.
+     * @param userId ID del usuario
+     * @param upTo Fecha de envío máxima incluida; las enviadas después siguen sin leer
+     * @param readAt Fecha de lectura
+     * @return Número de notificaciones marcadas
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.userId = :userId AND n.isRead = false AND (n.sentAt IS NULL OR n.sentAt <= :upTo)")
+    int markAllReadSentUpTo(@Param("userId") Long userId,
+                            @Param("upTo") LocalDateTime upTo,
+                            @Param("readAt") LocalDateTime readAt);
+}
@@ -0,0 +1,13 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio de dominio para la entidad OutboxEvent.
+ * La lectura y el borrado por lotes los hace OutboxRelay con SQL nativo (SKIP LOCKED)
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,59 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio de dominio para la entidad RefreshToken
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Busca y bloquea un refresh token por su hash, con su usuario cargado,
+     * para que dos rotaciones concurrentes del mismo token no tengan éxito ambas
+     * @param tokenHash SHA-256 del token
+     * @return Refresh token encontrado
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revoca todos los tokens vigentes de una familia
+     * @param familyId ID de la familia
+     * @param now Instante de la revocación
+     * @return Número de tokens revocados
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Revoca todos los tokens vigentes de un usuario
+     * @param userId ID del usuario
+     * @param now Instante de la revocación
+     * @return Número de tokens revocados
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Elimina los tokens expirados
+     * @param now Instante de referencia
+     * @return Número de tokens eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
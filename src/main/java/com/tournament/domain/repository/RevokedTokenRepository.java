@@ -0,0 +1,42 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio de dominio para la entidad RevokedToken
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Busca las revocaciones de tokens aún no expirados
+     * @param now Instante de referencia
+     * @return Lista de revocaciones vigentes
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * Busca las revocaciones vigentes registradas desde un instante dado
+     * @param since Instante desde el que se buscan revocaciones
+     * @param now Instante de referencia
+     * @return Lista de revocaciones
+     */
+    List<RevokedToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * Elimina las revocaciones de tokens expirados
+     * @param now Instante de referencia
+     * @return Número de filas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,54 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.SalesBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de dominio para la entidad SalesBucket
+ */
+@Repository
+public interface SalesBucketRepository extends JpaRepository<SalesBucket, SalesBucket.Key> {
+
+    /**
+     * Suma una venta al intervalo
+     * @param tournamentId ID del torneo
+     * @param resolution Resolución del intervalo
+     * @param bucketStart Inicio del intervalo
+     * @param amount Importe total del ticket
+     * @param fee Comisión del ticket
+     * @return Filas actualizadas (0 si el intervalo aún no existe)
+     */
+    @Modifying
+    @Query("UPDATE SalesBucket b SET b.ticketsSold = b.ticketsSold + 1, " +
+           "b.grossAmount = b.grossAmount + :amount, b.feeAmount = b.feeAmount + :fee " +
+           "WHERE b.key.tournamentId = :tournamentId AND b.key.resolution = :resolution AND b.key.bucketStart = :bucketStart")
+    int addSale(@Param("tournamentId") Long tournamentId,
+                @Param("resolution") SalesBucket.Resolution resolution,
+                @Param("bucketStart") LocalDateTime bucketStart,
+                @Param("amount") BigDecimal amount,
+                @Param("fee") BigDecimal fee);
+
+    /**
+     * Suma una devolución al intervalo
+     * @param tournamentId ID del torneo
+     * @param resolution Resolución del intervalo
+     * @param bucketStart Inicio del intervalo
+     * @param amount Importe total devuelto
+     * @return Filas actualizadas (0 si el intervalo aún no existe)
+     */
+    @Modifying
+    @Query("UPDATE SalesBucket b SET b.ticketsRefunded = b.ticketsRefunded + 1, " +
+           "b.refundedAmount = b.refundedAmount + :amount " +
+           "WHERE b.key.tournamentId = :tournamentId AND b.key.resolution = :resolution AND b.key.bucketStart = :bucketStart")
+    int addRefund(@Param("tournamentId") Long tournamentId,
+                  @Param("resolution") SalesBucket.Resolution resolution,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("amount") BigDecimal amount);
+}
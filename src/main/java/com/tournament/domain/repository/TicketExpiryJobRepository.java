@@ -0,0 +1,46 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.TicketExpiryJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de dominio para la entidad TicketExpiryJob
+ */
+@Repository
+public interface TicketExpiryJobRepository extends JpaRepository<TicketExpiryJob, Long> {
+
+    /**
+     * Busca los IDs de torneo de los trabajos en un estado
+     * @param status Estado del trabajo
+     * @return Lista de IDs de torneo
+     */
+    @Query("SELECT j.tournamentId FROM TicketExpiryJob j WHERE j.status = :status ORDER BY j.createdAt")
+    List<Long> findTournamentIdsByStatus(@Param("status") TicketExpiryJob.JobStatus status);
+
+    /**
+     * Cuenta trabajos por estado
+     * @param status Estado del trabajo
+     * @return Número de trabajos
+     */
+    long countByStatus(TicketExpiryJob.JobStatus status);
+
+    /**
+     * Bloquea el trabajo de un torneo, saltando la fila si otra instancia ya la tiene bloqueada
+     * @param tournamentId ID del torneo
+     * @return Trabajo bloqueado o vacío si está ocupado o no existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM TicketExpiryJob j WHERE j.tournamentId = :tournamentId")
+    Optional<TicketExpiryJob> lockByTournamentId(@Param("tournamentId") Long tournamentId);
+}
@@ -4,7 +4,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,13 @@ import com.tournament.domain.entity.Ticket;
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
+    String AGGREGATE_VERSION_SELECT = "SELECT COUNT(t) AS count, MAX(t.id) AS maxId, " +
+            "SUM(CASE WHEN t.status = 'ACTIVE' THEN 1 ELSE 0 END) AS activeCount, " +
+            "MAX(COALESCE(tr.updatedAt, tr.createdAt)) AS tournamentModified, " +
+            "MAX(COALESCE(u.updatedAt, u.createdAt)) AS userModified, " +
+            "MAX(COALESCE(o.updatedAt, o.createdAt)) AS organizerModified " +
+            "FROM Ticket t JOIN t.tournament tr LEFT JOIN t.user u LEFT JOIN tr.organizer o";
+
     /**
      * Busca tickets por usuario
      * @param userId ID del usuario
@@ -128,4 +137,91 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
      * @return Lista de tickets
      */
     List<Ticket> findByUserIdAndTournamentId(Long userId, Long tournamentId);
-} 
\ No newline at end of file
+
+    /**
+     * Obtiene el estado de un ticket y las marcas de tiempo de lo que se serializa con él
+     * (usuario, torneo y organizador del torneo) sin cargar las entidades
+     * @param id ID del ticket
+     * @return Versión del ticket
+     */
+    @Query("SELECT t.id AS id, t.status AS status, " +
+           "COALESCE(tr.updatedAt, tr.createdAt) AS tournamentModified, " +
+           "COALESCE(u.updatedAt, u.createdAt) AS userModified, " +
+           "COALESCE(o.updatedAt, o.createdAt) AS organizerModified " +
+           "FROM Ticket t JOIN t.tournament tr LEFT JOIN t.user u LEFT JOIN tr.organizer o WHERE t.id = :id")
+    Optional<TicketVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Obtiene la versión agregada de todos los tickets
+     * @return Conteos que cambian con cualquier alta o transición de estado
+     */
+    @Query(AGGREGATE_VERSION_SELECT)
+    AggregateVersion findAggregateVersion();
+
+    /**
+     * Obtiene la versión agregada de los tickets de un usuario
+     * @param userId ID del usuario
+     * @return Conteos que cambian con cualquier alta o transición de estado
+     */
+    @Query(AGGREGATE_VERSION_SELECT + " WHERE t.user.id = :userId")
+    AggregateVersion findAggregateVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * Obtiene la versión agregada de los tickets de un torneo
+     * @param tournamentId ID del torneo
+     * @return Conteos que cambian con cualquier alta o transición de estado
+     */
+    @Query(AGGREGATE_VERSION_SELECT + " WHERE t.tournament.id = :tournamentId")
+    AggregateVersion findAggregateVersionByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Obtiene el siguiente lote de IDs de tickets activos de un torneo a partir de un cursor
+     * @param tournamentId ID del torneo
+     * @param afterId Último ID ya procesado
+     * @param pageable Tamaño del lote
+     * @return IDs ordenados ascendentemente
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.tournament.id = :tournamentId AND t.status = 'ACTIVE' " +
+           "AND t.id > :afterId ORDER BY t.id")
+    List<Long> findActiveIdsAfter(@Param("tournamentId") Long tournamentId,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    /**
+     * Expira en bloque los tickets indicados que sigan activos.
+     * El filtro por torneo limita el UPDATE a una sola partición de tickets.
+     * @param tournamentId ID del torneo
+     * @param ids IDs de los tickets
+     * @return Número de tickets expirados
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = 'EXPIRED' " +
+           "WHERE t.tournament.id = :tournamentId AND t.id IN :ids AND t.status = 'ACTIVE'")
+    int expireActiveByTournamentIdAndIdIn(@Param("tournamentId") Long tournamentId, @Param("ids") List<Long> ids);
+
+    /**
+     * Proyección con el estado de un ticket y la última modificación de sus asociaciones
+     */
+    interface TicketVersion {
+        Long getId();
+        Ticket.TicketStatus getStatus();
+        LocalDateTime getTournamentModified();
+        LocalDateTime getUserModified();
+        LocalDateTime getOrganizerModified();
+    }
+
+    /**
+     * Proyección con la versión agregada de un conjunto de tickets.
+     * Los tickets solo salen del estado ACTIVE, por lo que el número de activos
+     * junto con el total y el ID máximo identifican cualquier cambio de los tickets;
+     * las fechas máximas cubren los usuarios, torneos y organizadores serializados con ellos.
+     */
+    interface AggregateVersion {
+        Long getCount();
+        Long getMaxId();
+        Long getActiveCount();
+        LocalDateTime getTournamentModified();
+        LocalDateTime getUserModified();
+        LocalDateTime getOrganizerModified();
+    }
+}
@@ -4,11 +4,13 @@ import com.tournament.domain.entity.Tournament;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +18,10 @@ import java.util.Optional;
  * Repositorio de dominio para la entidad Tournament
  */
 @Repository
-public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+public interface TournamentRepository extends JpaRepository<Tournament, Long>, TournamentRepositoryCustom {
+
+    String AGGREGATE_VERSION_SELECT = "SELECT COUNT(t) AS count, MAX(COALESCE(t.updatedAt, t.createdAt)) AS lastModified, " +
+            "MAX(COALESCE(o.updatedAt, o.createdAt)) AS organizerModified FROM Tournament t LEFT JOIN t.organizer o";
 
     /**
      * Busca torneos por organizador
@@ -116,4 +121,164 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
      */
     @Query("SELECT t FROM Tournament t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Tournament> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    /**
+     * Obtiene las marcas de tiempo de un torneo sin cargar la entidad
+     * @param id ID del torneo
+     * @return Versión del torneo
+     */
+    @Query("SELECT t.id AS id, t.updatedAt AS updatedAt, t.createdAt AS createdAt, " +
+           "COALESCE(o.updatedAt, o.createdAt) AS organizerModified " +
+           "FROM Tournament t LEFT JOIN t.organizer o WHERE t.id = :id")
+    Optional<TournamentVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Obtiene la versión agregada de todos los torneos
+     * @return Número de torneos y última modificación
+     */
+    @Query(AGGREGATE_VERSION_SELECT)
+    AggregateVersion findAggregateVersion();
+
+    /**
+     * Obtiene la versión agregada de los torneos de un organizador
+     * @param organizerId ID del organizador
+     * @return Número de torneos y última modificación
+     */
+    @Query(AGGREGATE_VERSION_SELECT + " WHERE t.organizer.id = :organizerId")
+    AggregateVersion findAggregateVersionByOrganizerId(@Param("organizerId") Long organizerId);
+
+    /**
+     * Obtiene la versión agregada de los torneos abiertos para registro
+     * @param now Fecha actual
+     * @return Número de torneos y última modificación
+     */
+    @Query(AGGREGATE_VERSION_SELECT + " WHERE t.status = 'REGISTRATION_OPEN' " +
+           "AND t.currentParticipants < t.maxParticipants AND t.startDate > :now")
+    AggregateVersion findAggregateVersionOpenForRegistration(@Param("now") LocalDateTime now);
+
+    /**
+     * Busca los plazos de ciclo de vida que vencen antes de una fecha
+     * @param until Fecha límite
+     * @return Torneos con transición automática pendiente hasta esa fecha
+     */
+    @Query("SELECT t.id AS id, t.status AS status, t.startDate AS startDate, t.endDate AS endDate FROM Tournament t WHERE " +
+           "(t.status = 'REGISTRATION_OPEN' AND t.startDate <= :until) OR " +
+           "(t.status = 'REGISTRATION_CLOSED' AND t.startDate <= :until) OR " +
+           "(t.status = 'IN_PROGRESS' AND t.endDate <= :until)")
+    List<LifecycleDeadline> findLifecycleDeadlines(@Param("until") LocalDateTime until);
+
+    /**
+     * Obtiene los plazos de ciclo de vida de un conjunto de torneos
+     * @param ids IDs de los torneos
+     * @return Plazos de los torneos
+     */
+    @Query("SELECT t.id AS id, t.status AS status, t.startDate AS startDate, t.endDate AS endDate FROM Tournament t WHERE t.id IN :ids")
+    List<LifecycleDeadline> findLifecycleDeadlinesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bloquea los torneos en un estado cuya fecha de inicio ya llegó.
+     * Las filas bloqueadas por otra réplica se saltan, de modo que cada transición
+     * la aplica exactamente una instancia.
+     * @param ids IDs candidatos
+     * @param status Estado actual esperado
+     * @param threshold Fecha límite de inicio
+     * @return IDs bloqueados por esta transacción
+     */
+    @Query(value = "SELECT id FROM tournaments WHERE id IN (:ids) AND status = :status AND start_date <= :threshold " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockIdsStartingBy(@Param("ids") Collection<Long> ids,
+                                 @Param("status") String status,
+                                 @Param("threshold") LocalDateTime threshold);
+
+    /**
+     * Bloquea los torneos en un estado cuya fecha de fin ya llegó
+     * @param ids IDs candidatos
+     * @param status Estado actual esperado
+     * @param threshold Fecha límite de fin
+     * @return IDs bloqueados por esta transacción
+     */
+    @Query(value = "SELECT id FROM tournaments WHERE id IN (:ids) AND status = :status AND end_date <= :threshold " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockIdsEndingBy(@Param("ids") Collection<Long> ids,
+                               @Param("status") String status,
+                               @Param("threshold") LocalDateTime threshold);
+
+    /**
+     * Actualiza en bloque el estado de varios torneos
+     * @param ids IDs de los torneos
+     * @param status Nuevo estado
+     * @param now Fecha de actualización
+     * @return Número de torneos actualizados
+     */
+    @Modifying
+    @Query("UPDATE Tournament t SET t.status = :status, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") Tournament.TournamentStatus status,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Obtiene la ocupación de los torneos con registro abierto, de más a menos ocupados
+     * @param pageable Número de torneos a devolver
+     * @return Plazas ocupadas y totales por torneo
+     */
+    @Query("SELECT t.id AS id, COALESCE(t.currentParticipants, 0) AS taken, t.maxParticipants AS capacity " +
+           "FROM Tournament t WHERE t.status = 'REGISTRATION_OPEN' AND t.maxParticipants > 0 " +
+           "ORDER BY COALESCE(t.currentParticipants, 0) * 1.0 / t.maxParticipants DESC, t.id")
+    List<SeatOccupancy> findOpenSeatOccupancy(Pageable pageable);
+
+    /**
+     * Obtiene la ocupación agregada de todos los torneos con registro abierto
+     * @return Número de torneos y plazas ocupadas y totales
+     */
+    @Query("SELECT COUNT(t) AS tournaments, COALESCE(SUM(COALESCE(t.currentParticipants, 0)), 0) AS taken, " +
+           "COALESCE(SUM(t.maxParticipants), 0) AS capacity " +
+           "FROM Tournament t WHERE t.status = 'REGISTRATION_OPEN' AND t.maxParticipants > 0")
+    SeatTotals findOpenSeatTotals();
+
+    /**
+     * Proyección con las marcas de tiempo de un torneo y de su organizador, que se serializa con él
+     */
+    interface TournamentVersion {
+        Long getId();
+        LocalDateTime getUpdatedAt();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getOrganizerModified();
+    }
+
+    /**
+     * Proyección con la versión agregada de un conjunto de torneos
+     */
+    interface AggregateVersion {
+        Long getCount();
+        LocalDateTime getLastModified();
+        LocalDateTime getOrganizerModified();
+    }
+
+    /**
+     * Proyección con los plazos del ciclo de vida de un torneo
+     */
+    interface LifecycleDeadline {
+        Long getId();
+        Tournament.TournamentStatus getStatus();
+        LocalDateTime getStartDate();
+        LocalDateTime getEndDate();
+    }
+
+    /**
+     * Proyección con la ocupación de un torneo
+     */
+    interface SeatOccupancy {
+        Long getId();
+        Integer getTaken();
+        Integer getCapacity();
+    }
+
+    /**
+     * Proyección con la ocupación agregada de un conjunto de torneos
+     */
+    interface SeatTotals {
+        Long getTournaments();
+        Long getTaken();
+        Long getCapacity();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.tournament.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas de torneos que no se pueden expresar como métodos derivados de Spring Data
+ */
+public interface TournamentRepositoryCustom {
+
+    /**
+     * Obtiene únicamente las columnas indicadas de los torneos que cumplen el filtro.
+     * Las asociaciones solo se unen (join) si alguna ruta las atraviesa más allá de su ID.
+     * @param attributePaths Rutas de atributos, p. ej. "name" o "organizer.username"
+     * @param organizerId Filtrar por organizador (null para no filtrar)
+     * @param openAt Si no es null, solo torneos abiertos para registro en esa fecha
+     * @return Filas con las rutas solicitadas como claves
+     */
+    List<Map<String, Object>> findProjected(Collection<String> attributePaths, Long organizerId, LocalDateTime openAt);
+}
@@ -0,0 +1,89 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.Tournament;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación de las consultas personalizadas de torneos con Criteria API
+ */
+public class TournamentRepositoryCustomImpl implements TournamentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjected(Collection<String> attributePaths, Long organizerId, LocalDateTime openAt) {
+        List<String> paths = new ArrayList<>(attributePaths);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tournament> root = query.from(Tournament.class);
+
+        // Un join por asociación, solo si se pide algo más que su clave foránea
+        Map<String, Join<Tournament, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(paths.size());
+        for (String attributePath : paths) {
+            selections.add(resolvePath(root, joins, attributePath));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (organizerId != null) {
+            predicates.add(cb.equal(root.get("organizer").get("id"), organizerId));
+        }
+        if (openAt != null) {
+            predicates.add(cb.equal(root.get("status"), Tournament.TournamentStatus.REGISTRATION_OPEN));
+            predicates.add(cb.lessThan(root.<Integer>get("currentParticipants"), root.<Integer>get("maxParticipants")));
+            predicates.add(cb.greaterThan(root.<LocalDateTime>get("startDate"), openAt));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < paths.size(); i++) {
+                row.put(paths.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Resuelve una ruta "atributo" o "asociacion.atributo" sobre la raíz
+     */
+    private Path<Object> resolvePath(Root<Tournament> root, Map<String, Join<Tournament, ?>> joins, String attributePath) {
+        int dot = attributePath.indexOf('.');
+        if (dot < 0) {
+            return root.get(attributePath);
+        }
+
+        String association = attributePath.substring(0, dot);
+        String attribute = attributePath.substring(dot + 1);
+        if ("id".equals(attribute)) {
+            // La clave foránea está en la propia tabla de torneos: no requiere join
+            return root.get(association).get(attribute);
+        }
+        return joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT)).get(attribute);
+    }
+}
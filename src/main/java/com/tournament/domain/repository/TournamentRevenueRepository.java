@@ -0,0 +1,73 @@
+package com.tournament.domain.repository;
+
+import com.tournament.domain.entity.OrganizerRevenue;
+import com.tournament.domain.entity.TournamentRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de dominio para la entidad TournamentRevenue
+ */
+@Repository
+public interface TournamentRevenueRepository extends JpaRepository<TournamentRevenue, Long> {
+
+    /**
+     * Obtiene los agregados de los torneos de un organizador
+     * @param organizerId ID del organizador
+     * @return Agregados ordenados por torneo
+     */
+    List<TournamentRevenue> findByOrganizerIdOrderByTournamentId(Long organizerId);
+
+    /**
+     * Suma los agregados de los torneos de un organizador (índice por organizer_id)
+     * @param organizerId ID del organizador
+     * @return Ingresos del organizador, vacío si no tiene torneos
+     */
+    @Query("SELECT new com.tournament.domain.entity.OrganizerRevenue(r.organizerId, SUM(r.ticketsSold), " +
+           "SUM(r.ticketsRefunded), SUM(r.grossAmount), SUM(r.feeAmount), SUM(r.refundedAmount), " +
+           "SUM(r.refundedFeeAmount), MAX(r.updatedAt)) " +
+           "FROM TournamentRevenue r WHERE r.organizerId = :organizerId GROUP BY r.organizerId")
+    Optional<OrganizerRevenue> sumByOrganizerId(@Param("organizerId") Long organizerId);
+
+    /**
+     * Suma una venta al agregado del torneo
+     * @param tournamentId ID del torneo
+     * @param amount Importe total del ticket
+     * @param fee Comisión del ticket
+     * @param updatedAt Fecha de actualización
+     * @return Filas actualizadas (0 si el torneo no tiene agregado)
+     */
+    @Modifying
+    @Query("UPDATE TournamentRevenue r SET r.ticketsSold = r.ticketsSold + 1, " +
+           "r.grossAmount = r.grossAmount + :amount, r.feeAmount = r.feeAmount + :fee, " +
+           "r.updatedAt = :updatedAt WHERE r.tournamentId = :tournamentId")
+    int addSale(@Param("tournamentId") Long tournamentId,
+                @Param("amount") BigDecimal amount,
+                @Param("fee") BigDecimal fee,
+                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Suma una devolución al agregado del torneo
+     * @param tournamentId ID del torneo
+     * @param amount Importe total devuelto
+     * @param fee Comisión devuelta
+     * @param updatedAt Fecha de actualización
+     * @return Filas actualizadas (0 si el torneo no tiene agregado)
+     */
+    @Modifying
+    @Query("UPDATE TournamentRevenue r SET r.ticketsRefunded = r.ticketsRefunded + 1, " +
+           "r.refundedAmount = r.refundedAmount + :amount, r.refundedFeeAmount = r.refundedFeeAmount + :fee, " +
+           "r.updatedAt = :updatedAt WHERE r.tournamentId = :tournamentId")
+    int addRefund(@Param("tournamentId") Long tournamentId,
+                  @Param("amount") BigDecimal amount,
+                  @Param("fee") BigDecimal fee,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+}
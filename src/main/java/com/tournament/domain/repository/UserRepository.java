@@ -6,8 +6,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repositorio de dominio para la entidad User
@@ -29,6 +31,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Devuelve los nombres de usuario de la lista que ya existen
+     * @param usernames Nombres de usuario a comprobar
+     * @return Nombres de usuario existentes
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Devuelve los emails de la lista que ya existen
+     * @param emails Emails a comprobar
+     * @return Emails existentes
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     /**
      * Busca usuarios activos por rol
      * @param role Rol del usuario
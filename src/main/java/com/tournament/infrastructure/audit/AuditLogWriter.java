@@ -0,0 +1,314 @@
+package com.tournament.infrastructure.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.domain.event.AuditEvent;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escritor asíncrono de audit_logs.
+ *
+ * Los eventos de auditoría se recogen tras el commit de la transacción que los publica, se
+ * enriquecen con el usuario, la IP y el user agent de la petición en curso y se encolan en un
+ * buffer circular sin bloqueos. Un único hilo los vacía en INSERT multi-fila de hasta batch-size
+ * filas, de modo que la petición no espera nunca a la base de datos.
+ *
+ * Con el buffer lleno se aplica la política configurada: DROP descarta el evento y BLOCK espera
+ * hasta block-timeout antes de descartarlo. Los descartes, el tamaño del buffer y el retraso
+ * entre el evento y su escritura se publican como métricas (audit.events.dropped,
+ * audit.buffer.size, audit.lag). Al parar la aplicación el buffer se vacía antes de cerrar.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "tournament.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_logs " +
+            "(user_id, action, entity_type, entity_id, details, ip_address, user_agent, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS inet), ?, ?)";
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+    // El protocolo de PostgreSQL admite 32767 parámetros por sentencia y cada fila usa 8
+    private static final int MAX_BATCH_ROWS = 32767 / 8;
+
+    private final AuditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MpscRingBuffer<AuditRecord> buffer;
+    private final int batchSize;
+    private final String fullBatchSql;
+
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedTimeout;
+    private final Counter droppedError;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(AuditProperties properties,
+                          JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.batchSize = Math.max(1, Math.min(properties.getBatchSize(), MAX_BATCH_ROWS));
+        this.fullBatchSql = insertSql(batchSize);
+
+        this.written = Counter.builder("audit.events.written")
+                .description("Eventos de auditoría escritos en audit_logs")
+                .register(meterRegistry);
+        this.droppedFull = dropped(meterRegistry, "full");
+        this.droppedTimeout = dropped(meterRegistry, "timeout");
+        this.droppedError = dropped(meterRegistry, "error");
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Duración de cada INSERT multi-fila de auditoría")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("audit.lag")
+                .description("Tiempo desde que se encola el evento más antiguo de un lote hasta su escritura")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, MpscRingBuffer::size)
+                .description("Eventos de auditoría pendientes de escribir")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Escritor de auditoría iniciado: buffer de {} eventos, lotes de {}, política {}",
+                buffer.capacity(), batchSize, properties.getOverflowPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(properties.getShutdownTimeout().toMillis());
+        if (buffer.size() > 0) {
+            log.warn("Eventos de auditoría sin escribir al parar: {}", buffer.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuditEvent(AuditEvent event) {
+        record(event);
+    }
+
+    /**
+     * Los cambios de estado de torneos, manuales o del planificador, se auditan desde su propio evento
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentStatusChanged(TournamentStatusChangedEvent event) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("previousStatus", event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null);
+        details.put("newStatus", event.getNewStatus().name());
+        record(new AuditEvent(null, "TOURNAMENT_STATUS_CHANGED", "TOURNAMENT", event.getTournamentId(),
+                details, event.getOccurredAt()));
+    }
+
+    /**
+     * Encola un evento según la política de desbordamiento
+     * @return true si se encoló
+     */
+    public boolean record(AuditEvent event) {
+        AuditRecord record = enrich(event);
+        if (buffer.offer(record)) {
+            // Lote completo: el escritor no espera al siguiente flush-interval
+            if (buffer.size() == batchSize) {
+                LockSupport.unpark(writerThread);
+            }
+            return true;
+        }
+
+        if (properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+            LockSupport.unpark(writerThread);
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (buffer.offer(record)) {
+                    return true;
+                }
+            }
+            droppedTimeout.increment();
+        } else {
+            droppedFull.increment();
+        }
+        log.debug("Evento de auditoría descartado por buffer lleno: {}", event.getAction());
+        return false;
+    }
+
+    private void runWriter() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        while (true) {
+            buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (buffer.size() >= batchSize) {
+                continue;
+            }
+            if (!running) {
+                if (buffer.size() == 0) {
+                    return;
+                }
+                continue;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    /**
+     * Escribe un lote con un único INSERT multi-fila; si falla, el lote se descarta y se contabiliza
+     */
+    void write(List<AuditRecord> batch) {
+        String sql = batch.size() == batchSize ? fullBatchSql : insertSql(batch.size());
+        long started = System.nanoTime();
+        try {
+            jdbcTemplate.update(sql, ps -> bind(ps, batch));
+            written.increment(batch.size());
+            lagTimer.record(started - batch.get(0).enqueuedNanos(), TimeUnit.NANOSECONDS);
+        } catch (DataAccessException e) {
+            droppedError.increment(batch.size());
+            log.error("Error escribiendo {} eventos de auditoría: {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void bind(PreparedStatement ps, List<AuditRecord> batch) throws SQLException {
+        int index = 1;
+        for (AuditRecord record : batch) {
+            ps.setObject(index++, record.userId(), Types.BIGINT);
+            ps.setString(index++, record.action());
+            ps.setString(index++, record.entityType());
+            ps.setObject(index++, record.entityId(), Types.BIGINT);
+            ps.setString(index++, toJson(record.details()));
+            ps.setString(index++, record.ipAddress());
+            ps.setString(index++, record.userAgent());
+            ps.setTimestamp(index++, Timestamp.valueOf(record.createdAt()));
+        }
+    }
+
+    private String toJson(Map<String, Object> details) {
+        if (details == null || details.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            log.warn("Detalles de auditoría no serializables: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Completa el evento con los datos de la petición: debe ejecutarse en el hilo que la atiende
+     */
+    private AuditRecord enrich(AuditEvent event) {
+        Map<String, Object> details = event.getDetails();
+        String actor = currentUser();
+        if (actor != null) {
+            details = new HashMap<>(details != null ? details : Map.of());
+            details.put("actor", actor);
+        }
+
+        String ipAddress = null;
+        String userAgent = null;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+            if (userAgent != null && userAgent.length() > MAX_USER_AGENT_LENGTH) {
+                userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+            }
+        }
+
+        return new AuditRecord(event.getUserId(), event.getAction(), event.getEntityType(), event.getEntityId(),
+                details, ipAddress, userAgent,
+                event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now(),
+                System.nanoTime());
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("audit.events.dropped")
+                .description("Eventos de auditoría descartados")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Evento enriquecido pendiente de escribir
+     */
+    record AuditRecord(Long userId,
+                       String action,
+                       String entityType,
+                       Long entityId,
+                       Map<String, Object> details,
+                       String ipAddress,
+                       String userAgent,
+                       LocalDateTime createdAt,
+                       long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.tournament.infrastructure.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del registro de auditoría (tournament.audit.* en application.yml)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "tournament.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Eventos pendientes en memoria; potencia de dos
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * Filas por INSERT multi-fila
+     */
+    private int batchSize = 500;
+
+    /**
+     * Espera máxima del escritor cuando no hay un lote completo
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * Espera máxima de la petición con la política BLOCK antes de descartar el evento
+     */
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    /**
+     * Tiempo para vaciar el buffer al parar la aplicación
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    public enum OverflowPolicy {
+        /**
+         * Descarta el evento: la latencia de la petición no depende de la base de datos
+         */
+        DROP,
+        /**
+         * Espera hasta blockTimeout a que el escritor libere espacio y después descarta
+         */
+        BLOCK
+    }
+}
@@ -0,0 +1,95 @@
+package com.tournament.infrastructure.audit;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular acotado sin bloqueos, con varios productores y un único consumidor.
+ *
+ * Cada celda lleva un número de secuencia que indica si está libre para la vuelta actual del
+ * productor o ya publicada para el consumidor, de modo que los productores solo compiten en un
+ * CAS sobre la cola y el consumidor no usa CAS. offer() nunca espera: con el buffer lleno
+ * devuelve false y la política de desbordamiento la decide quien llama.
+ */
+final class MpscRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de dos: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Añade un elemento; seguro desde cualquier hilo
+     * @return false si el buffer está lleno
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Extrae hasta max elementos; solo desde el hilo consumidor
+     * @return Número de elementos extraídos
+     */
+    int drainTo(Collection<? super T> sink, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            sink.add(elements.get(index));
+            elements.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    /**
+     * Tamaño aproximado, para métricas
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
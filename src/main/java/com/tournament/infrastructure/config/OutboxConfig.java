@@ -0,0 +1,44 @@
+package com.tournament.infrastructure.config;
+
+import com.tournament.infrastructure.outbox.InProcessOutboxPublisher;
+import com.tournament.infrastructure.outbox.OutboxPublisher;
+import com.tournament.infrastructure.outbox.RabbitOutboxPublisher;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Selección del publicador del outbox (tournament.outbox.publisher: in-process | rabbit)
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tournament.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+    public OutboxPublisher inProcessOutboxPublisher(ApplicationEventPublisher eventPublisher) {
+        return new InProcessOutboxPublisher(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tournament.outbox.publisher", havingValue = "rabbit")
+    public OutboxPublisher rabbitOutboxPublisher(RabbitTemplate rabbitTemplate,
+                                                 @Value("${tournament.outbox.rabbit.exchange:tournament.events}") String exchange,
+                                                 @Value("${tournament.outbox.rabbit.confirm-timeout:PT5S}") Duration confirmTimeout) {
+        return new RabbitOutboxPublisher(rabbitTemplate, exchange, confirmTimeout);
+    }
+
+    /**
+     * Exchange de eventos de dominio, declarado por RabbitAdmin al conectar
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tournament.outbox.publisher", havingValue = "rabbit")
+    public TopicExchange outboxExchange(@Value("${tournament.outbox.rabbit.exchange:tournament.events}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+}
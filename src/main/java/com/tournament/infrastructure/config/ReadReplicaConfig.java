@@ -0,0 +1,85 @@
+package com.tournament.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enrutado de lecturas a réplicas (tournament.read-replicas.enabled=true).
+ *
+ * Sustituye al DataSource autoconfigurado: el primario se construye con spring.datasource.* y
+ * spring.datasource.hikari.*, y cada réplica con su propio pool de solo lectura. JPA, Flyway y
+ * JdbcTemplate usan el DataSource @Primary, que enruta según la transacción en curso.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tournament.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties dataSourceProperties,
+                                                        ReadReplicaProperties replicaProperties,
+                                                        MeterRegistry meterRegistry) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getUrls().size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name,
+                    replicaDataSource(name, replicaProperties.getUrls().get(i), dataSourceProperties, replicaProperties)));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getValidationTimeout(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties replicaProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(replicaProperties.getReadYourWritesWindow()));
+        // Envuelve toda la petición: la cookie debe añadirse antes de que se confirme la respuesta
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(String name,
+                                                      String url,
+                                                      DataSourceProperties dataSourceProperties,
+                                                      ReadReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url.trim());
+        dataSource.setUsername(dataSourceProperties.determineUsername());
+        dataSource.setPassword(dataSourceProperties.determinePassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // Una réplica caída no impide arrancar: queda fuera de servicio hasta que responda
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
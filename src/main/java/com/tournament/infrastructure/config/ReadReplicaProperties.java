@@ -0,0 +1,40 @@
+package com.tournament.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura (tournament.read-replicas.* en application.yml)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "tournament.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * URLs JDBC de las réplicas; usuario y contraseña son los de spring.datasource
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * Espera máxima por una conexión de réplica antes de recurrir al primario
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Tras una escritura confirmada, las lecturas del mismo cliente (cookie rw-primary-until) van
+     * al primario durante este tiempo
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration validationTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,188 @@
+package com.tournament.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas y el resto al primario.
+ *
+ * Debe envolverse en un LazyConnectionDataSourceProxy: la conexión real se pide al ejecutar la
+ * primera sentencia, cuando el gestor de transacciones ya ha marcado la transacción como
+ * readOnly. Las réplicas se eligen en round-robin entre las sanas; una réplica que falla al
+ * dar conexión se marca como caída y la petición continúa en el primario hasta que la
+ * comprobación periódica la recupera.
+ *
+ * Lectura de las propias escrituras: tras confirmar una transacción de escritura dentro de una
+ * petición, ReadYourWritesFilter marca al cliente con una cookie y sus lecturas van al primario
+ * durante la ventana configurada, que debe cubrir el retraso de replicación habitual.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final Counter fallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<Replica> replicas,
+                                      Duration validationTimeout,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+
+        this.primaryReads = Counter.builder("datasource.reads")
+                .description("Transacciones de solo lectura por destino")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.reads")
+                .description("Transacciones de solo lectura por destino")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Lecturas desviadas al primario por fallo de una réplica")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replicas.healthy", this.replicas,
+                        list -> list.stream().filter(Replica::isHealthy).count())
+                .description("Réplicas de lectura disponibles")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite();
+            return primary.getConnection();
+        }
+
+        if (ReadYourWritesFilter.requiresPrimary()) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        try {
+            Connection connection = replica.dataSource().getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Comprueba las réplicas
+     */
+    @Scheduled(fixedDelayString = "${tournament.read-replicas.health-check-interval-ms:10000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown("conexión no válida");
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Marca la petición actual como escritora cuando la transacción se confirme
+     */
+    private void registerWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesFilter.recordWrite();
+            }
+        });
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Réplica de lectura con su estado de salud
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Réplica de lectura {} disponible de nuevo", name);
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Réplica de lectura {} fuera de servicio: {}", name, reason);
+            }
+        }
+    }
+}
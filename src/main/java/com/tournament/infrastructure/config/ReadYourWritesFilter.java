@@ -0,0 +1,105 @@
+package com.tournament.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Marca de lectura de las propias escrituras para ReadWriteRoutingDataSource.
+ *
+ * Cuando una petición confirma una transacción de escritura, la respuesta lleva una cookie con el
+ * instante hasta el que ese cliente debe leer del primario. Las peticiones que la presentan, y el
+ * resto de la propia petición que escribió, leen del primario hasta entonces. No depende de la
+ * autenticación ni del estado de la instancia, así que vale entre réplicas de la aplicación; un
+ * valor más allá de la ventana configurada se ignora, para que un cliente no pueda fijar lecturas
+ * en el primario indefinidamente.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "rw-primary-until";
+
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CURRENT.set(new RequestState(response, windowMillis, primaryUntil(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Indica si las lecturas de la petición actual deben ir al primario
+     * @return true si la petición escribió o presenta una marca vigente
+     */
+    static boolean requiresPrimary() {
+        RequestState state = CURRENT.get();
+        return state != null && state.primaryUntil > System.currentTimeMillis();
+    }
+
+    /**
+     * Registra una escritura confirmada en la petición actual; fuera de una petición no hace nada
+     */
+    static void recordWrite() {
+        RequestState state = CURRENT.get();
+        if (state == null || state.windowMillis <= 0) return;
+
+        state.primaryUntil = System.currentTimeMillis() + state.windowMillis;
+        if (!state.response.isCommitted()) {
+            state.response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(state.primaryUntil))
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .maxAge(Duration.ofMillis(state.windowMillis).plusSeconds(1).toSeconds())
+                    .build()
+                    .toString());
+        }
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return 0;
+
+        for (Cookie cookie : cookies) {
+            if (!COOKIE.equals(cookie.getName())) continue;
+            try {
+                long until = Long.parseLong(cookie.getValue());
+                return until - System.currentTimeMillis() <= windowMillis ? until : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static final class RequestState {
+
+        private final HttpServletResponse response;
+        private final long windowMillis;
+        private long primaryUntil;
+
+        RequestState(HttpServletResponse response, long windowMillis, long primaryUntil) {
+            this.response = response;
+            this.windowMillis = windowMillis;
+            this.primaryUntil = primaryUntil;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.tournament.infrastructure.config;
+
+import com.tournament.infrastructure.monitoring.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+/**
+ * Registro de consultas lentas en todos los repositorios de Spring Data.
+ *
+ * Igual que la instrumentación de métricas de Spring Boot, se engancha a cada factoría de
+ * repositorios y añade un interceptor al proxy generado, de modo que cubre los métodos derivados,
+ * las @Query y los fragmentos personalizados sin tocar las interfaces.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tournament.monitoring.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMonitoringConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(MeterRegistry meterRegistry,
+                                     @Value("${tournament.monitoring.slow-query.threshold:PT0.2S}") Duration threshold,
+                                     @Value("${tournament.monitoring.slow-query.sample-rate:0.25}") double sampleRate) {
+        return new SlowQueryLog(meterRegistry, threshold, sampleRate);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryLogRepositoryPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    slowQueryLog.getObject().interceptorFor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
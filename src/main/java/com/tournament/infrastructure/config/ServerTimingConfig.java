@@ -0,0 +1,75 @@
+package com.tournament.infrastructure.config;
+
+import com.tournament.infrastructure.monitoring.ServerTimingFilter;
+import com.tournament.infrastructure.monitoring.TimedDataSource;
+import com.tournament.infrastructure.monitoring.TimedHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Desglose de tiempos por petición (cabecera Server-Timing y log muestreado).
+ *
+ * Desactivado por defecto: sin esta configuración no hay filtro ni interceptores y los tramos
+ * del código de aplicación no miden nada. Activado, añade el tramo "db" (sentencias JDBC, commit
+ * y rollback, medidos en el DataSource de la aplicación) y los de serialización de cuerpos
+ * "json", "cbor" y "smile" (los convertidores Jackson, envueltos por delegación);
+ * TicketService aporta sus propios tramos.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tournament.monitoring.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${tournament.monitoring.server-timing.header:true}") boolean exposeHeader,
+            @Value("${tournament.monitoring.server-timing.log-sample-rate:0.01}") double logSampleRate,
+            @Value("${tournament.monitoring.server-timing.log-threshold:PT1S}") Duration logThreshold) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(exposeHeader, logSampleRate, logThreshold));
+        // Antes que la seguridad y el límite de peticiones, para que el total los incluya
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor serverTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Solo el DataSource de la aplicación: los pools que enruta ReadReplicaConfig ya pasan por él
+                return bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                        ? new TimedDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof AbstractJackson2HttpMessageConverter jackson
+                ? new TimedHttpMessageConverter(jackson, spanName(jackson))
+                : converter);
+    }
+
+    private static String spanName(AbstractJackson2HttpMessageConverter converter) {
+        if (converter instanceof MappingJackson2CborHttpMessageConverter) return "cbor";
+        if (converter instanceof MappingJackson2SmileHttpMessageConverter) return "smile";
+        return "json";
+    }
+}
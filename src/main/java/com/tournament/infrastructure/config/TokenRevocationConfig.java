@@ -0,0 +1,28 @@
+package com.tournament.infrastructure.config;
+
+import com.tournament.domain.repository.RevokedTokenRepository;
+import com.tournament.infrastructure.security.InMemoryRevokedTokenStore;
+import com.tournament.infrastructure.security.JpaRevokedTokenStore;
+import com.tournament.infrastructure.security.RevokedTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selección del almacén de tokens revocados (jwt.revocation.store: memory | jpa)
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+    public RevokedTokenStore inMemoryRevokedTokenStore() {
+        return new InMemoryRevokedTokenStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "jpa")
+    public RevokedTokenStore jpaRevokedTokenStore(RevokedTokenRepository revokedTokenRepository) {
+        return new JpaRevokedTokenStore(revokedTokenRepository);
+    }
+}
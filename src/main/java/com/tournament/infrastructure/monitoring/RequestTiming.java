@@ -0,0 +1,117 @@
+package com.tournament.infrastructure.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Desglose de tiempos de una petición por tramos (base de datos, generación de códigos,
+ * serialización...).
+ *
+ * ServerTimingFilter abre un desglose por petición en el hilo que la atiende; el código
+ * instrumentado mide cada tramo con try-with-resources sobre span(nombre). Los tramos con el
+ * mismo nombre se acumulan (duración total y número de llamadas) y pueden anidarse: el tiempo de
+ * "db" dentro de "codes" cuenta en ambos. Sin desglose activo, span() devuelve un tramo vacío
+ * compartido, de modo que con la función desactivada el coste es una lectura de ThreadLocal.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = () -> { };
+
+    private final long startedNanos = System.nanoTime();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Inicia el desglose del hilo actual
+     * @return Desglose abierto; debe cerrarse con end()
+     */
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Desglose activo en el hilo actual, o null si no hay ninguno
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Abre un tramo del desglose activo
+     * @param name Nombre del tramo (token de Server-Timing: letras, dígitos, '.', '-', '_')
+     * @return Tramo que se cierra con close(); sin desglose activo no mide nada
+     */
+    public static Span span(String name) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) return NOOP;
+        long started = System.nanoTime();
+        return () -> timing.record(name, System.nanoTime() - started);
+    }
+
+    /**
+     * Cierra el desglose del hilo actual
+     */
+    public void end() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    void record(String name, long elapsedNanos) {
+        Entry entry = entries.computeIfAbsent(name, key -> new Entry());
+        entry.nanos += elapsedNanos;
+        entry.count++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    /**
+     * Valor de la cabecera Server-Timing: un elemento por tramo y el total de la petición
+     * @return p. ej. db;dur=12.4;desc="3 calls", json;dur=1.1, total;dur=15.0
+     */
+    public String toServerTiming() {
+        StringJoiner header = new StringJoiner(", ");
+        entries.forEach((name, entry) -> header.add(name + ";dur=" + millis(entry.nanos)
+                + (entry.count > 1 ? ";desc=\"" + entry.count + " calls\"" : "")));
+        header.add("total;dur=" + millis(elapsedNanos()));
+        return header.toString();
+    }
+
+    /**
+     * Tramos en formato clave=valor para el log: db=12.4ms/3 json=1.1ms
+     */
+    public String toLogFields() {
+        StringJoiner fields = new StringJoiner(" ");
+        entries.forEach((name, entry) -> fields.add(name + "=" + millis(entry.nanos) + "ms/" + entry.count));
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Tramo en curso; close() no lanza excepciones comprobadas
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Entry {
+        private long nanos;
+        private int count;
+    }
+}
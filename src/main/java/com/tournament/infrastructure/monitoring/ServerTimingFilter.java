@@ -0,0 +1,67 @@
+package com.tournament.infrastructure.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica el desglose de tiempos de cada petición (RequestTiming).
+ *
+ * La serialización de la respuesta forma parte del desglose, así que el cuerpo se retiene en
+ * memoria hasta que termina la petición y la cabecera Server-Timing se añade justo antes de
+ * enviarlo. Además, una fracción log-sample-rate de las peticiones, y todas las que superan
+ * log-threshold, se registran en el log como una línea clave=valor.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final boolean exposeHeader;
+    private final double logSampleRate;
+    private final long logThresholdNanos;
+
+    public ServerTimingFilter(boolean exposeHeader, double logSampleRate, Duration logThreshold) {
+        this.exposeHeader = exposeHeader;
+        this.logSampleRate = logSampleRate;
+        this.logThresholdNanos = logThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = exposeHeader ? new ContentCachingResponseWrapper(response) : null;
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            timing.end();
+            if (buffered != null) {
+                if (!buffered.isCommitted()) {
+                    buffered.setHeader(HEADER, timing.toServerTiming());
+                }
+                buffered.copyBodyToResponse();
+            }
+            logIfSampled(request, response, timing);
+        }
+    }
+
+    private void logIfSampled(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        long elapsed = timing.elapsedNanos();
+        if (elapsed < logThresholdNanos && ThreadLocalRandom.current().nextDouble() >= logSampleRate) return;
+
+        log.info("request_timing method={} path={} status={} total={}ms {}", request.getMethod(),
+                request.getRequestURI(), response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                timing.toLogFields());
+    }
+}
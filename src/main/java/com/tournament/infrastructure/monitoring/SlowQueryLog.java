@@ -0,0 +1,109 @@
+package com.tournament.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro muestreado de invocaciones lentas de repositorios.
+ *
+ * Las latencias de todos los métodos ya las mide Spring Boot (spring.data.repository.invocations,
+ * con histograma por repositorio y método); este registro añade, para las invocaciones que
+ * superan el umbral, una línea de log con la forma de los parámetros (tipos, tamaños de
+ * colecciones y longitudes de cadenas, nunca sus valores) y un contador por método. Una fracción
+ * sample-rate de las invocaciones lentas se registra en el log; el contador las cuenta todas.
+ */
+@Slf4j
+public class SlowQueryLog {
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public SlowQueryLog(MeterRegistry meterRegistry, Duration threshold, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Crea el interceptor del proxy de un repositorio
+     * @param repositoryInterface Interfaz del repositorio
+     * @return Interceptor que mide cada invocación
+     */
+    public MethodInterceptor interceptorFor(Class<?> repositoryInterface) {
+        String repository = repositoryInterface.getSimpleName();
+        return invocation -> {
+            long started = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                if (elapsed >= thresholdNanos) {
+                    onSlowInvocation(repository, invocation.getMethod(), invocation.getArguments(), elapsed);
+                }
+            }
+        };
+    }
+
+    void onSlowInvocation(String repository, Method method, Object[] arguments, long elapsedNanos) {
+        Counter.builder("repository.slow.invocations")
+                .description("Invocaciones de repositorio por encima del umbral de consulta lenta")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry)
+                .increment();
+
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.warn("Consulta lenta {}.{}({}) en {} ms", repository, method.getName(), describe(arguments),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * Describe la forma de los parámetros sin exponer sus valores
+     */
+    static String describe(Object[] arguments) {
+        if (arguments == null) return "";
+        StringJoiner shapes = new StringJoiner(", ");
+        for (Object argument : arguments) {
+            shapes.add(shapeOf(argument));
+        }
+        return shapes.toString();
+    }
+
+    static String shapeOf(Object argument) {
+        if (argument == null) return "null";
+        if (argument instanceof CharSequence text) return "String(" + text.length() + ")";
+        if (argument instanceof List<?> list) return "List[" + list.size() + "]";
+        if (argument instanceof Set<?> set) return "Set[" + set.size() + "]";
+        if (argument instanceof Collection<?> collection) return "Collection[" + collection.size() + "]";
+        if (argument instanceof Map<?, ?> map) return "Map{" + map.size() + "}";
+        if (argument.getClass().isArray()) {
+            return argument.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(argument) + "]";
+        }
+        if (argument instanceof Pageable pageable) {
+            return pageable.isPaged()
+                    ? "Pageable(page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize() + ", sort=" + pageable.getSort().stream().count() + ")"
+                    : "Pageable(unpaged)";
+        }
+        if (argument instanceof Sort sort) return "Sort(" + sort.stream().count() + ")";
+        // Los enumerados determinan el plan (p. ej. estado ACTIVE frente a CANCELLED) y no son datos personales
+        if (argument instanceof Enum<?> constant) return constant.getDeclaringClass().getSimpleName() + "." + constant.name();
+        return argument.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,97 @@
+package com.tournament.infrastructure.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mide en el tramo "db" de RequestTiming todo el trabajo JDBC de la petición.
+ *
+ * Se mide cada ejecución de sentencia (execute*, incluidos los lotes) y cada commit o rollback
+ * de la conexión, de modo que cuentan también los INSERT/UPDATE que Hibernate emite al hacer
+ * flush y la confirmación de la transacción, que quedan fuera de las llamadas a repositorios.
+ * Sin desglose activo cada llamada cuesta una lectura de ThreadLocal.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    static final String SPAN = "db";
+
+    public TimedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection timed(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            switch (method.getName()) {
+                case "commit", "rollback" -> {
+                    try (RequestTiming.Span span = RequestTiming.span(SPAN)) {
+                        return invoke(target, method, args);
+                    }
+                }
+                case "createStatement", "prepareStatement", "prepareCall" -> {
+                    return timedStatement(method.getReturnType(), invoke(target, method, args));
+                }
+                default -> {
+                    return invoke(target, method, args);
+                }
+            }
+        });
+    }
+
+    private static Object timedStatement(Class<?> type, Object statement) {
+        Class<? extends Statement> statementType = type == CallableStatement.class ? CallableStatement.class
+                : type == PreparedStatement.class ? PreparedStatement.class
+                : Statement.class;
+        return proxy(statementType, statement, (target, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            try (RequestTiming.Span span = RequestTiming.span(SPAN)) {
+                return invoke(target, method, args);
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, TargetHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler {
+
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,94 @@
+package com.tournament.infrastructure.monitoring;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Convertidor que mide en un tramo de RequestTiming las lecturas y escrituras de otro.
+ *
+ * Delega todo en el convertidor original, así que conserva su ObjectMapper, tipos de medio,
+ * charset y cualquier otra configuración; solo añade el tramo alrededor de read y write.
+ */
+public class TimedHttpMessageConverter implements GenericHttpMessageConverter<Object> {
+
+    private final GenericHttpMessageConverter<Object> delegate;
+    private final String spanName;
+
+    public TimedHttpMessageConverter(GenericHttpMessageConverter<Object> delegate, String spanName) {
+        this.delegate = delegate;
+        this.spanName = spanName;
+    }
+
+    public GenericHttpMessageConverter<Object> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return delegate.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (RequestTiming.Span span = RequestTiming.span(spanName)) {
+            return delegate.read(clazz, inputMessage);
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try (RequestTiming.Span span = RequestTiming.span(spanName)) {
+            return delegate.read(type, contextClass, inputMessage);
+        }
+    }
+
+    @Override
+    public void write(Object object, MediaType contentType, HttpOutputMessage outputMessage) throws IOException {
+        try (RequestTiming.Span span = RequestTiming.span(spanName)) {
+            delegate.write(object, contentType, outputMessage);
+        }
+    }
+
+    @Override
+    public void write(Object object, Type type, MediaType contentType, HttpOutputMessage outputMessage) throws IOException {
+        try (RequestTiming.Span span = RequestTiming.span(spanName)) {
+            delegate.write(object, type, contentType, outputMessage);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Timed(" + spanName + ") " + delegate;
+    }
+}
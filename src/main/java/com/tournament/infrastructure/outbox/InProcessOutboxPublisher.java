@@ -0,0 +1,21 @@
+package com.tournament.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publicador dentro del proceso: reemite cada mensaje como evento de Spring para los
+ * @EventListener de OutboxMessage. Sirve para desarrollo y tests sin broker.
+ */
+@RequiredArgsConstructor
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tournament.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento del outbox tal como se entrega al publicador. El id es estable entre reintentos
+ * y sirve a los consumidores para descartar duplicados.
+ */
+public record OutboxMessage(Long id,
+                            String aggregateType,
+                            Long aggregateId,
+                            String eventType,
+                            String payload,
+                            LocalDateTime createdAt) {
+}
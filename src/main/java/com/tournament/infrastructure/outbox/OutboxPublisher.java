@@ -0,0 +1,16 @@
+package com.tournament.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox (tournament.outbox.publisher: in-process | rabbit)
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publica un lote y no vuelve hasta que el destino lo ha aceptado
+     * @param messages Mensajes en orden de creación
+     * @throws RuntimeException si no se puede confirmar el lote completo; el relay lo reintentará
+     */
+    void publish(List<OutboxMessage> messages);
+}
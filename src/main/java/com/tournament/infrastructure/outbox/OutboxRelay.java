@@ -0,0 +1,229 @@
+package com.tournament.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay del outbox transaccional.
+ *
+ * Cada pasada reclama hasta batch-size eventos vencidos en una transacción corta: los selecciona
+ * con FOR UPDATE SKIP LOCKED, de modo que varias instancias pueden drenar la tabla a la vez sin
+ * repartirse los mismos eventos, y adelanta su next_attempt_at al fin de una concesión (lease).
+ * La publicación, que puede esperar confirmaciones del broker, se hace fuera de toda transacción;
+ * después otra transacción corta borra los publicados y reprograma el resto. Si la instancia
+ * cae a mitad, los eventos reclamados vuelven a estar disponibles al vencer la concesión.
+ *
+ * Si el lote falla se reintenta evento a evento para aislar el que falla, que se reprograma con
+ * espera exponencial. El reintento se detiene en el primer fallo: si el broker no responde, cada
+ * evento esperaría su propio timeout, así que los pendientes se liberan juntos para la siguiente
+ * pasada sin contar un intento. Un evento publicado cuyo borrado no llega a confirmarse se vuelve
+ * a publicar: la entrega es al menos una vez.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tournament.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL =
+            "UPDATE outbox_events SET next_attempt_at = ? WHERE id IN (" +
+            "SELECT id FROM outbox_events WHERE next_attempt_at <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts";
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY(?)";
+    private static final String RELEASE_SQL = "UPDATE outbox_events SET next_attempt_at = ? WHERE id = ANY(?)";
+    private static final String RESCHEDULE_SQL =
+            "UPDATE outbox_events SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<PendingEvent> ROW_MAPPER = (rs, rowNum) -> new PendingEvent(
+            new OutboxMessage(rs.getLong("id"), rs.getString("aggregate_type"), rs.getLong("aggregate_id"),
+                    rs.getString("event_type"), rs.getString("payload"),
+                    rs.getTimestamp("created_at").toLocalDateTime()),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OutboxPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tournament.outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${tournament.outbox.relay.retry-backoff:PT1S}")
+    private Duration retryBackoff;
+
+    @Value("${tournament.outbox.relay.max-retry-backoff:PT5M}")
+    private Duration maxRetryBackoff;
+
+    @Value("${tournament.outbox.relay.lease:PT1M}")
+    private Duration lease;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        publishedCounter = Counter.builder("outbox.published")
+                .description("Eventos del outbox publicados")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.failed")
+                .description("Intentos de publicación fallidos, reprogramados con espera")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Duración de cada lote del relay: lectura, publicación y borrado")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Antigüedad del evento más antiguo en el último lote del relay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena el outbox en lotes mientras haya lotes completos
+     */
+    @Scheduled(fixedDelayString = "${tournament.outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            int processed;
+            do {
+                processed = relayBatch();
+            } while (processed >= batchSize);
+        } catch (RuntimeException e) {
+            log.error("Error en el relay del outbox: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reclama un lote, lo publica fuera de transacción y registra el resultado
+     * @return Eventos procesados (publicados, reprogramados o liberados)
+     */
+    int relayBatch() {
+        long started = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PendingEvent> claimed = transaction.execute(status -> jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER,
+                Timestamp.valueOf(now.plus(lease)), Timestamp.valueOf(now), batchSize));
+        if (claimed == null || claimed.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        // RETURNING no garantiza orden
+        List<PendingEvent> batch = claimed.stream()
+                .sorted(Comparator.comparing(event -> event.message().id()))
+                .toList();
+        lagMillis.set(Math.max(0, Duration.between(batch.get(0).message().createdAt(), now).toMillis()));
+
+        List<Long> published = new ArrayList<>(batch.size());
+        PendingEvent failed = null;
+        RuntimeException failure = null;
+        List<Long> released = new ArrayList<>();
+        try {
+            publisher.publish(batch.stream().map(PendingEvent::message).toList());
+            batch.forEach(event -> published.add(event.message().id()));
+        } catch (RuntimeException batchError) {
+            log.warn("Lote del outbox rechazado, reintentando evento a evento: {}", batchError.getMessage());
+            for (PendingEvent event : batch) {
+                if (failed != null) {
+                    released.add(event.message().id());
+                    continue;
+                }
+                try {
+                    publisher.publish(List.of(event.message()));
+                    published.add(event.message().id());
+                } catch (RuntimeException e) {
+                    failed = event;
+                    failure = e;
+                }
+            }
+        }
+
+        PendingEvent failedEvent = failed;
+        RuntimeException failedError = failure;
+        transaction.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                updateIds(DELETE_SQL, null, published);
+            }
+            if (failedEvent != null) {
+                reschedule(failedEvent, now, failedError);
+            }
+            if (!released.isEmpty()) {
+                updateIds(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now().plus(retryBackoff)), released);
+            }
+        });
+        if (!published.isEmpty()) {
+            publishedCounter.increment(published.size());
+        }
+        if (!released.isEmpty()) {
+            log.warn("{} eventos del outbox liberados sin publicar tras el fallo del evento {}",
+                    released.size(), failedEvent.message().id());
+        }
+        batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return batch.size();
+    }
+
+    /**
+     * Ejecuta DELETE_SQL o RELEASE_SQL sobre un conjunto de IDs
+     */
+    private void updateIds(String sql, Timestamp nextAttemptAt, List<Long> ids) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            if (nextAttemptAt != null) {
+                ps.setTimestamp(index++, nextAttemptAt);
+            }
+            ps.setArray(index, connection.createArrayOf("bigint", ids.toArray(new Long[0])));
+            return ps;
+        });
+    }
+
+    private void reschedule(PendingEvent event, LocalDateTime now, RuntimeException error) {
+        failedCounter.increment();
+        String message = String.valueOf(error.getMessage());
+        jdbcTemplate.update(RESCHEDULE_SQL,
+                Timestamp.valueOf(now.plus(backoff(event.attempts()))),
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                event.message().id());
+        log.warn("Evento {} del outbox reprogramado tras {} intentos: {}",
+                event.message().id(), event.attempts() + 1, message);
+    }
+
+    /**
+     * Espera exponencial desde retry-backoff, acotada por max-retry-backoff
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    /**
+     * Evento reclamado por el lote en curso, con los intentos previos para calcular la espera
+     */
+    record PendingEvent(OutboxMessage message, int attempts) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.tournament.infrastructure.outbox;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publicador RabbitMQ: envía el lote por un mismo canal y espera las confirmaciones del broker
+ * (spring.rabbitmq.publisher-confirm-type: simple). La clave de enrutado es el tipo de evento.
+ */
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final long confirmTimeoutMs;
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, String exchange, Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeoutMs = confirmTimeout.toMillis();
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxMessage message : messages) {
+                operations.send(exchange, message.eventType(), toAmqp(message));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    private static Message toAmqp(OutboxMessage message) {
+        return MessageBuilder.withBody(message.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(message.id()))
+                .setType(message.eventType())
+                .setTimestamp(Timestamp.valueOf(message.createdAt()))
+                .setHeader("aggregateType", message.aggregateType())
+                .setHeader("aggregateId", message.aggregateId())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
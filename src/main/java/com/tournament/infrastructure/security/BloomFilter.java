@@ -0,0 +1,91 @@
+package com.tournament.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente para cadenas.
+ *
+ * Responde "no está" sin falsos negativos y con una tasa de falsos positivos acotada por el
+ * dimensionamiento. Las consultas no bloquean ni reservan memoria; las inserciones usan CAS
+ * sobre palabras de 64 bits.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.words = new AtomicLongArray((int) ((numBits + 63) >>> 6));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Crea un filtro dimensionado para el número de elementos y la tasa de falsos positivos dados
+     * @param expectedInsertions Elementos esperados
+     * @param falsePositiveRate Tasa de falsos positivos objetivo (0 &lt; p &lt; 1)
+     * @return Filtro vacío
+     */
+    static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, Math.min(bits, Integer.MAX_VALUE));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * Añade un elemento al filtro
+     * @param key Elemento
+     */
+    void put(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    /**
+     * Verifica si el elemento puede estar en el filtro
+     * @param key Elemento
+     * @return false si seguro no está; true si puede estar
+     */
+    boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        return (combined & 0x7fffffffL) % numBits;
+    }
+
+    /**
+     * FNV-1a de 64 bits seguido del finalizador de MurmurHash3 para dispersar los bits
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
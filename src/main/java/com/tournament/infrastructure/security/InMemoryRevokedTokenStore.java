@@ -0,0 +1,51 @@
+package com.tournament.infrastructure.security;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Almacén de revocaciones en memoria, válido para una sola instancia
+ */
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final Map<String, Revocation> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, new Revocation(expiresAt, Instant.now()));
+    }
+
+    @Override
+    public Map<String, Instant> findActive(Instant now) {
+        Map<String, Instant> active = new HashMap<>();
+        revoked.forEach((tokenId, revocation) -> {
+            if (revocation.expiresAt().isAfter(now)) {
+                active.put(tokenId, revocation.expiresAt());
+            }
+        });
+        return active;
+    }
+
+    @Override
+    public Map<String, Instant> findRevokedSince(Instant since, Instant now) {
+        Map<String, Instant> active = new HashMap<>();
+        revoked.forEach((tokenId, revocation) -> {
+            if (revocation.expiresAt().isAfter(now) && !revocation.revokedAt().isBefore(since)) {
+                active.put(tokenId, revocation.expiresAt());
+            }
+        });
+        return active;
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(revocation -> !revocation.expiresAt().isAfter(now));
+        return before - revoked.size();
+    }
+
+    private record Revocation(Instant expiresAt, Instant revokedAt) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.tournament.infrastructure.security;
+
+import com.tournament.domain.entity.RevokedToken;
+import com.tournament.domain.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Almacén de revocaciones persistido en la tabla revoked_tokens, compartido entre réplicas
+ */
+@RequiredArgsConstructor
+public class JpaRevokedTokenStore implements RevokedTokenStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Override
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC))
+                .revokedAt(LocalDateTime.now(ZoneOffset.UTC))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Instant> findActive(Instant now) {
+        Map<String, Instant> active = new HashMap<>();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.ofInstant(now, ZoneOffset.UTC))) {
+            active.put(token.getTokenId(), token.getExpiresAt().toInstant(ZoneOffset.UTC));
+        }
+        return active;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Instant> findRevokedSince(Instant since, Instant now) {
+        Map<String, Instant> revoked = new HashMap<>();
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+                LocalDateTime.ofInstant(since, ZoneOffset.UTC), LocalDateTime.ofInstant(now, ZoneOffset.UTC))) {
+            revoked.put(token.getTokenId(), token.getExpiresAt().toInstant(ZoneOffset.UTC));
+        }
+        return revoked;
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now) {
+        return revokedTokenRepository.deleteExpired(LocalDateTime.ofInstant(now, ZoneOffset.UTC));
+    }
+}
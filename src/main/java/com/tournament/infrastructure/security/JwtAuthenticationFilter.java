@@ -1,16 +1,12 @@
 package com.tournament.infrastructure.security;
 
-import com.tournament.domain.repository.UserRepository;
-import com.tournament.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,6 +18,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Filtro de autenticación JWT que intercepta las peticiones HTTP
@@ -33,7 +30,12 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    // Con tokens de acceso de corta duración se confía en los claims sin consultar el estado del usuario
+    @Value("${jwt.trust-access-token:true}")
+    private boolean trustAccessToken;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -46,29 +48,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
-        // Comentado temporalmente para permitir acceso público
-        /*
-        try {
-            String jwt = getJwtFromRequest(request);
-
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+        String jwt = getJwtFromRequest(request);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        if (jwt != null) {
+            // Un único parseo del token y el estado del usuario desde caché: sin consultas por petición
+            Optional<VerifiedToken> verified = jwtTokenProvider.verify(jwt)
+                    .filter(token -> !tokenRevocationService.isRevoked(token));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (trustAccessToken) {
+                verified.ifPresent(token -> authenticate(request, token.getUsername(), token.getRole()));
+            } else {
+                verified.flatMap(token -> userStatusCache.get(token.getUsername())
+                                .filter(UserStatus::isActive)
+                                .filter(status -> status.acceptsTokenVersion(token)))
+                        .ifPresent(status -> authenticate(request, status.getUsername(), status.getRole().name()));
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
         }
-        */
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Establece la autenticación del usuario en el contexto de seguridad
+     * @param request Petición HTTP
+     * @param username Username del usuario
+     * @param role Rol del usuario
+     */
+    private void authenticate(HttpServletRequest request, String username, String role) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     /**
      * Extrae el token JWT del header Authorization
      * @param request Petición HTTP
@@ -83,21 +95,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         return null;
     }
-
-    /**
-     * Crea UserDetails a partir de la entidad User
-     * @param user Entidad User
-     * @return UserDetails
-     */
-    private UserDetails createUserDetails(User user) {
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPasswordHash())
-                .authorities("ROLE_" + user.getRole().name())
-                .accountExpired(false)
-                .accountLocked(!user.getIsActive())
-                .credentialsExpired(false)
-                .disabled(!user.getIsActive())
-                .build();
-    }
 } 
\ No newline at end of file
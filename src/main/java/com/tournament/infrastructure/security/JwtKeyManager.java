@@ -0,0 +1,307 @@
+package com.tournament.infrastructure.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Claves asimétricas (ES256) para firmar los JWT y publicarlos como JWKS.
+ *
+ * Con jwt.signing.keystore las claves se leen de un almacén PKCS12 y todas verifican hasta que se
+ * eliminan del almacén. Rotar consiste en añadir una entrada nueva; el almacén se relee
+ * periódicamente. Sin almacén se generan claves efímeras en memoria que rotan cada
+ * rotation-interval y se conservan el tiempo de vida de un token tras ser sustituidas (válido
+ * solo con una réplica). El kid de cada clave es su huella JWK (RFC 7638).
+ *
+ * El JWKS se cachea públicamente durante jwks-max-age, así que una clave nueva no firma nada
+ * hasta llevar activation-delay publicada (por defecto max-age más un intervalo de recarga):
+ * firma la clave más reciente publicada desde hace al menos ese tiempo, y si ninguna lo está
+ * (primer arranque), la más antigua. En el almacén, el instante de publicación es el inicio de
+ * validez del certificado.
+ */
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    @Value("${jwt.signing.algorithm:HS512}")
+    private String algorithm;
+
+    @Value("${jwt.signing.keystore:}")
+    private String keystorePath;
+
+    @Value("${jwt.signing.keystore-password:}")
+    private String keystorePassword;
+
+    @Value("${jwt.signing.rotation-interval:P7D}")
+    private Duration rotationInterval;
+
+    @Value("${jwt.expiration}")
+    private long jwtExpiration;
+
+    @Value("${jwt.signing.jwks-max-age:PT5M}")
+    private Duration jwksMaxAge = Duration.ofMinutes(5);
+
+    @Value("${jwt.signing.activation-delay:PT10M}")
+    private Duration activationDelay = Duration.ofMinutes(10);
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+
+    @PostConstruct
+    void init() {
+        if (activationDelay.compareTo(jwksMaxAge) < 0) {
+            log.warn("jwt.signing.activation-delay ({}) menor que jwks-max-age ({}); se usa {}",
+                    activationDelay, jwksMaxAge, jwksMaxAge);
+            activationDelay = jwksMaxAge;
+        }
+        refresh();
+    }
+
+    /**
+     * Indica si los tokens se firman con claves asimétricas
+     * @return true si el algoritmo es ES256
+     */
+    public boolean isAsymmetric() {
+        return "ES256".equalsIgnoreCase(algorithm);
+    }
+
+    /**
+     * Relee el almacén de claves o rota la clave efímera si le corresponde
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval-ms:300000}",
+               initialDelayString = "${jwt.signing.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        if (!isAsymmetric()) return;
+
+        try {
+            Instant now = Instant.now();
+            List<SigningKey> keys = keystorePath != null && !keystorePath.isBlank()
+                    ? loadKeystore()
+                    : rotateEphemeral(now);
+            SigningKey previous = keySet.active();
+            keySet = KeySet.of(keys, selectActive(keys, now));
+            if (keySet.active() != null && (previous == null || !previous.kid().equals(keySet.active().kid()))) {
+                log.info("Clave de firma JWT activa: {}", keySet.active().kid());
+            }
+        } catch (GeneralSecurityException | IOException | RuntimeException e) {
+            // Se mantienen las claves anteriores
+            log.error("Error cargando claves de firma JWT: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene la clave con la que se firman los tokens nuevos
+     * @return Clave activa
+     */
+    public SigningKey activeKey() {
+        SigningKey active = keySet.active();
+        if (active == null) {
+            throw new IllegalStateException("No hay clave de firma JWT disponible");
+        }
+        return active;
+    }
+
+    /**
+     * Busca la clave pública de verificación por su kid
+     * @param kid Identificador de la clave
+     * @return Clave pública si sigue publicada
+     */
+    public Optional<PublicKey> publicKey(String kid) {
+        SigningKey key = kid != null ? keySet.byKid().get(kid) : null;
+        return Optional.ofNullable(key).map(SigningKey::publicKey);
+    }
+
+    /**
+     * Tiempo durante el que los clientes pueden cachear el documento JWKS
+     * @return max-age del JWKS
+     */
+    public Duration getJwksMaxAge() {
+        return jwksMaxAge;
+    }
+
+    /**
+     * Documento JWKS con las claves públicas vigentes, precalculado en cada recarga
+     * @return Mapa serializable como JSON
+     */
+    public Map<String, Object> getJwks() {
+        return keySet.jwks();
+    }
+
+    /**
+     * ETag del documento JWKS
+     * @return ETag entrecomillado
+     */
+    public String getJwksETag() {
+        return keySet.etag();
+    }
+
+    private List<SigningKey> loadKeystore() throws GeneralSecurityException, IOException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        char[] password = keystorePassword.toCharArray();
+        try (InputStream in = Files.newInputStream(Path.of(keystorePath))) {
+            keyStore.load(in, password);
+        }
+
+        List<SigningKey> keys = new ArrayList<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (!keyStore.isKeyEntry(alias)) continue;
+            if (!(keyStore.getCertificate(alias) instanceof X509Certificate certificate)) continue;
+            if (!(certificate.getPublicKey() instanceof ECPublicKey publicKey)) continue;
+
+            PrivateKey privateKey = (PrivateKey) keyStore.getKey(alias, password);
+            keys.add(new SigningKey(thumbprint(publicKey), privateKey, publicKey,
+                    certificate.getNotBefore().toInstant(), null));
+        }
+        keys.sort(Comparator.comparing(SigningKey::createdAt).reversed());
+        log.info("Claves de firma JWT cargadas desde almacén: {}", keys.size());
+        return keys;
+    }
+
+    /**
+     * Rota las claves efímeras: la siguiente clave se genera y publica activation-delay antes de
+     * que venza la activa, y las sustituidas se retiran tras la vida de un token
+     * @return Claves de la más reciente a la más antigua
+     */
+    private List<SigningKey> rotateEphemeral(Instant now) throws GeneralSecurityException {
+        List<SigningKey> current = new ArrayList<>(keySet.keys());
+        current.removeIf(key -> key.retireAt() != null && key.retireAt().isBefore(now));
+
+        if (current.isEmpty()) {
+            // Primera clave: no hay JWKS anterior en ninguna caché
+            return List.of(generateKey(now));
+        }
+        // Con una clave ya publicada a la espera de activarse no se genera otra
+        SigningKey newest = current.get(0);
+        if (newest == selectActive(current, now)
+                && !newest.createdAt().plus(rotationInterval).isAfter(now.plus(activationDelay))) {
+            current.add(0, generateKey(now));
+            log.info("Clave de firma JWT publicada: {}, activa a partir de {}", current.get(0).kid(),
+                    now.plus(activationDelay));
+        }
+
+        // Las claves anteriores a la activa siguen verificando durante la vida de un token
+        SigningKey active = selectActive(current, now);
+        Instant retireAt = now.plusMillis(jwtExpiration);
+        List<SigningKey> rotated = new ArrayList<>();
+        boolean older = false;
+        for (SigningKey key : current) {
+            rotated.add(older && key.retireAt() == null ? key.retiredAt(retireAt) : key);
+            older = older || key == active;
+        }
+        return rotated;
+    }
+
+    /**
+     * Elige la clave que firma: la más reciente publicada desde hace al menos activation-delay
+     * o, si ninguna lo está, la más antigua
+     * @param keys Claves de la más reciente a la más antigua
+     */
+    private SigningKey selectActive(List<SigningKey> keys, Instant now) {
+        for (SigningKey key : keys) {
+            if (!key.createdAt().plus(activationDelay).isAfter(now)) {
+                return key;
+            }
+        }
+        return keys.isEmpty() ? null : keys.get(keys.size() - 1);
+    }
+
+    private SigningKey generateKey(Instant now) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        ECPublicKey publicKey = (ECPublicKey) pair.getPublic();
+        return new SigningKey(thumbprint(publicKey), pair.getPrivate(), publicKey, now, null);
+    }
+
+    /**
+     * Huella JWK según RFC 7638
+     */
+    private static String thumbprint(ECPublicKey key) throws GeneralSecurityException {
+        String canonical = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + coordinate(key.getW().getAffineX())
+                + "\",\"y\":\"" + coordinate(key.getW().getAffineY()) + "\"}";
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * Coordenada de la curva P-256 como 32 bytes big-endian en base64url
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /**
+     * Clave de firma con su kid
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, ECPublicKey publicKey, Instant createdAt, Instant retireAt) {
+
+        SigningKey retiredAt(Instant instant) {
+            return new SigningKey(kid, privateKey, publicKey, createdAt, instant);
+        }
+
+        Map<String, Object> toJwk() {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("kid", kid);
+            jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+            jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+            return jwk;
+        }
+    }
+
+    /**
+     * Conjunto inmutable de claves publicadas, de la más reciente a la más antigua, con la activa
+     */
+    private record KeySet(List<SigningKey> keys, SigningKey active, Map<String, SigningKey> byKid,
+                          Map<String, Object> jwks, String etag) {
+
+        static final KeySet EMPTY = of(List.of(), null);
+
+        static KeySet of(List<SigningKey> keys, SigningKey active) {
+            Map<String, SigningKey> byKid = new LinkedHashMap<>();
+            List<Map<String, Object>> jwkList = new ArrayList<>();
+            for (SigningKey key : keys) {
+                byKid.put(key.kid(), key);
+                jwkList.add(key.toJwk());
+            }
+            return new KeySet(List.copyOf(keys), active, Collections.unmodifiableMap(byKid),
+                    Map.of("keys", List.copyOf(jwkList)),
+                    "\"" + Integer.toHexString(byKid.keySet().hashCode()) + "\"");
+        }
+    }
+}
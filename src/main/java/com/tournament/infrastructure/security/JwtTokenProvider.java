@@ -3,41 +3,99 @@ package com.tournament.infrastructure.security;
 import com.tournament.domain.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
- * Proveedor de tokens JWT para autenticación
+ * Proveedor de tokens JWT para autenticación.
+ *
+ * La clave de firma y el parser se construyen una sola vez. Cada token se parsea y verifica
+ * una única vez: el resultado se guarda en una caché LRU acotada y particionada, indexada por el
+ * SHA-256 del token, que descarta las entradas al alcanzar su expiración o cuando la clave que
+ * las firmó (kid) deja de estar publicada. Las sucesivas presentaciones del mismo token y las
+ * extracciones de claims se sirven desde la caché.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    /**
+     * Claim con la versión de tokens del usuario en el momento de la emisión
+     */
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize = 10000;
+
+    private static final int VERIFIED_CACHE_STRIPES = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    });
+
+    // Construidos de forma diferida: la configuración se inyecta después del constructor
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    // Claves asimétricas (ES256); sin ellas, o con jwt.signing.algorithm=HS512, se usa el secreto compartido
+    private JwtKeyManager keyManager;
+
+    private volatile StripedLruCache<ByteBuffer, CachedToken> verifiedTokens;
+
+    @Autowired(required = false)
+    void setKeyManager(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+        this.parser = null;
+    }
+
     /**
      * Genera un token JWT para un usuario
      * @param user Usuario para el cual generar el token
      * @return Token JWT
      */
     public String generateToken(User user) {
+        return generateToken(UserStatus.of(user));
+    }
+
+    /**
+     * Genera un token JWT a partir del estado en caché de un usuario
+     * @param user Estado del usuario
+     * @return Token JWT
+     */
+    public String generateToken(UserStatus user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
         claims.put("role", user.getRole().name());
         claims.put("email", user.getEmail());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
         
         return createToken(claims, user.getUsername());
     }
@@ -62,22 +120,46 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
+                .setExpiration(expiryDate);
+
+        if (isAsymmetric()) {
+            JwtKeyManager.SigningKey key = keyManager.activeKey();
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                    .signWith(key.privateKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+        return builder
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Parsea y verifica el token una sola vez
+     * @param token Token JWT
+     * @return Claims verificados o vacío si el token es inválido o ha expirado
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(verifiedToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Token JWT inválido: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extrae el username del token
      * @param token Token JWT
      * @return Username
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifiedToken(token).getUsername();
     }
 
     /**
@@ -86,7 +168,7 @@ public class JwtTokenProvider {
      * @return Fecha de expiración
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verifiedToken(token).getExpiration();
     }
 
     /**
@@ -96,8 +178,7 @@ public class JwtTokenProvider {
      * @return Valor del claim
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verifiedToken(token).getClaims());
     }
 
     /**
@@ -106,8 +187,7 @@ public class JwtTokenProvider {
      * @return ID del usuario
      */
     public Long extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("userId", Long.class);
+        return verifiedToken(token).getUserId();
     }
 
     /**
@@ -116,30 +196,106 @@ public class JwtTokenProvider {
      * @return Rol del usuario
      */
     public String extractUserRole(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        return verifiedToken(token).getRole();
     }
 
     /**
-     * Extrae todos los claims del token
+     * Obtiene los claims verificados del token, desde la caché o parseándolo una vez
      * @param token Token JWT
-     * @return Claims del token
+     * @return Token verificado
+     * @throws JwtException si la firma no es válida o el token ha expirado
+     * @throws IllegalArgumentException si el token está vacío
+     */
+    private VerifiedToken verifiedToken(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Token JWT vacío");
+        }
+
+        StripedLruCache<ByteBuffer, CachedToken> cache = getVerifiedTokens();
+        ByteBuffer digest = digest(token);
+        CachedToken cached = cache.get(digest);
+        if (cached != null) {
+            if (cached.verified().isExpiredAt(new Date())) {
+                cache.remove(digest);
+                throw new ExpiredJwtException(null, cached.verified().getClaims(), "Token JWT expirado");
+            }
+            if (isAsymmetric() && keyManager.publicKey(cached.kid()).isEmpty()) {
+                // La clave que lo firmó se ha retirado: el token ya no verificaría
+                cache.remove(digest);
+                throw new SignatureException("Clave de firma retirada: " + cached.kid());
+            }
+            return cached.verified();
+        }
+
+        Jws<Claims> jws = getParser().parseClaimsJws(token);
+        VerifiedToken verified = VerifiedToken.of(jws.getBody());
+        cache.put(digest, new CachedToken(verified, jws.getHeader().getKeyId()));
+        return verified;
+    }
+
+    /**
+     * Obtiene la caché de tokens verificados, construida una sola vez con el tamaño configurado
+     */
+    private StripedLruCache<ByteBuffer, CachedToken> getVerifiedTokens() {
+        StripedLruCache<ByteBuffer, CachedToken> current = verifiedTokens;
+        if (current == null) {
+            synchronized (this) {
+                current = verifiedTokens;
+                if (current == null) {
+                    current = new StripedLruCache<>(VERIFIED_CACHE_STRIPES, verifiedCacheSize);
+                    verifiedTokens = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Obtiene el parser de tokens, construido una sola vez
+     * @return Parser con la clave de firma
+     */
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = isAsymmetric()
+                    ? Jwts.parserBuilder().setSigningKeyResolver(new KidKeyResolver()).build()
+                    : Jwts.parserBuilder().setSigningKey(getSigningKey()).build();
+            parser = current;
+        }
+        return current;
+    }
+
+    private boolean isAsymmetric() {
+        return keyManager != null && keyManager.isAsymmetric();
+    }
+
+    /**
+     * Resuelve la clave pública por el kid de la cabecera; las claves retiradas dejan de verificar
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private class KidKeyResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return keyManager.publicKey(header.getKeyId())
+                    .orElseThrow(() -> new SignatureException(
+                            "Clave de firma desconocida: " + header.getKeyId()));
+        }
     }
 
     /**
-     * Obtiene la clave de firma
+     * Obtiene la clave de firma, construida una sola vez
      * @return Clave de firma
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey current = signingKey;
+        if (current == null) {
+            current = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = current;
+        }
+        return current;
     }
 
     /**
@@ -149,7 +305,7 @@ public class JwtTokenProvider {
      */
     public Boolean isTokenExpired(String token) {
         try {
-            return extractExpiration(token).before(new Date());
+            return verifiedToken(token).isExpiredAt(new Date());
         } catch (Exception e) {
             log.warn("Error verificando expiración del token: {}", e.getMessage());
             return true;
@@ -163,13 +319,9 @@ public class JwtTokenProvider {
      * @return true si el token es válido
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (Exception e) {
-            log.warn("Error validando token: {}", e.getMessage());
-            return false;
-        }
+        return verify(token)
+                .map(verified -> verified.getUsername().equals(userDetails.getUsername()))
+                .orElse(false);
     }
 
     /**
@@ -178,16 +330,7 @@ public class JwtTokenProvider {
      * @return true si el token es válido
      */
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Token JWT inválido: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     /**
@@ -197,12 +340,16 @@ public class JwtTokenProvider {
      */
     public long getTimeUntilExpiration(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            Date now = new Date();
-            return Math.max(0, expiration.getTime() - now.getTime());
+            return verifiedToken(token).getTimeUntilExpiration(new Date());
         } catch (Exception e) {
             log.warn("Error obteniendo tiempo de expiración: {}", e.getMessage());
             return 0;
         }
     }
+
+    /**
+     * Token verificado en caché junto al kid de la clave que lo firmó (null con HS512)
+     */
+    private record CachedToken(VerifiedToken verified, String kid) {
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.tournament.infrastructure.security;
+
+/**
+ * Excepción lanzada cuando el ejecutor de hashing de contraseñas está saturado
+ * y la operación se rechaza en lugar de encolarse indefinidamente
+ */
+public class PasswordHashingUnavailableException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Segundos sugeridos al cliente antes de reintentar
+     * @return Valor para la cabecera Retry-After
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tournament.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de límite de peticiones por ruta, usuario o IP.
+ *
+ * SecurityConfig lo registra justo después de la cadena de Spring Security
+ * (SecurityProperties.DEFAULT_FILTER_ORDER + 1), de modo que un usuario autenticado ya está en el
+ * contexto. Las peticiones que superan el límite reciben 429 con Retry-After sin llegar al
+ * controlador.
+ *
+ * Una ruta puede tener varias reglas y se aplican todas, en el orden configurado: basta con que
+ * una rechace la petición. La clave USER es, por este orden: el usuario autenticado; el parámetro
+ * userId de la petición (la compra de tickets identifica así al comprador mientras la
+ * autenticación JWT no se aplica); y la IP. El parámetro lo elige el cliente, por lo que solo
+ * reparte el límite entre usuarios legítimos detrás de una misma IP: una ruta con clave USER
+ * necesita además una regla por IP, o cambiar userId en cada petición esquivaría el límite.
+ * La IP es la de request.getRemoteAddr(); detrás de un proxy debe configurarse
+ * server.forward-headers-strategy para no confiar en cabeceras arbitrarias.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "security.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String USER_PARAMETER = "userId";
+
+    private final RateLimiter rateLimiter;
+    private final List<Route> routes;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = new RateLimiter(properties.getStripes(), properties.getMaxBucketsPerStripe());
+        this.routes = properties.getRules().stream()
+                .map(rule -> new Route(rule.getName(), rule.getMethod(), rule.getPath(), rule.getKey(),
+                        RateLimiter.Limit.of(rule.getCapacity(), rule.getPeriod()),
+                        Counter.builder("rate.limit.rejected")
+                                .description("Peticiones rechazadas por límite de peticiones")
+                                .tag("rule", rule.getName())
+                                .register(meterRegistry)))
+                .toList();
+
+        Gauge.builder("rate.limit.buckets", rateLimiter, RateLimiter::size)
+                .description("Buckets de límite de peticiones en memoria")
+                .register(meterRegistry);
+        log.info("Límite de peticiones activo en {} rutas", routes.size());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = null;
+        for (Route route : routes) {
+            if (!route.method().equalsIgnoreCase(request.getMethod())) continue;
+            if (path == null) {
+                path = request.getRequestURI().substring(request.getContextPath().length());
+            }
+            if (!route.path().equals(path)) continue;
+
+            String subject = subject(request, route.keyType());
+            long waitNanos = rateLimiter.tryAcquire(route.name() + ':' + subject, route.limit());
+            if (waitNanos > 0) {
+                route.rejected().increment();
+                log.debug("Límite de peticiones superado en {} para {}", route.name(), subject);
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Desaloja periódicamente los buckets inactivos
+     */
+    @Scheduled(fixedDelayString = "${security.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = rateLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("Buckets de límite de peticiones desalojados: {}", evicted);
+        }
+    }
+
+    private String subject(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "u:" + authentication.getName();
+            }
+            String userId = request.getParameter(USER_PARAMETER);
+            if (userId != null && !userId.isBlank()) {
+                return "uid:" + userId.trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record Route(String name,
+                         String method,
+                         String path,
+                         RateLimitProperties.KeyType keyType,
+                         RateLimiter.Limit limit,
+                         Counter rejected) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.tournament.infrastructure.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del límite de peticiones (security.rate-limit.* en application.yml)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Número de particiones del mapa de buckets (se redondea a potencia de dos)
+     */
+    private int stripes = 16;
+
+    /**
+     * Buckets máximos por partición; al superarlo se desalojan los inactivos
+     */
+    private int maxBucketsPerStripe = 4096;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Límite aplicado a un método y ruta exactos
+     */
+    @Data
+    public static class Rule {
+        private String name;
+        private String method = "POST";
+        private String path;
+        private KeyType key = KeyType.IP;
+        private int capacity = 10;
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Sujeto al que se asigna el bucket. USER usa el usuario autenticado o el parámetro userId
+     * y recurre a la IP si no hay ninguno
+     */
+    public enum KeyType {
+        IP, USER
+    }
+}
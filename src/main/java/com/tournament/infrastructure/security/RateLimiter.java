@@ -0,0 +1,164 @@
+package com.tournament.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Buckets de tokens sin bloqueos, en un mapa particionado y acotado.
+ *
+ * Cada bucket es un único AtomicLong con el instante teórico de llegada (GCRA), equivalente a un
+ * token bucket de capacidad y periodo dados: conceder un permiso es un get y un CAS, sin reservar
+ * memoria. Un bucket cuyo instante ya pasó está lleno y puede eliminarse sin cambiar el resultado,
+ * por lo que el desalojo de inactivos no pierde estado. Solo la creación de buckets nuevos se
+ * sincroniza, y por partición.
+ */
+public final class RateLimiter {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxBucketsPerStripe;
+    private final LongSupplier clock;
+
+    public RateLimiter(int stripes, int maxBucketsPerStripe) {
+        this(stripes, maxBucketsPerStripe, System::nanoTime);
+    }
+
+    RateLimiter(int stripes, int maxBucketsPerStripe, LongSupplier clock) {
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+        this.maxBucketsPerStripe = Math.max(1, maxBucketsPerStripe);
+        this.clock = clock;
+    }
+
+    /**
+     * Intenta consumir un permiso del bucket de la clave
+     * @param key Clave del bucket
+     * @param limit Límite aplicado
+     * @return 0 si se concede; si no, nanosegundos hasta el siguiente permiso
+     */
+    public long tryAcquire(String key, Limit limit) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripeFor(key);
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            bucket = stripe.admit(key, now, maxBucketsPerStripe);
+        }
+
+        while (true) {
+            long arrival = bucket.get();
+            long base = Math.max(arrival, now);
+            long wait = base - now - limit.burstToleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, base + limit.emissionIntervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Elimina los buckets llenos (sin actividad reciente)
+     * @return Buckets eliminados
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            evicted += stripe.evictIdle(now);
+        }
+        return evicted;
+    }
+
+    /**
+     * @return Buckets en memoria
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        // Bits distintos de los que usa el ConcurrentHashMap interno para elegir la cubeta
+        int h = key.hashCode() * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * Límite precalculado: intervalo entre permisos y ráfaga tolerada, en nanosegundos
+     */
+    public record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        /**
+         * @param capacity Permisos por periodo (tamaño de la ráfaga)
+         * @param period Periodo en el que se rellena el bucket completo
+         */
+        public static Limit of(int capacity, Duration period) {
+            if (capacity <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Capacidad y periodo deben ser positivos");
+            }
+            long interval = Math.max(1, period.toNanos() / capacity);
+            return new Limit(interval, interval * (capacity - 1));
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        synchronized AtomicLong admit(String key, long now, int maxBuckets) {
+            AtomicLong existing = buckets.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (buckets.size() >= maxBuckets && evictIdle(now) == 0) {
+                evictSample();
+            }
+            // Long.MIN_VALUE: bucket lleno (System.nanoTime puede ser negativo)
+            AtomicLong bucket = new AtomicLong(Long.MIN_VALUE);
+            buckets.put(key, bucket);
+            return bucket;
+        }
+
+        int evictIdle(long now) {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+            return Math.max(0, before - buckets.size());
+        }
+
+        /**
+         * Partición llena de buckets activos (p. ej. barrido de IPs): desaloja, entre unos pocos
+         * muestreados, el más cercano a estar lleno, con coste acotado por inserción
+         */
+        private void evictSample() {
+            String victim = null;
+            long oldest = Long.MAX_VALUE;
+            int seen = 0;
+            for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+                long arrival = entry.getValue().get();
+                if (arrival < oldest) {
+                    oldest = arrival;
+                    victim = entry.getKey();
+                }
+                if (++seen == EVICTION_SAMPLE) {
+                    break;
+                }
+            }
+            if (victim != null) {
+                buckets.remove(victim);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tournament.infrastructure.security;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Almacén de los identificadores (jti) de tokens revocados hasta su expiración natural.
+ *
+ * Es la fuente de verdad compartida entre réplicas; TokenRevocationService mantiene delante
+ * una copia local con filtro de Bloom para que la comprobación no salga del proceso.
+ * Implementaciones: memoria (por defecto) y tabla revoked_tokens; un backend compatible con
+ * Redis puede añadirse implementando esta interfaz con claves que expiren en expiresAt.
+ */
+public interface RevokedTokenStore {
+
+    /**
+     * Registra un token revocado
+     * @param tokenId jti del token
+     * @param expiresAt Expiración natural del token
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Obtiene las revocaciones aún vigentes
+     * @param now Instante de referencia
+     * @return Mapa jti → expiración
+     */
+    Map<String, Instant> findActive(Instant now);
+
+    /**
+     * Obtiene las revocaciones vigentes registradas desde un instante dado
+     * @param since Instante desde el que se buscan revocaciones (incluido)
+     * @param now Instante de referencia para descartar las expiradas
+     * @return Mapa jti → expiración
+     */
+    Map<String, Instant> findRevokedSince(Instant since, Instant now);
+
+    /**
+     * Elimina las revocaciones de tokens ya expirados
+     * @param now Instante de referencia
+     * @return Número de revocaciones eliminadas
+     */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,98 @@
+package com.tournament.infrastructure.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Caché LRU acotada y particionada.
+ *
+ * Cada partición es un LinkedHashMap en orden de acceso con su propio cerrojo, así que los hilos
+ * solo compiten cuando sus claves caen en la misma partición. El límite se reparte entre las
+ * particiones y cada una desaloja su entrada menos usada al llenarse: el orden LRU es por
+ * partición, no global, a cambio de no serializar todos los accesos.
+ */
+final class StripedLruCache<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    StripedLruCache(int stripes, int maxSize) {
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        int perStripe = maxSize <= 0 ? 0 : Math.max(1, (maxSize + count - 1) / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe<>(perStripe);
+        }
+        this.mask = count - 1;
+    }
+
+    V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        if (stripe.maxSize == 0) return;
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    V remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    /**
+     * Elimina las entradas cuyo valor cumple la condición, partición a partición
+     * @return Entradas eliminadas
+     */
+    int removeIf(Predicate<? super V> condition) {
+        int removed = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.size();
+                stripe.values().removeIf(condition);
+                removed += before - stripe.size();
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maxSize;
+
+        Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
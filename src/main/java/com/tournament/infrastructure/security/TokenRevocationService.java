@@ -0,0 +1,155 @@
+package com.tournament.infrastructure.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de tokens revocados (por jti) hasta su expiración natural.
+ *
+ * La comprobación se resuelve en memoria: un filtro de Bloom descarta sin bloqueos la inmensa
+ * mayoría de tokens no revocados y solo sus positivos se confirman contra el conjunto exacto.
+ * El almacén configurado es la fuente compartida: las revocaciones propias se escriben en él y
+ * las de otras réplicas se incorporan en la sincronización periódica.
+ *
+ * Al arrancar se cargan todas las revocaciones vigentes; después cada sincronización solo lee
+ * las registradas desde la anterior (menos un margen sync-overlap, que cubre relojes desfasados
+ * y transacciones confirmadas con retraso; releerlas es idempotente). Las entradas expiradas se
+ * purgan en memoria y el filtro se reconstruye localmente solo cuando hubo purgas o se acerca a
+ * su capacidad (un filtro de Bloom no admite borrados).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenStore store;
+
+    @Value("${jwt.revocation.expected-revocations:100000}")
+    private int expectedRevocations;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.sync-overlap:PT1M}")
+    private Duration syncOverlap = Duration.ofMinutes(1);
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private int filterCapacity;
+    // Inicio de la última sincronización correcta; null hasta la carga completa
+    private volatile Instant lastSync;
+
+    /**
+     * Carga las revocaciones vigentes al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sync();
+    }
+
+    /**
+     * Revoca un token hasta su expiración
+     * @param token Token verificado
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.getTokenId() == null) {
+            log.warn("Token sin jti; no se puede revocar individualmente");
+            return;
+        }
+        Date expiration = token.getExpiration();
+        Instant expiresAt = expiration != null ? expiration.toInstant() : Instant.now();
+        if (!expiresAt.isAfter(Instant.now())) return;
+
+        store.revoke(token.getTokenId(), expiresAt);
+        synchronized (this) {
+            revoked.put(token.getTokenId(), expiresAt);
+            currentFilter().put(token.getTokenId());
+        }
+        log.debug("Token revocado hasta {}", expiresAt);
+    }
+
+    /**
+     * Verifica si un token ha sido revocado
+     * @param token Token verificado
+     * @return true si está revocado
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) return false;
+
+        BloomFilter current = filter;
+        if (current == null || !current.mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * Incorpora las revocaciones de otras réplicas, purga las expiradas y reconstruye el filtro
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+               initialDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        try {
+            Instant now = Instant.now();
+            Instant since = lastSync;
+            int purged = store.purgeExpired(now);
+            Map<String, Instant> loaded = since == null
+                    ? store.findActive(now)
+                    : store.findRevokedSince(since.minus(syncOverlap), now);
+
+            synchronized (this) {
+                boolean removed = revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+                revoked.putAll(loaded);
+                if (since == null || removed || filter == null || revoked.size() > filterCapacity) {
+                    rebuildFilter();
+                } else {
+                    loaded.keySet().forEach(filter::put);
+                }
+            }
+            lastSync = now;
+            log.debug("Revocaciones sincronizadas: {} leídas, {} vigentes, {} purgadas",
+                    loaded.size(), revoked.size(), purged);
+        } catch (RuntimeException e) {
+            log.warn("Error sincronizando tokens revocados: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Número de revocaciones vigentes en memoria
+     * @return Número de tokens revocados
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private BloomFilter currentFilter() {
+        if (filter == null) {
+            rebuildFilter();
+        }
+        return filter;
+    }
+
+    /**
+     * Reconstruye el filtro con holgura para el doble de las revocaciones actuales
+     */
+    private void rebuildFilter() {
+        int capacity = Math.max(expectedRevocations, revoked.size() * 2);
+        BloomFilter rebuilt = BloomFilter.create(capacity, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filterCapacity = capacity;
+        filter = rebuilt;
+    }
+}
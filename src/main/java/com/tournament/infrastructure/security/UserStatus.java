@@ -0,0 +1,55 @@
+package com.tournament.infrastructure.security;
+
+import com.tournament.domain.entity.User;
+import lombok.Value;
+
+/**
+ * Datos del usuario necesarios para autenticar una petición con JWT
+ * sin acceder a la base de datos
+ */
+@Value
+public class UserStatus {
+
+    Long id;
+    String username;
+    String email;
+    String firstName;
+    String lastName;
+    User.UserRole role;
+    boolean active;
+    int tokenVersion;
+
+    /**
+     * Construye el estado a partir de la entidad
+     * @param user Entidad User
+     * @return Estado del usuario
+     */
+    public static UserStatus of(User user) {
+        return new UserStatus(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getRole(),
+                Boolean.TRUE.equals(user.getIsActive()),
+                user.currentTokenVersion());
+    }
+
+    /**
+     * Verifica si el token fue emitido con la versión vigente del usuario
+     * @param token Token verificado
+     * @return true si la versión coincide
+     */
+    public boolean acceptsTokenVersion(VerifiedToken token) {
+        return token.getTokenVersion() == tokenVersion;
+    }
+
+    /**
+     * Obtiene el nombre completo del usuario
+     * @return Nombre completo
+     */
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,122 @@
+package com.tournament.infrastructure.security;
+
+import com.tournament.domain.event.UserStatusChangedEvent;
+import com.tournament.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caché del estado de los usuarios para la autenticación sin base de datos.
+ *
+ * Cada entrada vive como máximo el TTL configurado y se invalida explícitamente tras confirmarse
+ * una desactivación, un cambio de rol o una revocación de tokens en esta instancia. En las demás
+ * réplicas el cambio se aplica al vencer el TTL; la versión de tokens del JWT garantiza que los
+ * tokens emitidos antes del cambio se rechacen en cuanto se recarga el estado.
+ *
+ * Una invalidación que llega mientras otra petición está cargando el mismo usuario no debe
+ * quedar sobrescrita por el estado anterior: cada clave tiene un contador de generación (en una
+ * tabla fija de contadores indexada por hash) que invalidate() incrementa, y la carga solo se
+ * guarda si la generación no cambió desde que empezó. Al llenarse, la caché desaloja las
+ * entradas menos usadas de cada partición en vez de vaciarse.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.user-status.ttl:PT30S}")
+    private Duration ttl;
+
+    @Value("${jwt.user-status.max-size:10000}")
+    private int maxSize;
+
+    private static final int STRIPES = 16;
+    private static final int GENERATION_SLOTS = 4096;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    // Construida de forma diferida: el tamaño se inyecta después del constructor
+    private volatile StripedLruCache<String, Entry> entries;
+
+    /**
+     * Obtiene el estado del usuario, desde la caché o cargándolo de la base de datos
+     * @param username Username del usuario
+     * @return Estado del usuario o vacío si no existe
+     */
+    public Optional<UserStatus> get(String username) {
+        StripedLruCache<String, Entry> cache = getEntries();
+        long now = System.nanoTime();
+        Entry entry = cache.get(username);
+        if (entry != null && now - entry.loadedAt() < ttl.toNanos()) {
+            return Optional.of(entry.status());
+        }
+
+        int slot = generationSlot(username);
+        long generation = generations.get(slot);
+        Optional<UserStatus> loaded = userRepository.findByUsername(username).map(UserStatus::of);
+        if (loaded.isPresent()) {
+            cache.put(username, new Entry(loaded.get(), now));
+            if (generations.get(slot) != generation) {
+                // Invalidado durante la carga: lo leído puede ser anterior al cambio
+                cache.remove(username);
+            }
+        } else {
+            cache.remove(username);
+        }
+        return loaded;
+    }
+
+    /**
+     * Descarta el estado en caché de un usuario
+     * @param username Username del usuario
+     */
+    public void invalidate(String username) {
+        generations.incrementAndGet(generationSlot(username));
+        if (getEntries().remove(username) != null) {
+            log.debug("Estado de usuario invalidado en caché: {}", username);
+        }
+    }
+
+    /**
+     * Invalida la entrada una vez confirmado el cambio, para no recargar el estado anterior
+     * @param event Evento de cambio de estado del usuario
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    private StripedLruCache<String, Entry> getEntries() {
+        StripedLruCache<String, Entry> current = entries;
+        if (current == null) {
+            synchronized (this) {
+                current = entries;
+                if (current == null) {
+                    current = new StripedLruCache<>(STRIPES, maxSize);
+                    entries = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static int generationSlot(String username) {
+        int h = username.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_SLOTS - 1);
+    }
+
+    /**
+     * Entrada de la caché con el instante de carga
+     */
+    private record Entry(UserStatus status, long loadedAt) {
+    }
+}
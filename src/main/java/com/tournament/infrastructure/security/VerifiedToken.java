@@ -0,0 +1,67 @@
+package com.tournament.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+
+import java.util.Date;
+
+/**
+ * Claims de un token JWT cuya firma ya fue verificada.
+ * Se obtiene una sola vez por petición y expone los claims que usa la aplicación
+ * sin volver a parsear el token.
+ */
+@Value
+public class VerifiedToken {
+
+    String tokenId;
+    String username;
+    Long userId;
+    String role;
+    String email;
+    int tokenVersion;
+    Date issuedAt;
+    Date expiration;
+    Claims claims;
+
+    /**
+     * Construye el token verificado a partir de sus claims
+     * @param claims Claims ya verificados
+     * @return Token verificado
+     */
+    static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                claims.get("email", String.class),
+                tokenVersion(claims),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                claims);
+    }
+
+    private static int tokenVersion(Claims claims) {
+        // Los tokens emitidos antes de introducir la versión equivalen a la versión 0
+        Integer version = claims.get(JwtTokenProvider.TOKEN_VERSION_CLAIM, Integer.class);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Verifica si el token ha expirado en el instante dado
+     * @param now Instante de referencia
+     * @return true si ha expirado
+     */
+    public boolean isExpiredAt(Date now) {
+        return expiration != null && !expiration.after(now);
+    }
+
+    /**
+     * Obtiene el tiempo restante hasta la expiración
+     * @param now Instante de referencia
+     * @return Milisegundos restantes, 0 si ya expiró
+     */
+    public long getTimeUntilExpiration(Date now) {
+        return expiration == null ? 0 : Math.max(0, expiration.getTime() - now.getTime());
+    }
+}
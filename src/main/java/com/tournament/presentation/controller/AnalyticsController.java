@@ -0,0 +1,79 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.SalesPoint;
+import com.tournament.application.service.SalesAnalyticsService;
+import com.tournament.domain.entity.SalesBucket;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controlador REST para las series temporales de ventas
+ */
+@RestController
+@RequestMapping("/analytics/sales")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Analítica", description = "API para series temporales de ventas de tickets")
+public class AnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    /**
+     * Obtiene la serie de ventas de un torneo
+     */
+    @GetMapping("/tournament/{tournamentId}")
+    @Operation(summary = "Ventas por torneo",
+               description = "Tickets vendidos, devueltos e importes por minuto, hora o día en el periodo [from, to)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Serie obtenida",
+                    content = @Content(schema = @Schema(implementation = SalesPoint.class))),
+        @ApiResponse(responseCode = "400", description = "Periodo no válido o demasiado largo para la granularidad")
+    })
+    public ResponseEntity<List<SalesPoint>> getTournamentSales(
+            @Parameter(description = "ID del torneo") @PathVariable Long tournamentId,
+            @Parameter(description = "Granularidad: MINUTE, HOUR o DAY") @RequestParam(defaultValue = "HOUR") SalesBucket.Resolution granularity,
+            @Parameter(description = "Inicio del periodo (ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fin del periodo (ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(salesAnalyticsService.getTournamentSales(tournamentId, granularity, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Obtiene la serie de ventas de todos los torneos de un organizador
+     */
+    @GetMapping("/organizer/{organizerId}")
+    @Operation(summary = "Ventas por organizador",
+               description = "Serie de ventas agregada de todos los torneos del organizador en el periodo [from, to)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Serie obtenida",
+                    content = @Content(schema = @Schema(implementation = SalesPoint.class))),
+        @ApiResponse(responseCode = "400", description = "Periodo no válido o demasiado largo para la granularidad")
+    })
+    public ResponseEntity<List<SalesPoint>> getOrganizerSales(
+            @Parameter(description = "ID del organizador") @PathVariable Long organizerId,
+            @Parameter(description = "Granularidad: MINUTE, HOUR o DAY") @RequestParam(defaultValue = "HOUR") SalesBucket.Resolution granularity,
+            @Parameter(description = "Inicio del periodo (ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fin del periodo (ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(salesAnalyticsService.getOrganizerSales(organizerId, granularity, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,7 +1,21 @@
 package com.tournament.presentation.controller;
 
+import com.tournament.application.dto.AuthResponse;
+import com.tournament.application.dto.LoginRequest;
+import com.tournament.application.dto.RefreshTokenRequest;
+import com.tournament.application.dto.RegisterRequest;
+import com.tournament.application.service.AuthService;
+import com.tournament.application.service.DuplicateUserException;
+import com.tournament.infrastructure.security.PasswordHashingUnavailableException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,8 +24,65 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/auth")
+@RequiredArgsConstructor
+@Slf4j
 public class AuthController {
 
+    private final AuthService authService;
+
+    /**
+     * Autentica un usuario
+     */
+    @PostMapping("/login")
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        try {
+            return ResponseEntity.ok(authService.login(request));
+        } catch (PasswordHashingUnavailableException e) {
+            return serviceUnavailable(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    /**
+     * Registra un nuevo usuario
+     */
+    @PostMapping("/register")
+    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(authService.register(request));
+        } catch (PasswordHashingUnavailableException e) {
+            return serviceUnavailable(e);
+        } catch (DuplicateUserException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("field", e.getField().name().toLowerCase(), "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Rota el refresh token y emite un nuevo token de acceso
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(authService.refreshToken(request.getRefreshToken()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    /**
+     * Respuesta 503 con Retry-After cuando el hashing de contraseñas está saturado
+     */
+    private static ResponseEntity<AuthResponse> serviceUnavailable(PasswordHashingUnavailableException e) {
+        log.warn("Autenticación rechazada por saturación: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
+
     /**
      * Información sobre el proceso de registro
      */
@@ -0,0 +1,104 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.ResourceVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Utilidad para resolver peticiones GET condicionales (If-None-Match / If-Modified-Since)
+ * antes de cargar y serializar el recurso.
+ *
+ * Las respuestas se negocian entre JSON, CBOR y Smile (BinaryFormatsConfig): cada codificación
+ * es una representación distinta, así que el ETag incluye la elegida y la respuesta lleva
+ * Vary: Accept para que las cachés no mezclen formatos.
+ */
+final class ConditionalRequests {
+
+    static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    // Mismo orden de preferencia que los convertidores: JSON gana ante comodines
+    private static final List<MediaType> PRODUCIBLE = List.of(MediaType.APPLICATION_JSON, CBOR, SMILE);
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Devuelve 304 si la versión del cliente coincide; en otro caso construye la respuesta completa.
+     * Las cabeceras ETag, Last-Modified y Vary quedan fijadas en la respuesta en ambos casos.
+     * @param request Petición actual
+     * @param version Versión actual del recurso
+     * @param response Proveedor de la respuesta completa, solo se invoca si hay cambios
+     * @return Respuesta 304 o la respuesta completa
+     */
+    static <T> ResponseEntity<T> notModifiedOr(WebRequest request,
+                                               ResourceVersion version,
+                                               Supplier<ResponseEntity<T>> response) {
+        ResourceVersion negotiated = negotiated(request, version);
+        varyByAccept(request);
+        if (request.checkNotModified(negotiated.getEtag(), negotiated.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return response.get();
+    }
+
+    /**
+     * Versión de la representación que se enviará según la cabecera Accept
+     * @param request Petición actual
+     * @param version Versión del recurso
+     * @return La misma versión para JSON; una variante por formato binario
+     */
+    static ResourceVersion negotiated(WebRequest request, ResourceVersion version) {
+        MediaType selected = selectMediaType(request.getHeader(HttpHeaders.ACCEPT));
+        if (CBOR.equalsTypeAndSubtype(selected)) return version.withVariant("cbor");
+        if (SMILE.equalsTypeAndSubtype(selected)) return version.withVariant("smile");
+        return version;
+    }
+
+    /**
+     * Resuelve el tipo que elegirá la negociación de contenido entre los formatos producibles
+     * @param accept Cabecera Accept (puede ser null)
+     * @return Tipo elegido; JSON si la cabecera falta, es inválida o no admite ninguno
+     */
+    static MediaType selectMediaType(String accept) {
+        if (accept == null || accept.isBlank()) return MediaType.APPLICATION_JSON;
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // Ordena por calidad y especificidad, como AbstractMessageConverterMethodProcessor
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType acceptedType : accepted) {
+            if (acceptedType.getQualityValue() == 0) continue;
+            for (MediaType producible : PRODUCIBLE) {
+                if (acceptedType.isCompatibleWith(producible)) return producible;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Añade Vary: Accept; Spring combina el valor con el de la respuesta sin duplicarlo
+     */
+    static void varyByAccept(WebRequest request) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse servletResponse = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (servletResponse != null && !servletResponse.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+                servletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.infrastructure.security.JwtKeyManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Publica las claves públicas de firma de los JWT para que otros servicios
+ * (por ejemplo, el servicio de streaming) verifiquen los tokens localmente
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    /**
+     * Documento JWKS (RFC 7517). Vacío si los tokens se firman con secreto compartido.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtKeyManager.getJwksMaxAge()).cachePublic())
+                .eTag(jwtKeyManager.getJwksETag())
+                .body(jwtKeyManager.getJwks());
+    }
+}
@@ -0,0 +1,98 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.service.NotificationService;
+import com.tournament.domain.entity.Notification;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST para las notificaciones de usuario
+ */
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Notificaciones", description = "API para consulta y lectura de notificaciones")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Obtiene las notificaciones de un usuario paginadas por cursor
+     */
+    @GetMapping
+    @Operation(summary = "Listar notificaciones",
+               description = "Notificaciones del usuario de la más reciente a la más antigua; beforeId pagina hacia atrás")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de notificaciones obtenida",
+                    content = @Content(schema = @Schema(implementation = Notification.class)))
+    })
+    public ResponseEntity<List<Notification>> getNotifications(
+            @Parameter(description = "ID del usuario") @RequestParam Long userId,
+            @Parameter(description = "Solo notificaciones con ID menor") @RequestParam(required = false) Long beforeId,
+            @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(notificationService.getNotifications(userId, beforeId, limit));
+    }
+
+    /**
+     * Obtiene el número de notificaciones no leídas
+     */
+    @GetMapping("/unread-count")
+    @Operation(summary = "Contar no leídas", description = "Número de notificaciones no leídas del usuario")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recuento obtenido")
+    })
+    public ResponseEntity<Map<String, Long>> getUnreadCount(
+            @Parameter(description = "ID del usuario") @RequestParam Long userId) {
+        return ResponseEntity.ok(Map.of("unread", notificationService.getUnreadCount(userId)));
+    }
+
+    /**
+     * Marca como leídas varias notificaciones
+     */
+    @PostMapping("/read")
+    @Operation(summary = "Marcar como leídas", description = "Marca como leídas las notificaciones indicadas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notificaciones marcadas"),
+        @ApiResponse(responseCode = "400", description = "Demasiadas notificaciones en una petición")
+    })
+    public ResponseEntity<Map<String, Integer>> markRead(
+            @Parameter(description = "ID del usuario") @RequestParam Long userId,
+            @RequestBody List<Long> ids) {
+        try {
+            return ResponseEntity.ok(Map.of("marked", notificationService.markRead(userId, ids)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Marca como leídas todas las notificaciones hasta la última vista
+     */
+    @PostMapping("/read-all")
+    @Operation(summary = "Marcar todas como leídas",
+               description = "Marca como leídas las notificaciones enviadas hasta upTo (sentAt de la última vista); sin él, todas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notificaciones marcadas")
+    })
+    public ResponseEntity<Map<String, Integer>> markAllRead(
+            @Parameter(description = "ID del usuario") @RequestParam Long userId,
+            @Parameter(description = "sentAt de la última notificación vista")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upTo) {
+        return ResponseEntity.ok(Map.of("marked", notificationService.markAllRead(userId, upTo)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.ResourceVersion;
+import com.tournament.application.dto.TournamentResponse;
+import com.tournament.application.service.ReferenceDataRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Controlador REST para los datos de referencia (categorías y tipos de juego).
+ *
+ * Las respuestas se sirven desde memoria con ETag; Spring responde 304 automáticamente
+ * cuando el cliente envía un If-None-Match que coincide. El ETag distingue el formato
+ * negociado (JSON, CBOR o Smile).
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Datos de referencia", description = "API para categorías y tipos de juego")
+public class ReferenceDataController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    /**
+     * Obtiene todas las categorías
+     */
+    @GetMapping("/categories")
+    @Operation(summary = "Listar categorías", description = "Obtiene todas las categorías de videojuegos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de categorías obtenida",
+                    content = @Content(schema = @Schema(implementation = TournamentResponse.CategoryResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Sin cambios desde el ETag indicado")
+    })
+    public ResponseEntity<List<TournamentResponse.CategoryResponse>> getCategories(WebRequest webRequest) {
+        return ResponseEntity.ok()
+                .eTag(negotiatedETag(webRequest, referenceDataRegistry.getCategoriesETag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache())
+                .body(referenceDataRegistry.getCategories());
+    }
+
+    /**
+     * Obtiene todos los tipos de juego
+     */
+    @GetMapping("/game-types")
+    @Operation(summary = "Listar tipos de juego", description = "Obtiene todos los tipos de juego")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de tipos de juego obtenida",
+                    content = @Content(schema = @Schema(implementation = TournamentResponse.GameTypeResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Sin cambios desde el ETag indicado")
+    })
+    public ResponseEntity<List<TournamentResponse.GameTypeResponse>> getGameTypes(WebRequest webRequest) {
+        return ResponseEntity.ok()
+                .eTag(negotiatedETag(webRequest, referenceDataRegistry.getGameTypesETag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache())
+                .body(referenceDataRegistry.getGameTypes());
+    }
+
+    private static String negotiatedETag(WebRequest webRequest, String etag) {
+        return ConditionalRequests.negotiated(webRequest, new ResourceVersion(etag, -1)).getEtag();
+    }
+}
@@ -0,0 +1,76 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.RevenueResponse;
+import com.tournament.application.service.RevenueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para los informes de ingresos de organizadores y torneos
+ */
+@RestController
+@RequestMapping("/revenue")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Ingresos", description = "API para consulta de ingresos y comisiones")
+public class RevenueController {
+
+    private final RevenueService revenueService;
+
+    /**
+     * Obtiene los ingresos acumulados de un organizador
+     */
+    @GetMapping("/organizer/{organizerId}")
+    @Operation(summary = "Ingresos por organizador",
+               description = "Tickets vendidos, importes brutos, comisiones y devoluciones de todos los torneos del organizador")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingresos obtenidos",
+                    content = @Content(schema = @Schema(implementation = RevenueResponse.class)))
+    })
+    public ResponseEntity<RevenueResponse> getOrganizerRevenue(
+            @Parameter(description = "ID del organizador") @PathVariable Long organizerId) {
+        return ResponseEntity.ok(revenueService.getOrganizerRevenue(organizerId));
+    }
+
+    /**
+     * Obtiene los ingresos de cada torneo de un organizador
+     */
+    @GetMapping("/organizer/{organizerId}/tournaments")
+    @Operation(summary = "Ingresos por torneo de un organizador", description = "Desglose de ingresos por torneo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingresos obtenidos",
+                    content = @Content(schema = @Schema(implementation = RevenueResponse.class)))
+    })
+    public ResponseEntity<List<RevenueResponse>> getTournamentRevenueByOrganizer(
+            @Parameter(description = "ID del organizador") @PathVariable Long organizerId) {
+        return ResponseEntity.ok(revenueService.getTournamentRevenueByOrganizer(organizerId));
+    }
+
+    /**
+     * Obtiene los ingresos de un torneo
+     */
+    @GetMapping("/tournament/{tournamentId}")
+    @Operation(summary = "Ingresos por torneo", description = "Ingresos acumulados de un torneo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingresos obtenidos",
+                    content = @Content(schema = @Schema(implementation = RevenueResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Torneo no encontrado")
+    })
+    public ResponseEntity<RevenueResponse> getTournamentRevenue(
+            @Parameter(description = "ID del torneo") @PathVariable Long tournamentId) {
+        return revenueService.getTournamentRevenue(tournamentId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -39,9 +40,9 @@ public class TicketController {
         @ApiResponse(responseCode = "200", description = "Lista de tickets obtenida",
                     content = @Content(schema = @Schema(implementation = Ticket.class)))
     })
-    public ResponseEntity<List<Ticket>> getAllTickets() {
-        List<Ticket> tickets = ticketService.getAllTickets();
-        return ResponseEntity.ok(tickets);
+    public ResponseEntity<List<Ticket>> getAllTickets(WebRequest webRequest) {
+        return ConditionalRequests.notModifiedOr(webRequest, ticketService.getAllTicketsVersion(),
+                () -> ResponseEntity.ok(ticketService.getAllTickets()));
     }
 
     /**
@@ -79,13 +80,18 @@ public class TicketController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Ticket encontrado",
                     content = @Content(schema = @Schema(implementation = Ticket.class))),
+        @ApiResponse(responseCode = "304", description = "Ticket sin cambios"),
         @ApiResponse(responseCode = "404", description = "Ticket no encontrado")
     })
     public ResponseEntity<Ticket> getTicket(
-            @Parameter(description = "ID del ticket") @PathVariable Long id) {
+            @Parameter(description = "ID del ticket") @PathVariable Long id,
+            WebRequest webRequest) {
         
-        return ticketService.getTicketById(id)
-                .map(ResponseEntity::ok)
+        return ticketService.getTicketVersion(id)
+                .map(version -> ConditionalRequests.notModifiedOr(webRequest, version,
+                        () -> ticketService.getTicketById(id)
+                                .map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -117,10 +123,11 @@ public class TicketController {
                     content = @Content(schema = @Schema(implementation = Ticket.class)))
     })
     public ResponseEntity<List<Ticket>> getTicketsByUser(
-            @Parameter(description = "ID del usuario") @PathVariable Long userId) {
+            @Parameter(description = "ID del usuario") @PathVariable Long userId,
+            WebRequest webRequest) {
         
-        List<Ticket> tickets = ticketService.getTicketsByUser(userId);
-        return ResponseEntity.ok(tickets);
+        return ConditionalRequests.notModifiedOr(webRequest, ticketService.getTicketsByUserVersion(userId),
+                () -> ResponseEntity.ok(ticketService.getTicketsByUser(userId)));
     }
 
     /**
@@ -133,10 +140,11 @@ public class TicketController {
                     content = @Content(schema = @Schema(implementation = Ticket.class)))
     })
     public ResponseEntity<List<Ticket>> getTicketsByTournament(
-            @Parameter(description = "ID del torneo") @PathVariable Long tournamentId) {
+            @Parameter(description = "ID del torneo") @PathVariable Long tournamentId,
+            WebRequest webRequest) {
         
-        List<Ticket> tickets = ticketService.getTicketsByTournament(tournamentId);
-        return ResponseEntity.ok(tickets);
+        return ConditionalRequests.notModifiedOr(webRequest, ticketService.getTicketsByTournamentVersion(tournamentId),
+                () -> ResponseEntity.ok(ticketService.getTicketsByTournament(tournamentId)));
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.tournament.presentation.controller;
 
 import com.tournament.application.dto.CreateTournamentRequest;
+import com.tournament.application.dto.ResourceVersion;
+import com.tournament.application.dto.TournamentField;
 import com.tournament.application.dto.TournamentResponse;
 import com.tournament.application.service.TournamentService;
 import com.tournament.domain.entity.Tournament;
@@ -17,9 +19,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST para la gestión de torneos
@@ -73,13 +78,18 @@ public class TournamentController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Torneo encontrado",
                     content = @Content(schema = @Schema(implementation = TournamentResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Torneo sin cambios"),
         @ApiResponse(responseCode = "404", description = "Torneo no encontrado")
     })
     public ResponseEntity<TournamentResponse> getTournament(
-            @Parameter(description = "ID del torneo") @PathVariable Long id) {
+            @Parameter(description = "ID del torneo") @PathVariable Long id,
+            WebRequest webRequest) {
         
-        return tournamentService.getTournamentById(id)
-                .map(ResponseEntity::ok)
+        return tournamentService.getTournamentVersion(id)
+                .map(version -> ConditionalRequests.notModifiedOr(webRequest, version,
+                        () -> tournamentService.getTournamentById(id)
+                                .map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -90,11 +100,14 @@ public class TournamentController {
     @Operation(summary = "Listar torneos", description = "Obtiene todos los torneos disponibles")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida",
-                    content = @Content(schema = @Schema(implementation = TournamentResponse.class)))
+                    content = @Content(schema = @Schema(implementation = TournamentResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Campo o vista desconocidos")
     })
-    public ResponseEntity<List<TournamentResponse>> getAllTournaments() {
-        List<TournamentResponse> tournaments = tournamentService.getAllTournaments();
-        return ResponseEntity.ok(tournaments);
+    public ResponseEntity<List<?>> getAllTournaments(
+            @Parameter(description = "Campos a incluir, separados por comas") @RequestParam(required = false) String fields,
+            @Parameter(description = "Vista predefinida (summary)") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
+        return listTournaments(webRequest, tournamentService::getAllTournamentsVersion, fields, view, null, false);
     }
 
     /**
@@ -104,13 +117,17 @@ public class TournamentController {
     @Operation(summary = "Torneos por organizador", description = "Obtiene todos los torneos de un organizador")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida",
-                    content = @Content(schema = @Schema(implementation = TournamentResponse.class)))
+                    content = @Content(schema = @Schema(implementation = TournamentResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Campo o vista desconocidos")
     })
-    public ResponseEntity<List<TournamentResponse>> getTournamentsByOrganizer(
-            @Parameter(description = "ID del organizador") @PathVariable Long organizerId) {
+    public ResponseEntity<List<?>> getTournamentsByOrganizer(
+            @Parameter(description = "ID del organizador") @PathVariable Long organizerId,
+            @Parameter(description = "Campos a incluir, separados por comas") @RequestParam(required = false) String fields,
+            @Parameter(description = "Vista predefinida (summary)") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
         
-        List<TournamentResponse> tournaments = tournamentService.getTournamentsByOrganizer(organizerId);
-        return ResponseEntity.ok(tournaments);
+        return listTournaments(webRequest, () -> tournamentService.getTournamentsByOrganizerVersion(organizerId),
+                fields, view, organizerId, false);
     }
 
     /**
@@ -120,11 +137,14 @@ public class TournamentController {
     @Operation(summary = "Torneos abiertos", description = "Obtiene torneos abiertos para registro")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de torneos abiertos",
-                    content = @Content(schema = @Schema(implementation = TournamentResponse.class)))
+                    content = @Content(schema = @Schema(implementation = TournamentResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Campo o vista desconocidos")
     })
-    public ResponseEntity<List<TournamentResponse>> getOpenTournaments() {
-        List<TournamentResponse> tournaments = tournamentService.getOpenTournaments();
-        return ResponseEntity.ok(tournaments);
+    public ResponseEntity<List<?>> getOpenTournaments(
+            @Parameter(description = "Campos a incluir, separados por comas") @RequestParam(required = false) String fields,
+            @Parameter(description = "Vista predefinida (summary)") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
+        return listTournaments(webRequest, tournamentService::getOpenTournamentsVersion, fields, view, null, true);
     }
 
     /**
@@ -191,4 +211,36 @@ public class TournamentController {
             return ResponseEntity.notFound().build();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Lista torneos completos o proyectados según los parámetros fields/view
+     */
+    private ResponseEntity<List<?>> listTournaments(WebRequest webRequest, Supplier<ResourceVersion> version,
+                                                    String fields, String view, Long organizerId, boolean openOnly) {
+        if (fields == null && view == null) {
+            return ConditionalRequests.notModifiedOr(webRequest, version.get(), () -> {
+                List<TournamentResponse> tournaments;
+                if (openOnly) {
+                    tournaments = tournamentService.getOpenTournaments();
+                } else if (organizerId != null) {
+                    tournaments = tournamentService.getTournamentsByOrganizer(organizerId);
+                } else {
+                    tournaments = tournamentService.getAllTournaments();
+                }
+                return ResponseEntity.ok(tournaments);
+            });
+        }
+
+        Set<TournamentField> requested;
+        try {
+            requested = TournamentField.parse(fields, view);
+        } catch (IllegalArgumentException e) {
+            log.warn("Proyección de torneos inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        // Cada conjunto de campos es una representación distinta y necesita su propio ETag
+        return ConditionalRequests.notModifiedOr(webRequest,
+                version.get().withVariant(TournamentField.versionToken(requested)),
+                () -> ResponseEntity.ok(tournamentService.getTournamentsProjected(requested, organizerId, openOnly)));
+    }
+}
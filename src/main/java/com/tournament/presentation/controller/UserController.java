@@ -0,0 +1,58 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.UserImportResult;
+import com.tournament.application.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controlador REST para la gestión de usuarios
+ */
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Usuarios", description = "API para gestión de usuarios")
+public class UserController {
+
+    private final UserImportService userImportService;
+
+    /**
+     * Importa usuarios desde un fichero CSV
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar usuarios",
+               description = "Crea participantes desde un CSV con cabecera username,email,password,firstName,lastName[,role]; "
+                       + "las filas con un rol distinto de PARTICIPANT se rechazan")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importación procesada; las filas rechazadas se detallan en la respuesta",
+                    content = @Content(schema = @Schema(implementation = UserImportResult.class))),
+        @ApiResponse(responseCode = "400", description = "Fichero vacío o sin las columnas obligatorias")
+    })
+    public ResponseEntity<UserImportResult> importUsers(
+            @Parameter(description = "Fichero CSV en UTF-8") @RequestParam("file") MultipartFile file) throws IOException {
+
+        log.info("Solicitud de importación de usuarios: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(input));
+        } catch (IllegalArgumentException e) {
+            log.warn("Importación de usuarios rechazada: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- Outbox transaccional de eventos de dominio.
+--
+-- Los eventos se insertan en la misma transacción que el cambio que describen y un relay los
+-- publica en lotes (SELECT ... FOR UPDATE SKIP LOCKED), borrándolos una vez confirmados. La tabla
+-- solo contiene pendientes, por lo que se mantiene pequeña aunque el volumen sea alto.
+-- Entrega al menos una vez: los consumidores deduplican por id.
+CREATE SEQUENCE outbox_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('outbox_events_id_seq'),
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
+
+ALTER SEQUENCE outbox_events_id_seq OWNED BY outbox_events.id;
+
+CREATE INDEX idx_outbox_events_next_attempt ON outbox_events(next_attempt_at, id);
@@ -0,0 +1,52 @@
+-- Agregados de ingresos por torneo y por organizador.
+--
+-- Se actualizan de forma incremental en la misma transacción que la compra o la cancelación de
+-- cada ticket, de modo que los informes de ingresos son lecturas por clave primaria en lugar de
+-- recorrer tickets. Importes brutos incluyendo comisión; las devoluciones se acumulan aparte
+-- para conservar el histórico de ventas.
+CREATE TABLE tournament_revenue (
+    tournament_id BIGINT PRIMARY KEY REFERENCES tournaments(id),
+    organizer_id BIGINT REFERENCES users(id),
+    tickets_sold BIGINT NOT NULL DEFAULT 0,
+    tickets_refunded BIGINT NOT NULL DEFAULT 0,
+    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    fee_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refunded_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refunded_fee_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_tournament_revenue_organizer ON tournament_revenue(organizer_id, tournament_id);
+
+CREATE TABLE organizer_revenue (
+    organizer_id BIGINT PRIMARY KEY REFERENCES users(id),
+    tickets_sold BIGINT NOT NULL DEFAULT 0,
+    tickets_refunded BIGINT NOT NULL DEFAULT 0,
+    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    fee_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refunded_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refunded_fee_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Carga inicial: una fila por torneo existente, con o sin ventas
+INSERT INTO tournament_revenue (tournament_id, organizer_id, tickets_sold, tickets_refunded,
+                                gross_amount, fee_amount, refunded_amount, refunded_fee_amount)
+SELECT t.id, t.organizer_id,
+       COUNT(k.id),
+       COUNT(k.id) FILTER (WHERE k.status = 'CANCELLED'),
+       COALESCE(SUM(k.total_amount), 0),
+       COALESCE(SUM(k.service_fee), 0),
+       COALESCE(SUM(k.total_amount) FILTER (WHERE k.status = 'CANCELLED'), 0),
+       COALESCE(SUM(k.service_fee) FILTER (WHERE k.status = 'CANCELLED'), 0)
+FROM tournaments t
+LEFT JOIN tickets k ON k.tournament_id = t.id
+GROUP BY t.id, t.organizer_id;
+
+INSERT INTO organizer_revenue (organizer_id, tickets_sold, tickets_refunded,
+                               gross_amount, fee_amount, refunded_amount, refunded_fee_amount)
+SELECT organizer_id, SUM(tickets_sold), SUM(tickets_refunded),
+       SUM(gross_amount), SUM(fee_amount), SUM(refunded_amount), SUM(refunded_fee_amount)
+FROM tournament_revenue
+WHERE organizer_id IS NOT NULL
+GROUP BY organizer_id;
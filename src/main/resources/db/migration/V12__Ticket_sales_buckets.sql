@@ -0,0 +1,38 @@
+-- Ventas de tickets preagregadas por intervalos de tiempo.
+--
+-- Cada compra y cada cancelación suma sus importes a la fila de su minuto en la misma
+-- transacción que el ticket. Un proceso periódico reagrupa los minutos antiguos en horas y las
+-- horas antiguas en días, de modo que una serie de un año son unos cientos de filas por torneo.
+-- Cada venta vive en una sola fila en cada momento, así que sumar filas de distinta resolución
+-- dentro de un intervalo es siempre correcto.
+CREATE TABLE ticket_sales_buckets (
+    tournament_id BIGINT NOT NULL REFERENCES tournaments(id),
+    resolution VARCHAR(10) NOT NULL, -- MINUTE, HOUR, DAY
+    bucket_start TIMESTAMP NOT NULL,
+    organizer_id BIGINT REFERENCES users(id),
+    tickets_sold BIGINT NOT NULL DEFAULT 0,
+    tickets_refunded BIGINT NOT NULL DEFAULT 0,
+    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    fee_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refunded_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (tournament_id, resolution, bucket_start)
+);
+
+CREATE INDEX idx_ticket_sales_buckets_tournament ON ticket_sales_buckets(tournament_id, bucket_start);
+CREATE INDEX idx_ticket_sales_buckets_organizer ON ticket_sales_buckets(organizer_id, bucket_start);
+
+-- Carga inicial por minuto de compra; el proceso de reagrupado compacta el histórico en su
+-- primera ejecución. La fecha de cancelación no se registraba, así que las devoluciones previas
+-- se imputan al minuto de la compra.
+INSERT INTO ticket_sales_buckets (tournament_id, resolution, bucket_start, organizer_id, tickets_sold,
+                                  tickets_refunded, gross_amount, fee_amount, refunded_amount)
+SELECT k.tournament_id, 'MINUTE', date_trunc('minute', k.purchase_date), t.organizer_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE k.status = 'CANCELLED'),
+       SUM(k.total_amount),
+       SUM(k.service_fee),
+       COALESCE(SUM(k.total_amount) FILTER (WHERE k.status = 'CANCELLED'), 0)
+FROM tickets k
+JOIN tournaments t ON t.id = k.tournament_id
+WHERE k.purchase_date IS NOT NULL
+GROUP BY k.tournament_id, date_trunc('minute', k.purchase_date), t.organizer_id;
@@ -0,0 +1,4 @@
+-- Sincronización incremental de revocaciones entre réplicas
+-- V13__Index_revoked_tokens_revoked_at.sql
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
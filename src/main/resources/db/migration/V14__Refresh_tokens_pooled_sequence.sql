@@ -0,0 +1,5 @@
+-- Secuencia con incremento 50 para el optimizador pooled de Hibernate (ver V7)
+-- V14__Refresh_tokens_pooled_sequence.sql
+
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
+SELECT setval('refresh_tokens_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM refresh_tokens;
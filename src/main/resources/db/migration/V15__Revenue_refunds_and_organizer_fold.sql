@@ -0,0 +1,27 @@
+-- Corrección de los agregados de ingresos de V11.
+--
+-- Devoluciones: TicketService solo devuelve el importe al cancelar un ticket ACTIVE; cancelar un
+-- ticket ya expirado no es una devolución. V11 contó todos los CANCELLED. El estado previo no se
+-- guarda, pero un ticket solo puede estar EXPIRED si su torneo tiene trabajo de expiración, y
+-- solo tras el inicio de ese trabajo: se excluyen los cancelados cuyo TICKET_CANCELLED en
+-- audit_logs es posterior al inicio. Sin registro de auditoría se mantiene como devolución, que
+-- es el caso habitual (cancelación antes de que acabe el torneo).
+--
+-- organizer_revenue: los ingresos del organizador pasan a sumarse al consultar desde
+-- tournament_revenue (RevenueService), así que la fila por organizador deja de mantenerse.
+
+UPDATE tournament_revenue r
+SET (tickets_refunded, refunded_amount, refunded_fee_amount) = (
+    SELECT COUNT(k.id), COALESCE(SUM(k.total_amount), 0), COALESCE(SUM(k.service_fee), 0)
+    FROM tickets k
+    LEFT JOIN ticket_expiry_jobs j ON j.tournament_id = k.tournament_id
+    WHERE k.tournament_id = r.tournament_id
+      AND k.status = 'CANCELLED'
+      AND (j.tournament_id IS NULL OR NOT EXISTS (
+          SELECT 1 FROM audit_logs a
+          WHERE a.entity_type = 'TICKET'
+            AND a.entity_id = k.id
+            AND a.action = 'TICKET_CANCELLED'
+            AND a.created_at >= j.created_at)));
+
+DROP TABLE organizer_revenue;
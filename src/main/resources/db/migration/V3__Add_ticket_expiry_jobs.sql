@@ -0,0 +1,18 @@
+-- Trabajos de expiración masiva de tickets
+-- V3__Add_ticket_expiry_jobs.sql
+
+-- Un trabajo por torneo finalizado o cancelado; last_ticket_id es el cursor que permite reanudar
+CREATE TABLE ticket_expiry_jobs (
+    tournament_id BIGINT PRIMARY KEY REFERENCES tournaments(id),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    last_ticket_id BIGINT NOT NULL DEFAULT 0,
+    expired_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_ticket_expiry_jobs_status ON ticket_expiry_jobs(status);
+
+-- Índice parcial para recorrer por lotes los tickets activos de un torneo en orden de ID
+CREATE INDEX idx_tickets_tournament_active ON tickets(tournament_id, id) WHERE status = 'ACTIVE';
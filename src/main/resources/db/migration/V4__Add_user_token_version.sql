@@ -0,0 +1,6 @@
+-- Versión de tokens por usuario
+-- V4__Add_user_token_version.sql
+
+-- Se incrementa al desactivar el usuario, cambiar su rol o revocar sus sesiones;
+-- los tokens emitidos con una versión anterior dejan de ser válidos
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Tokens JWT revocados (logout) hasta su expiración natural
+-- V5__Add_revoked_tokens.sql
+
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Carga de revocaciones vigentes y purga de expiradas
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
@@ -0,0 +1,20 @@
+-- Secuencias con incremento 50 para el optimizador pooled de Hibernate.
+-- Con IDENTITY Hibernate inserta cada fila en el momento de persistirla para leer su ID y no
+-- puede agrupar INSERT en lotes JDBC; con secuencias reserva 50 IDs por cada nextval.
+-- El optimizador pooled usa el rango (valor - 49, valor], de modo que los INSERT que usan el
+-- DEFAULT nextval(...) de la columna siguen siendo seguros: consumen un bloque completo.
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+SELECT setval('users_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+
+ALTER SEQUENCE tournaments_id_seq INCREMENT BY 50;
+SELECT setval('tournaments_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM tournaments;
+
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+SELECT setval('tickets_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM tickets;
+
+ALTER SEQUENCE notifications_id_seq INCREMENT BY 50;
+SELECT setval('notifications_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM notifications;
+
+ALTER SEQUENCE audit_logs_id_seq INCREMENT BY 50;
+SELECT setval('audit_logs_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM audit_logs;
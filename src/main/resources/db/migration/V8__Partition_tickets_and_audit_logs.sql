@@ -0,0 +1,117 @@
+-- Particionado de tickets y audit_logs.
+--
+-- audit_logs: por rango mensual de created_at. Las consultas por fecha leen solo los meses
+-- implicados y la retención se aplica eliminando particiones completas (PartitionMaintenanceJob),
+-- sin DELETE masivos. Una partición DEFAULT recoge filas fuera de los meses creados.
+--
+-- tickets: por hash de tournament_id en 16 particiones. Las consultas por torneo (las más
+-- frecuentes: listados, recuentos, expiración) leen una sola partición. PostgreSQL exige que las
+-- claves únicas incluyan la clave de partición, por lo que qr_code y unique_code pasan a ser
+-- únicos por torneo. Entre torneos la base de datos no impide duplicados: depende de que
+-- TicketService los genere a partir de UUID aleatorios. Exigir unicidad global requeriría una
+-- tabla de códigos sin particionar con índice único.
+
+-- ---------------------------------------------------------------------------------------------
+-- audit_logs
+-- ---------------------------------------------------------------------------------------------
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    user_id BIGINT REFERENCES users(id),
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT,
+    details JSONB,
+    ip_address INET,
+    user_agent TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Particiones mensuales desde el dato más antiguo hasta tres meses por delante
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_p' || to_char(month_start, 'YYYY_MM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id, details, ip_address, user_agent, created_at)
+SELECT id, user_id, action, entity_type, entity_id, details, ip_address, user_agent, COALESCE(created_at, now())
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+CREATE INDEX idx_audit_logs_user ON audit_logs(user_id);
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_logs_created ON audit_logs(created_at);
+
+-- ---------------------------------------------------------------------------------------------
+-- tickets
+-- ---------------------------------------------------------------------------------------------
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM tickets WHERE tournament_id IS NULL) THEN
+        RAISE EXCEPTION 'Hay tickets sin torneo: asígnelos o elimínelos antes de particionar';
+    END IF;
+END $$;
+
+ALTER TABLE tickets RENAME TO tickets_legacy;
+ALTER SEQUENCE tickets_id_seq OWNED BY NONE;
+
+CREATE TABLE tickets (
+    id BIGINT NOT NULL DEFAULT nextval('tickets_id_seq'),
+    user_id BIGINT REFERENCES users(id),
+    tournament_id BIGINT NOT NULL REFERENCES tournaments(id),
+    qr_code VARCHAR(255) NOT NULL,
+    unique_code VARCHAR(50) NOT NULL,
+    purchase_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    price DECIMAL(10,2) NOT NULL,
+    service_fee DECIMAL(10,2) NOT NULL,
+    total_amount DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) DEFAULT 'ACTIVE',
+    used_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tournament_id, id),
+    UNIQUE (tournament_id, qr_code),
+    UNIQUE (tournament_id, unique_code)
+) PARTITION BY HASH (tournament_id);
+
+ALTER SEQUENCE tickets_id_seq OWNED BY tickets.id;
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF tickets FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       'tickets_p' || lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END $$;
+
+INSERT INTO tickets (id, user_id, tournament_id, qr_code, unique_code, purchase_date, price, service_fee,
+                     total_amount, status, used_at, created_at)
+SELECT id, user_id, tournament_id, qr_code, unique_code, purchase_date, price, service_fee,
+       total_amount, status, used_at, created_at
+FROM tickets_legacy;
+
+DROP TABLE tickets_legacy;
+
+-- Búsquedas sin torneo: un índice por partición
+CREATE INDEX idx_tickets_id ON tickets(id);
+CREATE INDEX idx_tickets_user ON tickets(user_id);
+CREATE INDEX idx_tickets_qr_code ON tickets(qr_code);
+CREATE INDEX idx_tickets_unique_code ON tickets(unique_code);
+CREATE INDEX idx_tickets_purchase_date ON tickets(purchase_date);
+-- Recreado desde V3: recorrido por lotes de los tickets activos de un torneo
+CREATE INDEX idx_tickets_tournament_active ON tickets(tournament_id, id) WHERE status = 'ACTIVE';
@@ -0,0 +1,25 @@
+-- Contador de notificaciones no leídas por usuario.
+--
+-- Se mantiene en la misma transacción que las inserciones y las marcas de lectura, de modo que el
+-- recuento de no leídas es una lectura por clave primaria en lugar de un COUNT(*) sobre
+-- notifications. Las altas masivas ordenan los usuarios para que dos envíos simultáneos bloqueen
+-- las filas del contador en el mismo orden.
+CREATE TABLE notification_counters (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id),
+    unread_count BIGINT NOT NULL DEFAULT 0 CHECK (unread_count >= 0),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO notification_counters (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE user_id IS NOT NULL AND is_read = false
+GROUP BY user_id;
+
+-- Listado por usuario del más reciente al más antiguo y marcado de no leídas
+DROP INDEX idx_notifications_user;
+CREATE INDEX idx_notifications_user_id ON notifications(user_id, id);
+CREATE INDEX idx_notifications_user_unread ON notifications(user_id, id) WHERE is_read = false;
+
+-- Destinatarios de un torneo: recorrido ordenado por usuario dentro de su partición
+CREATE INDEX idx_tickets_tournament_user ON tickets(tournament_id, user_id);
@@ -5,17 +5,31 @@ import com.tournament.domain.repository.UserRepository;
 import com.tournament.application.dto.LoginRequest;
 import com.tournament.application.dto.RegisterRequest;
 import com.tournament.application.dto.AuthResponse;
+import com.tournament.domain.event.UserStatusChangedEvent;
 import com.tournament.infrastructure.security.JwtTokenProvider;
+import com.tournament.infrastructure.security.TokenRevocationService;
+import com.tournament.infrastructure.security.UserStatus;
+import com.tournament.infrastructure.security.UserStatusCache;
+import com.tournament.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +49,21 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AuthService authService;
 
@@ -92,6 +121,46 @@ class AuthServiceTest {
         verify(jwtTokenProvider).generateToken((User) testUser);
     }
 
+    @Test
+    void testLogin_RehashesWhenCostChanged() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+        when(jwtTokenProvider.generateToken((User) testUser)).thenReturn("test.jwt.token");
+
+        // Act
+        authService.login(loginRequest);
+
+        // Assert
+        assertEquals("rehashedPassword", testUser.getPasswordHash());
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    void testLogin_HashesBetweenTransactions() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+
+        // Act
+        authService.login(loginRequest);
+
+        // Assert: lectura confirmada, hashing sin transacción abierta y escritura después
+        InOrder inOrder = inOrder(transactionManager, userRepository, passwordEncoder);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).findByUsername("testuser");
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(passwordEncoder).matches("password123", "encodedPassword");
+        inOrder.verify(passwordEncoder).encode("password123");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).save(testUser);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
     @Test
     void testLogin_UserNotFound() {
         // Arrange
@@ -136,10 +205,8 @@ class AuthServiceTest {
         ReflectionTestUtils.setField(newUser, "role", User.UserRole.PARTICIPANT);
         ReflectionTestUtils.setField(newUser, "isActive", true);
 
-        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
-        when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(newUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(newUser);
         when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("test.jwt.token");
 
         // Act
@@ -151,54 +218,68 @@ class AuthServiceTest {
         assertNotNull(ReflectionTestUtils.getField(result, "user"));
         assertEquals("newuser", ReflectionTestUtils.getField(ReflectionTestUtils.getField(result, "user"), "username"));
 
-        verify(userRepository).findByUsername("newuser");
-        verify(userRepository).findByEmail("new@example.com");
+        verify(userRepository, never()).findByUsername(any());
+        verify(userRepository, never()).findByEmail(any());
         verify(passwordEncoder).encode("password123");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
         verify(jwtTokenProvider).generateToken(any(User.class));
     }
 
     @Test
     void testRegister_UsernameAlreadyExists() {
-        // Arrange
-        when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(testUser));
+        // Arrange - la restricción única de la base de datos rechaza el insert
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_username_key"));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
+        DuplicateUserException exception = assertThrows(DuplicateUserException.class, () -> {
             authService.register(registerRequest);
         });
 
-        verify(userRepository).findByUsername("newuser");
-        verify(userRepository, never()).findByEmail(any());
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+        assertEquals(DuplicateUserException.Field.USERNAME, exception.getField());
+        assertEquals("El nombre de usuario ya existe", exception.getMessage());
+        verify(userRepository, never()).findByUsername(any());
         verify(jwtTokenProvider, never()).generateToken(any(User.class));
+        verify(refreshTokenService, never()).issue(any());
     }
 
     @Test
     void testRegister_EmailAlreadyExists() {
         // Arrange
-        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
-        when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_email_key"));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
+        DuplicateUserException exception = assertThrows(DuplicateUserException.class, () -> {
             authService.register(registerRequest);
         });
 
-        verify(userRepository).findByUsername("newuser");
-        verify(userRepository).findByEmail("new@example.com");
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+        assertEquals(DuplicateUserException.Field.EMAIL, exception.getField());
+        assertEquals("El email ya está registrado", exception.getMessage());
+        verify(userRepository, never()).findByEmail(any());
+        verify(jwtTokenProvider, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void testRegister_OtherIntegrityViolationIsNotMapped() {
+        // Arrange
+        DataIntegrityViolationException violation = uniqueViolation("users_role_check");
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        // Act & Assert
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class, () -> {
+            authService.register(registerRequest);
+        });
+        assertSame(violation, thrown);
     }
 
     @Test
     void testValidateToken_ValidToken() {
         // Arrange
         String token = "valid.jwt.token";
-        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-        when(jwtTokenProvider.extractUsername(token)).thenReturn("testuser");
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verifiedToken("testuser", 0)));
+        when(userStatusCache.get("testuser")).thenReturn(Optional.of(UserStatus.of(testUser)));
 
         // Act
         boolean result = authService.validateToken(token);
@@ -206,16 +287,16 @@ class AuthServiceTest {
         // Assert
         assertTrue(result);
 
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider).extractUsername(token);
-        verify(userRepository).findByUsername("testuser");
+        verify(jwtTokenProvider).verify(token);
+        verify(userStatusCache).get("testuser");
+        verify(userRepository, never()).findByUsername(any());
     }
 
     @Test
     void testValidateToken_InvalidToken() {
         // Arrange
         String token = "invalid.jwt.token";
-        when(jwtTokenProvider.validateToken(token)).thenReturn(false);
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.empty());
 
         // Act
         boolean result = authService.validateToken(token);
@@ -223,8 +304,8 @@ class AuthServiceTest {
         // Assert
         assertFalse(result);
 
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider, never()).extractUsername(any());
+        verify(jwtTokenProvider).verify(token);
+        verify(userStatusCache, never()).get(any());
         verify(userRepository, never()).findByUsername(any());
     }
 
@@ -232,9 +313,8 @@ class AuthServiceTest {
     void testValidateToken_UserNotFound() {
         // Arrange
         String token = "valid.jwt.token";
-        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-        when(jwtTokenProvider.extractUsername(token)).thenReturn("testuser");
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verifiedToken("testuser", 0)));
+        when(userStatusCache.get("testuser")).thenReturn(Optional.empty());
 
         // Act
         boolean result = authService.validateToken(token);
@@ -242,8 +322,122 @@ class AuthServiceTest {
         // Assert
         assertFalse(result);
 
-        verify(jwtTokenProvider).validateToken(token);
-        verify(jwtTokenProvider).extractUsername(token);
-        verify(userRepository).findByUsername("testuser");
+        verify(jwtTokenProvider).verify(token);
+        verify(userStatusCache).get("testuser");
+    }
+
+    @Test
+    void testValidateToken_RevokedTokenVersion() {
+        // Arrange
+        String token = "old.jwt.token";
+        testUser.revokeTokens();
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verifiedToken("testuser", 0)));
+        when(userStatusCache.get("testuser")).thenReturn(Optional.of(UserStatus.of(testUser)));
+
+        // Act
+        boolean result = authService.validateToken(token);
+
+        // Assert
+        assertFalse(result);
+    }
+
+    @Test
+    void testDeactivateUser_RevokesTokensAndPublishesEvent() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act
+        authService.deactivateUser(1L);
+
+        // Assert
+        assertFalse(testUser.getIsActive());
+        assertEquals(1, testUser.currentTokenVersion());
+        verify(userRepository).save(testUser);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof UserStatusChangedEvent changed && "testuser".equals(changed.getUsername())));
+    }
+
+    @Test
+    void testValidateToken_RevokedByLogout() {
+        // Arrange
+        String token = "logged.out.token";
+        VerifiedToken verified = verifiedToken("testuser", 0);
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verified));
+        when(tokenRevocationService.isRevoked(verified)).thenReturn(true);
+
+        // Act
+        boolean result = authService.validateToken(token);
+
+        // Assert
+        assertFalse(result);
+        verify(userStatusCache, never()).get(any());
+    }
+
+    @Test
+    void testLogout_RevokesToken() {
+        // Arrange
+        String token = "valid.jwt.token";
+        VerifiedToken verified = verifiedToken("testuser", 0);
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verified));
+
+        // Act
+        authService.logout(token);
+
+        // Assert
+        verify(tokenRevocationService).revoke(verified);
+    }
+
+    @Test
+    void testValidateToken_TrustedAccessTokenSkipsUserLookup() {
+        // Arrange
+        String token = "valid.jwt.token";
+        ReflectionTestUtils.setField(authService, "trustAccessToken", true);
+        when(jwtTokenProvider.verify(token)).thenReturn(Optional.of(verifiedToken("testuser", 0)));
+
+        // Act
+        boolean result = authService.validateToken(token);
+
+        // Assert
+        assertTrue(result);
+        verifyNoInteractions(userStatusCache, userRepository);
+    }
+
+    @Test
+    void testRefreshToken_RotatesRefreshToken() {
+        // Arrange
+        when(refreshTokenService.rotate("refresh-1")).thenReturn(new RefreshTokenService.Rotation(testUser, "refresh-2"));
+        when(jwtTokenProvider.generateToken((User) testUser)).thenReturn("new.jwt.token");
+
+        // Act
+        AuthResponse result = authService.refreshToken("refresh-1");
+
+        // Assert
+        assertEquals("new.jwt.token", result.getToken());
+        assertEquals("refresh-2", result.getRefreshToken());
+        assertEquals("testuser", result.getUser().getUsername());
+    }
+
+    @Test
+    void testRefreshToken_InactiveUserRevokesSessions() {
+        // Arrange
+        ReflectionTestUtils.setField(testUser, "isActive", false);
+        when(refreshTokenService.rotate("refresh-1")).thenReturn(new RefreshTokenService.Rotation(testUser, "refresh-2"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> authService.refreshToken("refresh-1"));
+        verify(refreshTokenService).revokeAll(1L);
+        verify(jwtTokenProvider, never()).generateToken(any(User.class));
+    }
+
+    private static VerifiedToken verifiedToken(String username, int tokenVersion) {
+        Date now = new Date();
+        return new VerifiedToken("jti-" + username, username, 1L, "PARTICIPANT", "test@example.com", tokenVersion,
+                now, new Date(now.getTime() + 60_000), Jwts.claims(Map.of("sub", username)));
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        SQLException sqlException = new SQLException("violación de restricción " + constraintName, "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,178 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TournamentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class BusinessMetricsTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessMetrics businessMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        businessMetrics = new BusinessMetrics(meterRegistry, tournamentRepository);
+        ReflectionTestUtils.setField(businessMetrics, "topN", 2);
+        businessMetrics.registerMetrics();
+    }
+
+    @Test
+    void testRecordPurchase_TimerPerOutcome() {
+        // Act
+        businessMetrics.recordPurchase(BusinessMetrics.PurchaseOutcome.SUCCESS, TimeUnit.MILLISECONDS.toNanos(40));
+        businessMetrics.recordPurchase(BusinessMetrics.PurchaseOutcome.FULL, TimeUnit.MILLISECONDS.toNanos(5));
+        businessMetrics.recordPurchase(BusinessMetrics.PurchaseOutcome.FULL, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Assert: todas las series existen desde el arranque, aunque valgan cero
+        assertEquals(1, meterRegistry.get("tickets.purchase").tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get("tickets.purchase").tag("outcome", "full").timer().count());
+        assertEquals(0, meterRegistry.get("tickets.purchase").tag("outcome", "duplicate").timer().count());
+        assertEquals(BusinessMetrics.ValidationOutcome.values().length,
+                meterRegistry.get("tickets.validation").timers().size());
+    }
+
+    @Test
+    void testRecordPurchaseOnCompletion_CommitRecordsSuccess() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            businessMetrics.recordPurchaseOnCompletion(System.nanoTime());
+            // Nada se registra antes de terminar la transacción
+            assertEquals(0, meterRegistry.get("tickets.purchase").tag("outcome", "success").timer().count());
+
+            // Act
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+
+            // Assert
+            assertEquals(1, meterRegistry.get("tickets.purchase").tag("outcome", "success").timer().count());
+            assertEquals(0, meterRegistry.get("tickets.purchase").tag("outcome", "error").timer().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRecordPurchaseOnCompletion_RollbackRecordsError() {
+        // Arrange: la compra terminó sin excepción pero la transacción no se confirma
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            businessMetrics.recordPurchaseOnCompletion(System.nanoTime());
+
+            // Act
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Assert
+            assertEquals(0, meterRegistry.get("tickets.purchase").tag("outcome", "success").timer().count());
+            assertEquals(1, meterRegistry.get("tickets.purchase").tag("outcome", "error").timer().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRecordPurchaseOnCompletion_WithoutTransactionRecordsAtOnce() {
+        // Act
+        businessMetrics.recordPurchaseOnCompletion(System.nanoTime());
+
+        // Assert
+        assertEquals(1, meterRegistry.get("tickets.purchase").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testOccupancyRows_TopNPlusOther() {
+        // Arrange: 5 torneos abiertos, 2 en el top
+        List<TournamentRepository.SeatOccupancy> top = List.of(seats(10L, 99, 100), seats(11L, 45, 50));
+        TournamentRepository.SeatTotals totals = totals(5, 244, 350);
+
+        // Act
+        List<BusinessMetrics.SeatRow> rows = BusinessMetrics.occupancyRows(top, totals);
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals(new BusinessMetrics.SeatRow("10", 99, 100), rows.get(0));
+        assertEquals(new BusinessMetrics.SeatRow(BusinessMetrics.OTHER, 100, 200), rows.get(2));
+        assertEquals(0.5, rows.get(2).occupancy());
+        assertEquals(100, rows.get(2).available());
+    }
+
+    @Test
+    void testOccupancyRows_NoOtherWhenAllInTop() {
+        List<BusinessMetrics.SeatRow> rows = BusinessMetrics.occupancyRows(
+                List.of(seats(10L, 3, 4)), totals(1, 3, 4));
+
+        assertEquals(1, rows.size());
+        assertEquals(0.75, rows.get(0).occupancy());
+    }
+
+    @Test
+    void testRefreshSeatOccupancy_PublishesBoundedGauges() {
+        // Arrange
+        when(tournamentRepository.findOpenSeatOccupancy(PageRequest.of(0, 2)))
+                .thenReturn(List.of(seats(10L, 99, 100), seats(11L, 45, 50)));
+        when(tournamentRepository.findOpenSeatTotals()).thenReturn(totals(40, 1144, 4150));
+
+        // Act
+        businessMetrics.refreshSeatOccupancy();
+
+        // Assert: top-2 más "other", sin una serie por torneo abierto
+        assertEquals(3, meterRegistry.get("tournament.seats.occupancy").gauges().size());
+        assertEquals(0.99, meterRegistry.get("tournament.seats.occupancy").tag("tournament", "10").gauge().value(), 1e-9);
+        assertEquals(3000, meterRegistry.get("tournament.seats.available").tag("tournament", "other").gauge().value());
+        assertEquals(40, meterRegistry.get("tournament.open.count").gauge().value());
+    }
+
+    @Test
+    void testStatusTransitionsCounted() {
+        // Act
+        businessMetrics.onTournamentStatusChanged(new TournamentStatusChangedEvent(1L,
+                Tournament.TournamentStatus.REGISTRATION_OPEN, Tournament.TournamentStatus.REGISTRATION_CLOSED,
+                null, null, LocalDateTime.now()));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("tournament.status.transitions")
+                .tag("from", "REGISTRATION_OPEN").tag("to", "REGISTRATION_CLOSED").counter().count());
+    }
+
+    private static TournamentRepository.SeatOccupancy seats(Long id, int taken, int capacity) {
+        return new TournamentRepository.SeatOccupancy() {
+            public Long getId() { return id; }
+            public Integer getTaken() { return taken; }
+            public Integer getCapacity() { return capacity; }
+        };
+    }
+
+    private static TournamentRepository.SeatTotals totals(long tournaments, long taken, long capacity) {
+        return new TournamentRepository.SeatTotals() {
+            public Long getTournaments() { return tournaments; }
+            public Long getTaken() { return taken; }
+            public Long getCapacity() { return capacity; }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Envío masivo de notificaciones sobre PostgreSQL: consulta en streaming, INSERT desde unnest,
+ * actualización de contadores y lotes en transacciones REQUIRES_NEW mientras el cursor sigue
+ * abierto. Como PartitionPruningPostgresTest, se ejecuta solo si POSTGRES_TEST_URL está definida
+ * y migra un esquema propio que se elimina al terminar.
+ */
+@EnabledIfEnvironmentVariable(named = "POSTGRES_TEST_URL", matches = ".+")
+class NotificationFanoutPostgresTest {
+
+    private static final String SCHEMA = "notification_fanout_test";
+
+    private static Flyway flyway;
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+
+    private NotificationFanoutService fanoutService;
+    private SimpleMeterRegistry meterRegistry;
+    private long tournamentId;
+    private List<Long> holders;
+
+    @BeforeAll
+    static void migrate() {
+        String url = System.getenv("POSTGRES_TEST_URL");
+        String user = System.getenv().getOrDefault("POSTGRES_TEST_USER", "postgres");
+        String password = System.getenv().getOrDefault("POSTGRES_TEST_PASSWORD", "");
+
+        flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        // Varias conexiones: los lotes REQUIRES_NEW se escriben mientras el cursor sigue abierto
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA, user, password);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        if (flyway != null) {
+            flyway.clean();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_counters");
+        jdbcTemplate.update("DELETE FROM notifications");
+        jdbcTemplate.update("DELETE FROM tickets");
+
+        meterRegistry = new SimpleMeterRegistry();
+        fanoutService = new NotificationFanoutService(jdbcTemplate, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(fanoutService, "batchSize", 2);
+        ReflectionTestUtils.setField(fanoutService, "fetchSize", 2);
+        ReflectionTestUtils.setField(fanoutService, "queueCapacity", 1);
+        fanoutService.init();
+
+        holders = List.of(user("fan1"), user("fan2"), user("fan3"), user("fan4"), user("fan5"));
+        tournamentId = jdbcTemplate.queryForObject(
+                "INSERT INTO tournaments (name, max_participants, start_date, end_date) " +
+                "VALUES ('Copa', 100, now(), now() + INTERVAL '1 day') RETURNING id", Long.class);
+
+        // fan1 con dos tickets, fan5 solo con uno cancelado
+        ticket(holders.get(0), "ACTIVE");
+        ticket(holders.get(0), "USED");
+        ticket(holders.get(1), "ACTIVE");
+        ticket(holders.get(2), "ACTIVE");
+        ticket(holders.get(3), "EXPIRED");
+        ticket(holders.get(4), "CANCELLED");
+    }
+
+    @Test
+    void testFanOut_OneNotificationPerHolderAcrossBatches() {
+        // Act
+        long sent = fanoutService.fanOut(tournamentId, "El torneo %s ha comenzado", Notification.NotificationType.INFO);
+
+        // Assert: cuatro destinatarios en dos lotes de dos
+        assertEquals(4, sent);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, user_id, message, type, is_read, sent_at FROM notifications WHERE tournament_id = ?",
+                tournamentId);
+        assertEquals(4, rows.size());
+        assertEquals(4, rows.stream().map(row -> row.get("id")).distinct().count());
+        assertEquals(List.copyOf(holders.subList(0, 4)),
+                rows.stream().map(row -> ((Number) row.get("user_id")).longValue()).sorted().toList());
+        assertTrue(rows.stream().allMatch(row -> "El torneo Copa ha comenzado".equals(row.get("message"))
+                && "INFO".equals(row.get("type")) && Boolean.FALSE.equals(row.get("is_read"))
+                && row.get("sent_at") != null));
+        assertEquals(4.0, meterRegistry.get("notifications.sent").counter().count());
+    }
+
+    @Test
+    void testFanOut_UpsertsUnreadCounters() {
+        // Arrange: fan1 ya tenía contador
+        jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 3)", holders.get(0));
+
+        // Act
+        fanoutService.fanOut(tournamentId, "El torneo %s ha finalizado", Notification.NotificationType.INFO);
+        fanoutService.fanOut(tournamentId, "El torneo %s ha sido cancelado", Notification.NotificationType.WARNING);
+
+        // Assert
+        assertEquals(5L, unreadCount(holders.get(0)));
+        assertEquals(2L, unreadCount(holders.get(1)));
+        assertEquals(2L, unreadCount(holders.get(3)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_counters WHERE user_id = ?", Integer.class, holders.get(4)));
+    }
+
+    @Test
+    void testFanOut_IdsDoNotCollideWithPooledAllocation() {
+        // Arrange: Hibernate reservaría el siguiente bloque de la secuencia
+        long hibernateBlock = jdbcTemplate.queryForObject("SELECT nextval('notifications_id_seq')", Long.class);
+
+        // Act
+        fanoutService.fanOut(tournamentId, "El torneo %s ha comenzado", Notification.NotificationType.INFO);
+
+        // Assert
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM notifications", Long.class);
+        assertTrue(ids.stream().noneMatch(id -> id > hibernateBlock - NotificationFanoutService.ID_BLOCK_SIZE
+                && id <= hibernateBlock), "ids=" + ids);
+    }
+
+    @Test
+    void testFanOut_UnknownTournamentSendsNothing() {
+        // Act
+        long sent = fanoutService.fanOut(-1L, "El torneo %s ha comenzado", Notification.NotificationType.INFO);
+
+        // Assert
+        assertEquals(0, sent);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class));
+    }
+
+    private long unreadCount(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM notification_counters WHERE user_id = ?", Long.class, userId);
+    }
+
+    private static Long user(String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password_hash, first_name, last_name) " +
+                "VALUES (?, ?, 'hash', 'Fan', 'Out') " +
+                "ON CONFLICT (username) DO UPDATE SET email = EXCLUDED.email RETURNING id",
+                Long.class, username, username + "@example.com");
+    }
+
+    private void ticket(Long userId, String status) {
+        String code = Long.toHexString(System.nanoTime());
+        jdbcTemplate.update("INSERT INTO tickets (user_id, tournament_id, qr_code, unique_code, price, service_fee, " +
+                        "total_amount, status) VALUES (?, ?, ?, ?, 0, 0, 0, ?)",
+                userId, tournamentId, "QR-" + code, "UC-" + code, status);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.repository.NotificationCounterRepository;
+import com.tournament.domain.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationCounterRepository counterRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    void testGetUnreadCount_FromCounter() {
+        // Arrange
+        when(counterRepository.findUnreadCount(1L)).thenReturn(Optional.of(7L));
+
+        // Act & Assert
+        assertEquals(7L, notificationService.getUnreadCount(1L));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void testGetUnreadCount_NoCounterMeansZero() {
+        when(counterRepository.findUnreadCount(1L)).thenReturn(Optional.empty());
+
+        assertEquals(0L, notificationService.getUnreadCount(1L));
+    }
+
+    @Test
+    void testGetNotifications_ClampsPageSizeAndStartsFromLatest() {
+        // Arrange
+        when(notificationRepository.findByUserIdBefore(1L, Long.MAX_VALUE, PageRequest.of(0, NotificationService.MAX_PAGE_SIZE)))
+                .thenReturn(List.of());
+
+        // Act
+        notificationService.getNotifications(1L, null, 10_000);
+
+        // Assert
+        verify(notificationRepository).findByUserIdBefore(1L, Long.MAX_VALUE, PageRequest.of(0, NotificationService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void testMarkRead_DiscountsOnlyChangedRows() {
+        // Arrange: de tres IDs solo dos estaban sin leer
+        List<Long> ids = List.of(10L, 11L, 12L);
+        when(notificationRepository.markReadByIds(eq(1L), eq(ids), any(LocalDateTime.class))).thenReturn(2);
+
+        // Act
+        int marked = notificationService.markRead(1L, ids);
+
+        // Assert
+        assertEquals(2, marked);
+        verify(counterRepository).decrement(eq(1L), eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testMarkRead_NothingChangedLeavesCounter() {
+        when(notificationRepository.markReadByIds(eq(1L), any(), any(LocalDateTime.class))).thenReturn(0);
+
+        assertEquals(0, notificationService.markRead(1L, List.of(10L)));
+        verify(counterRepository, never()).decrement(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testMarkRead_EmptyAndOversizedRequests() {
+        assertEquals(0, notificationService.markRead(1L, Collections.emptyList()));
+
+        List<Long> tooMany = LongStream.rangeClosed(1, NotificationService.MAX_PAGE_SIZE * 10L + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class, () -> notificationService.markRead(1L, tooMany));
+        verifyNoInteractions(notificationRepository, counterRepository);
+    }
+
+    @Test
+    void testMarkAllRead_UpToNowByDefault() {
+        // Arrange
+        when(notificationRepository.markAllReadSentUpTo(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(5);
+
+        // Act
+        int marked = notificationService.markAllRead(1L, null);
+
+        // Assert
+        assertEquals(5, marked);
+        verify(counterRepository).decrement(eq(1L), eq(5L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testMarkAllRead_BoundedBySentAtOfLastSeen() {
+        // Arrange
+        LocalDateTime lastSeen = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(notificationRepository.markAllReadSentUpTo(eq(1L), eq(lastSeen), any(LocalDateTime.class))).thenReturn(2);
+
+        // Act
+        int marked = notificationService.markAllRead(1L, lastSeen);
+
+        // Assert
+        assertEquals(2, marked);
+        verify(counterRepository).decrement(eq(1L), eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testFanoutMessages_OnlyForStatusesThatAffectTicketHolders() {
+        assertNull(NotificationFanoutService.messageTemplate(Tournament.TournamentStatus.PUBLISHED));
+        assertNull(NotificationFanoutService.messageTemplate(Tournament.TournamentStatus.REGISTRATION_OPEN));
+        assertEquals("El torneo Copa ha sido cancelado",
+                String.format(NotificationFanoutService.messageTemplate(Tournament.TournamentStatus.CANCELLED), "Copa"));
+    }
+
+    @Test
+    void testFanoutIdBlocks_MatchPooledSequence() {
+        // nextval devuelve el extremo superior de cada bloque de 50
+        Long[] ids = NotificationFanoutService.expandIdBlocks(List.of(150L, 300L), 60);
+
+        assertEquals(60, ids.length);
+        assertEquals(101L, ids[0]);
+        assertEquals(150L, ids[49]);
+        assertEquals(251L, ids[50]);
+        assertEquals(260L, ids[59]);
+        assertThrows(IllegalStateException.class, () -> NotificationFanoutService.expandIdBlocks(List.of(50L), 51));
+    }
+}
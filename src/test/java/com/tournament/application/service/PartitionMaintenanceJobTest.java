@@ -0,0 +1,66 @@
+package com.tournament.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionMaintenanceJobTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 2);
+
+    @Test
+    void testPartitionName() {
+        assertEquals("audit_logs_p2025_02", PartitionMaintenanceJob.partitionName(CURRENT));
+        assertEquals("audit_logs_p2024_12", PartitionMaintenanceJob.partitionName(YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    void testMonthsToCreate_SkipsExistingAndCrossesYear() {
+        // Arrange
+        Set<String> existing = Set.of("audit_logs_default", "audit_logs_p2025_02", "audit_logs_p2025_03");
+
+        // Act
+        List<YearMonth> months = PartitionMaintenanceJob.monthsToCreate(existing, YearMonth.of(2025, 2), 11);
+
+        // Assert
+        assertEquals(10, months.size());
+        assertEquals(YearMonth.of(2025, 4), months.get(0));
+        assertEquals(YearMonth.of(2026, 1), months.get(months.size() - 1));
+    }
+
+    @Test
+    void testMonthsToCreate_NothingWhenAllExist() {
+        Set<String> existing = Set.of("audit_logs_p2025_02", "audit_logs_p2025_03");
+
+        assertTrue(PartitionMaintenanceJob.monthsToCreate(existing, CURRENT, 1).isEmpty());
+    }
+
+    @Test
+    void testPartitionsToDrop_KeepsRetentionWindowAndDefault() {
+        // Arrange
+        Set<String> existing = Set.of(
+                "audit_logs_default",
+                "audit_logs_p2023_12",
+                "audit_logs_p2024_01",
+                "audit_logs_p2024_02",
+                "audit_logs_p2025_02",
+                "audit_logs_p2025_03");
+
+        // Act
+        List<String> expired = PartitionMaintenanceJob.partitionsToDrop(existing, CURRENT, 12);
+
+        // Assert
+        assertEquals(List.of("audit_logs_p2023_12", "audit_logs_p2024_01"), expired);
+    }
+
+    @Test
+    void testPartitionsToDrop_IgnoresUnrelatedTables() {
+        Set<String> existing = Set.of("audit_logs_p2020_01_old", "audit_logs_archive");
+
+        assertTrue(PartitionMaintenanceJob.partitionsToDrop(existing, CURRENT, 1).isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Category;
+import com.tournament.domain.entity.GameType;
+import com.tournament.domain.repository.CategoryRepository;
+import com.tournament.domain.repository.GameTypeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private GameTypeRepository gameTypeRepository;
+
+    @InjectMocks
+    private ReferenceDataRegistry registry;
+
+    @Test
+    void testFindCategory_ServedFromSnapshotWithoutQueries() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "FPS")));
+        when(gameTypeRepository.findAllWithCategory()).thenReturn(List.of());
+        registry.refresh();
+
+        // Act & Assert
+        assertEquals("FPS", registry.findCategory(1L).orElseThrow().getCode());
+        assertEquals("FPS", registry.findCategoryByCode("FPS").orElseThrow().getCode());
+        verify(categoryRepository, times(1)).findAll();
+        verify(categoryRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testFindCategory_MissReloadsWhenRowExists() {
+        // Arrange: la categoría 2 se creó después de la última carga
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(category(1L, "FPS")))
+                .thenReturn(List.of(category(1L, "FPS"), category(2L, "MOBA")));
+        when(gameTypeRepository.findAllWithCategory()).thenReturn(List.of());
+        when(categoryRepository.existsById(2L)).thenReturn(true);
+        registry.refresh();
+
+        // Act
+        String code = registry.findCategory(2L).orElseThrow().getCode();
+
+        // Assert
+        assertEquals("MOBA", code);
+        assertEquals(2, registry.getCategories().size());
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testFindGameType_UnknownIdDoesNotReload() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(gameTypeRepository.findAllWithCategory()).thenReturn(List.of());
+        when(gameTypeRepository.existsById(9L)).thenReturn(false);
+        registry.refresh();
+
+        // Act & Assert
+        assertTrue(registry.findGameType(9L).isEmpty());
+        assertTrue(registry.findGameType(null).isEmpty());
+        verify(gameTypeRepository, times(1)).findAllWithCategory();
+    }
+
+    @Test
+    void testETag_ChangesWithContentOnly() {
+        // Arrange
+        Category fps = category(1L, "FPS");
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(fps))
+                .thenReturn(List.of(category(1L, "FPS")))
+                .thenReturn(List.of(category(1L, "FPS2")));
+        when(gameTypeRepository.findAllWithCategory()).thenReturn(List.of(gameType(fps)));
+
+        // Act
+        registry.refresh();
+        String first = registry.getCategoriesETag();
+        String gameTypes = registry.getGameTypesETag();
+        registry.refresh();
+        String unchanged = registry.getCategoriesETag();
+        registry.refresh();
+        String changed = registry.getCategoriesETag();
+
+        // Assert
+        assertTrue(first.matches("\"c-[0-9a-f]{32}\""), first);
+        assertTrue(gameTypes.matches("\"g-[0-9a-f]{32}\""), gameTypes);
+        assertEquals(first, unchanged);
+        assertNotEquals(first, changed);
+    }
+
+    private static Category category(Long id, String code) {
+        return Category.builder().id(id).code(code).description(code + " games").alias(code).isActive(true).build();
+    }
+
+    private static GameType gameType(Category category) {
+        GameType gameType = new GameType();
+        gameType.setId(10L);
+        gameType.setCode("CS2");
+        gameType.setFullName("Counter-Strike 2");
+        gameType.setPlayersCount(5);
+        gameType.setCategory(category);
+        return gameType;
+    }
+}
@@ -0,0 +1,110 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.RefreshToken;
+import com.tournament.domain.entity.User;
+import com.tournament.domain.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpiration", Duration.ofDays(30));
+
+        testUser = new User();
+        ReflectionTestUtils.setField(testUser, "id", 1L);
+        ReflectionTestUtils.setField(testUser, "username", "testuser");
+        ReflectionTestUtils.setField(testUser, "isActive", true);
+    }
+
+    @Test
+    void testIssue_StoresOnlyHash() {
+        // Act
+        String rawToken = refreshTokenService.issue(testUser);
+
+        // Assert
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertNotNull(rawToken);
+        assertEquals(64, captor.getValue().getTokenHash().length());
+        assertNotEquals(rawToken, captor.getValue().getTokenHash());
+    }
+
+    @Test
+    void testRotate_IssuesNewTokenInSameFamily() {
+        // Arrange
+        RefreshToken current = refreshToken(null, null, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.of(current));
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw-token");
+
+        // Assert
+        assertSame(testUser, rotation.user());
+        assertNotEquals("raw-token", rotation.refreshToken());
+        assertNotNull(current.getRotatedAt());
+        verify(refreshTokenRepository).save(argThat(token -> "family-1".equals(token.getFamilyId())));
+    }
+
+    @Test
+    void testRotate_ReuseRevokesFamily() {
+        // Arrange
+        RefreshToken rotated = refreshToken(LocalDateTime.now().minusMinutes(1), null, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.of(rotated));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("raw-token"));
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void testRotate_UnknownToken() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("unknown"));
+    }
+
+    private RefreshToken refreshToken(LocalDateTime rotatedAt, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .user(testUser)
+                .tokenHash("hash")
+                .familyId("family-1")
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .expiresAt(expiresAt)
+                .rotatedAt(rotatedAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.RevenueResponse;
+import com.tournament.domain.entity.OrganizerRevenue;
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.entity.TournamentRevenue;
+import com.tournament.domain.entity.User;
+import com.tournament.domain.repository.TournamentRevenueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class RevenueServiceTest {
+
+    private static final BigDecimal TOTAL = new BigDecimal("52.50");
+    private static final BigDecimal FEE = new BigDecimal("2.50");
+
+    @Mock
+    private TournamentRevenueRepository tournamentRevenueRepository;
+
+    @Mock
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @InjectMocks
+    private RevenueService revenueService;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        User organizer = new User();
+        ReflectionTestUtils.setField(organizer, "id", 7L);
+
+        tournament = new Tournament();
+        ReflectionTestUtils.setField(tournament, "id", 3L);
+        ReflectionTestUtils.setField(tournament, "organizer", organizer);
+    }
+
+    @Test
+    void testRecordSale_UpdatesOnlyTournamentRows() {
+        // Arrange
+        when(tournamentRevenueRepository.addSale(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        revenueService.recordSale(tournament, TOTAL, FEE);
+
+        // Assert: siempre el mismo orden de bloqueo y ninguna fila por organizador
+        InOrder inOrder = inOrder(tournamentRevenueRepository, salesAnalyticsService);
+        inOrder.verify(tournamentRevenueRepository).addSale(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class));
+        inOrder.verify(salesAnalyticsService).recordSale(eq(3L), eq(7L), any(LocalDateTime.class), eq(TOTAL), eq(FEE));
+        verify(tournamentRevenueRepository, never()).saveAndFlush(any());
+        verifyNoMoreInteractions(tournamentRevenueRepository);
+    }
+
+    @Test
+    void testRecordSale_CreatesMissingRollup() {
+        // Arrange: torneo creado fuera del servicio, sin agregado
+        when(tournamentRevenueRepository.addSale(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class))).thenReturn(0, 1);
+
+        // Act
+        revenueService.recordSale(tournament, TOTAL, FEE);
+
+        // Assert
+        verify(tournamentRevenueRepository).saveAndFlush(argThat((TournamentRevenue r) -> r.getTournamentId() == 3L && r.getOrganizerId() == 7L));
+        verify(tournamentRevenueRepository, times(2)).addSale(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testRecordRefund_WithoutOrganizer() {
+        // Arrange
+        ReflectionTestUtils.setField(tournament, "organizer", null);
+        when(tournamentRevenueRepository.addRefund(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        revenueService.recordRefund(tournament, TOTAL, FEE);
+
+        // Assert
+        verify(tournamentRevenueRepository).addRefund(eq(3L), eq(TOTAL), eq(FEE), any(LocalDateTime.class));
+        verify(salesAnalyticsService).recordRefund(eq(3L), isNull(), any(LocalDateTime.class), eq(TOTAL));
+    }
+
+    @Test
+    void testGetOrganizerRevenue_NetExcludesFeesAndRefunds() {
+        // Arrange
+        OrganizerRevenue revenue = OrganizerRevenue.empty(7L);
+        revenue.setTicketsSold(4L);
+        revenue.setTicketsRefunded(1L);
+        revenue.setGrossAmount(new BigDecimal("210.00"));
+        revenue.setFeeAmount(new BigDecimal("10.00"));
+        revenue.setRefundedAmount(TOTAL);
+        revenue.setRefundedFeeAmount(FEE);
+        when(tournamentRevenueRepository.sumByOrganizerId(7L)).thenReturn(Optional.of(revenue));
+
+        // Act
+        RevenueResponse result = revenueService.getOrganizerRevenue(7L);
+
+        // Assert: (210 - 10) - (52.50 - 2.50)
+        assertEquals(4L, result.getTicketsSold());
+        assertEquals(0, new BigDecimal("150.00").compareTo(result.getNetAmount()));
+    }
+
+    @Test
+    void testGetOrganizerRevenue_WithoutSalesIsZero() {
+        when(tournamentRevenueRepository.sumByOrganizerId(7L)).thenReturn(Optional.empty());
+
+        RevenueResponse result = revenueService.getOrganizerRevenue(7L);
+
+        assertEquals(0L, result.getTicketsSold());
+        assertEquals(0, BigDecimal.ZERO.compareTo(result.getNetAmount()));
+    }
+
+    @Test
+    void testOpenTournament_CreatesRollupOnce() {
+        // Arrange
+        when(tournamentRevenueRepository.existsById(3L)).thenReturn(false, true);
+
+        // Act
+        revenueService.openTournament(tournament);
+        revenueService.openTournament(tournament);
+
+        // Assert
+        verify(tournamentRevenueRepository, times(1)).save(any(TournamentRevenue.class));
+    }
+}
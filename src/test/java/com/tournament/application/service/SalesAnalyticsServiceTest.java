@@ -0,0 +1,108 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.SalesBucket;
+import com.tournament.domain.repository.SalesBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class SalesAnalyticsServiceTest {
+
+    private static final BigDecimal TOTAL = new BigDecimal("52.50");
+    private static final BigDecimal FEE = new BigDecimal("2.50");
+    private static final LocalDateTime SOLD_AT = LocalDateTime.of(2025, 3, 10, 18, 42, 37);
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2025, 3, 10, 18, 42);
+
+    @Mock
+    private SalesBucketRepository salesBucketRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Test
+    void testRecordSale_IncrementsMinuteBucket() {
+        // Arrange
+        when(salesBucketRepository.addSale(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL, FEE)).thenReturn(1);
+
+        // Act
+        salesAnalyticsService.recordSale(3L, 7L, SOLD_AT, TOTAL, FEE);
+
+        // Assert
+        verify(salesBucketRepository).addSale(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL, FEE);
+        verify(salesBucketRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testRecordSale_CreatesBucketOnFirstSaleOfMinute() {
+        // Arrange
+        when(salesBucketRepository.addSale(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL, FEE)).thenReturn(0, 1);
+
+        // Act
+        salesAnalyticsService.recordSale(3L, 7L, SOLD_AT, TOTAL, FEE);
+
+        // Assert
+        verify(salesBucketRepository).saveAndFlush(argThat((SalesBucket bucket) ->
+                bucket.getKey().equals(new SalesBucket.Key(3L, SalesBucket.Resolution.MINUTE, MINUTE))
+                        && bucket.getOrganizerId() == 7L && bucket.getTicketsSold() == 0L));
+        verify(salesBucketRepository, times(2)).addSale(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL, FEE);
+    }
+
+    @Test
+    void testRecordRefund_UsesRefundMinute() {
+        when(salesBucketRepository.addRefund(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL)).thenReturn(1);
+
+        salesAnalyticsService.recordRefund(3L, 7L, SOLD_AT, TOTAL);
+
+        verify(salesBucketRepository).addRefund(3L, SalesBucket.Resolution.MINUTE, MINUTE, TOTAL);
+    }
+
+    @Test
+    void testValidateRange_LimitsPointsPerGranularity() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 10, 0, 0);
+
+        // Un año por día o por hora cabe; por minuto no
+        assertDoesNotThrow(() -> SalesAnalyticsService.validateRange(SalesBucket.Resolution.DAY, from, from.plusYears(1)));
+        assertDoesNotThrow(() -> SalesAnalyticsService.validateRange(SalesBucket.Resolution.HOUR, from, from.plusYears(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> SalesAnalyticsService.validateRange(SalesBucket.Resolution.MINUTE, from, from.plusYears(1)));
+    }
+
+    @Test
+    void testValidateRange_RejectsEmptyOrMissingPeriod() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SalesAnalyticsService.validateRange(SalesBucket.Resolution.HOUR, from, from));
+        assertThrows(IllegalArgumentException.class,
+                () -> SalesAnalyticsService.validateRange(SalesBucket.Resolution.HOUR, null, from));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testDownsamplingCutoff_AlignedToTargetResolution() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 10, 18, 42, 37);
+
+        assertEquals(LocalDateTime.of(2025, 3, 8, 18, 0),
+                SalesBucketDownsamplingJob.cutoff(SalesBucket.Resolution.HOUR, now, Duration.ofDays(2)));
+        assertEquals(LocalDateTime.of(2024, 12, 10, 0, 0),
+                SalesBucketDownsamplingJob.cutoff(SalesBucket.Resolution.DAY, now, Duration.ofDays(90)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.TicketExpiryJob;
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TicketExpiryJobRepository;
+import com.tournament.domain.repository.TicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TicketExpiryServiceTest {
+
+    @Mock
+    private TicketExpiryJobRepository jobRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MeterRegistry meterRegistry;
+
+    @InjectMocks
+    private TicketExpiryService ticketExpiryService;
+
+    private TicketExpiryJob testJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ticketExpiryService, "chunkSize", 3);
+        testJob = TicketExpiryJob.pending(1L);
+    }
+
+    @Test
+    void testProcessChunk_ExpiresBatchAndAdvancesCursor() {
+        // Arrange
+        when(jobRepository.lockByTournamentId(1L)).thenReturn(Optional.of(testJob));
+        when(ticketRepository.findActiveIdsAfter(1L, 0L, PageRequest.of(0, 3))).thenReturn(List.of(10L, 11L, 15L));
+        when(ticketRepository.expireActiveByTournamentIdAndIdIn(1L, List.of(10L, 11L, 15L))).thenReturn(3);
+
+        // Act
+        TicketExpiryService.ChunkResult result = ticketExpiryService.processChunk(1L);
+
+        // Assert
+        assertEquals(TicketExpiryService.ChunkState.IN_PROGRESS, result.state());
+        assertEquals(3, result.expired());
+        assertEquals(15L, testJob.getLastTicketId());
+        assertEquals(3L, testJob.getExpiredCount());
+        assertTrue(testJob.isPending());
+    }
+
+    @Test
+    void testProcessChunk_CompletesWhenNoActiveTicketsRemain() {
+        // Arrange
+        testJob.advance(15L, 3);
+        when(jobRepository.lockByTournamentId(1L)).thenReturn(Optional.of(testJob));
+        when(ticketRepository.findActiveIdsAfter(1L, 15L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        // Act
+        TicketExpiryService.ChunkResult result = ticketExpiryService.processChunk(1L);
+
+        // Assert
+        assertEquals(TicketExpiryService.ChunkState.COMPLETED, result.state());
+        assertEquals(3L, result.total());
+        assertFalse(testJob.isPending());
+        assertNotNull(testJob.getCompletedAt());
+        verify(ticketRepository, never()).expireActiveByTournamentIdAndIdIn(any(), any());
+    }
+
+    @Test
+    void testProcessChunk_SkipsJobLockedByAnotherInstance() {
+        // Arrange
+        when(jobRepository.lockByTournamentId(1L)).thenReturn(Optional.empty());
+
+        // Act
+        TicketExpiryService.ChunkResult result = ticketExpiryService.processChunk(1L);
+
+        // Assert
+        assertEquals(TicketExpiryService.ChunkState.SKIPPED, result.state());
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void testRegisterJob_OnlyForFinishedTournaments() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(jobRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        ticketExpiryService.registerJob(new TournamentStatusChangedEvent(1L,
+                Tournament.TournamentStatus.IN_PROGRESS, Tournament.TournamentStatus.COMPLETED, now, now, now));
+        ticketExpiryService.registerJob(new TournamentStatusChangedEvent(2L,
+                Tournament.TournamentStatus.REGISTRATION_OPEN, Tournament.TournamentStatus.IN_PROGRESS, now, now, now));
+
+        // Assert
+        verify(jobRepository).save(argThat(job -> job.getTournamentId().equals(1L) && job.isPending()));
+        verify(jobRepository, never()).findById(2L);
+    }
+
+    @Test
+    void testRegisterJob_ReopensCompletedJob() {
+        // Arrange: el torneo se completó y después se cancela
+        LocalDateTime now = LocalDateTime.now();
+        testJob.advance(500L, 20);
+        testJob.complete();
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+
+        // Act
+        ticketExpiryService.registerJob(new TournamentStatusChangedEvent(1L,
+                Tournament.TournamentStatus.COMPLETED, Tournament.TournamentStatus.CANCELLED, now, now, now));
+
+        // Assert
+        verify(jobRepository).save(testJob);
+        assertTrue(testJob.isPending());
+        assertEquals(0L, testJob.getLastTicketId());
+        assertEquals(20L, testJob.getExpiredCount());
+        assertNull(testJob.getCompletedAt());
+    }
+
+    @Test
+    void testRegisterJob_KeepsPendingJob() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        testJob.advance(500L, 20);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+
+        // Act
+        ticketExpiryService.registerJob(new TournamentStatusChangedEvent(1L,
+                Tournament.TournamentStatus.IN_PROGRESS, Tournament.TournamentStatus.CANCELLED, now, now, now));
+
+        // Assert
+        verify(jobRepository, never()).save(any());
+        assertEquals(500L, testJob.getLastTicketId());
+    }
+}
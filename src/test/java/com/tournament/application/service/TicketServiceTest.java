@@ -1,6 +1,7 @@
 package com.tournament.application.service;
 
 import com.tournament.domain.entity.*;
+import com.tournament.domain.event.AuditEvent;
 import com.tournament.domain.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -19,6 +21,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +40,18 @@ class TicketServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RevenueService revenueService;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -124,6 +142,12 @@ class TicketServiceTest {
         verify(tournamentRepository).findById(1L);
         verify(ticketRepository).save(any(Ticket.class));
         verify(tournamentRepository).save(any(Tournament.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof AuditEvent audit && "TICKET_CREATED".equals(audit.getAction())
+                        && Long.valueOf(1L).equals(audit.getEntityId())));
+        verify(outboxService).enqueue(eq("TICKET"), eq(1L), eq(OutboxService.TICKET_PURCHASED), anyMap());
+        verify(revenueService).recordSale(eq(testTournament), any(BigDecimal.class), any(BigDecimal.class));
+        verify(businessMetrics).recordPurchaseOnCompletion(anyLong());
     }
 
     @Test
@@ -139,6 +163,7 @@ class TicketServiceTest {
         verify(userRepository).findById(1L);
         verify(tournamentRepository, never()).findById(any());
         verify(ticketRepository, never()).save(any());
+        verify(businessMetrics).recordPurchase(eq(BusinessMetrics.PurchaseOutcome.NOT_FOUND), anyLong());
     }
 
     @Test
@@ -172,6 +197,7 @@ class TicketServiceTest {
         verify(userRepository).findById(1L);
         verify(tournamentRepository).findById(1L);
         verify(ticketRepository, never()).save(any());
+        verify(businessMetrics).recordPurchase(eq(BusinessMetrics.PurchaseOutcome.CLOSED), anyLong());
     }
 
     @Test
@@ -190,6 +216,7 @@ class TicketServiceTest {
         verify(userRepository).findById(1L);
         verify(tournamentRepository).findById(1L);
         verify(ticketRepository, never()).save(any());
+        verify(businessMetrics).recordPurchase(eq(BusinessMetrics.PurchaseOutcome.FULL), anyLong());
     }
 
     @Test
@@ -296,6 +323,8 @@ class TicketServiceTest {
         assertTrue(result);
         verify(ticketRepository).findByQrCode("QR-CODE-001");
         verify(ticketRepository).save(any(Ticket.class));
+        verify(outboxService).enqueue(eq("TICKET"), eq(1L), eq(OutboxService.TICKET_USED), anyMap());
+        verify(businessMetrics).recordValidation(eq(BusinessMetrics.ValidationOutcome.VALID), anyLong());
     }
 
     @Test
@@ -310,6 +339,7 @@ class TicketServiceTest {
         assertFalse(result);
         verify(ticketRepository).findByQrCode("INVALID-QR");
         verify(ticketRepository, never()).save(any());
+        verify(businessMetrics).recordValidation(eq(BusinessMetrics.ValidationOutcome.NOT_FOUND), anyLong());
     }
 
     @Test
@@ -325,6 +355,8 @@ class TicketServiceTest {
         assertFalse(result);
         verify(ticketRepository).findByQrCode("QR-CODE-001");
         verify(ticketRepository, never()).save(any());
+        verifyNoInteractions(outboxService);
+        verify(businessMetrics).recordValidation(eq(BusinessMetrics.ValidationOutcome.INACTIVE), anyLong());
     }
 
     @Test
@@ -342,6 +374,7 @@ class TicketServiceTest {
         verify(ticketRepository).findById(1L);
         verify(ticketRepository).save(any(Ticket.class));
         verify(tournamentRepository).save(any(Tournament.class));
+        verify(revenueService).recordRefund(testTournament, new BigDecimal("55.00"), new BigDecimal("5.00"));
     }
 
     @Test
@@ -372,6 +405,7 @@ class TicketServiceTest {
 
         verify(ticketRepository).findById(1L);
         verify(ticketRepository, never()).save(any());
+        verifyNoInteractions(revenueService);
     }
 
     @Test
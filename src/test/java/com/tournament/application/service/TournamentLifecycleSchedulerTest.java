@@ -0,0 +1,218 @@
+package com.tournament.application.service;
+
+import com.tournament.domain.entity.Tournament;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
+import com.tournament.domain.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class TournamentLifecycleSchedulerTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    @InjectMocks
+    private TournamentLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "registrationCloseLead", Duration.ZERO);
+        ReflectionTestUtils.setField(scheduler, "horizon", Duration.ofHours(2));
+        ReflectionTestUtils.setField(scheduler, "retryDelay", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testOnStatusChanged_SchedulesWakeUpAtStart() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusMinutes(30);
+
+        // Act
+        scheduler.onStatusChanged(opened(1L, start));
+
+        // Assert
+        verify(taskScheduler).schedule(any(Runnable.class), eq(toInstant(start)));
+    }
+
+    @Test
+    void testOnStatusChanged_EarlierDeadlineReschedules() {
+        // Arrange
+        LocalDateTime later = LocalDateTime.now().plusMinutes(30);
+        LocalDateTime earlier = LocalDateTime.now().plusMinutes(10);
+        doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        scheduler.onStatusChanged(opened(1L, later));
+
+        // Act
+        scheduler.onStatusChanged(opened(2L, earlier));
+        scheduler.onStatusChanged(opened(3L, later.plusMinutes(5)));
+
+        // Assert: el plazo posterior no reprograma
+        verify(scheduledFuture).cancel(false);
+        verify(taskScheduler).schedule(any(Runnable.class), eq(toInstant(earlier)));
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testOnStatusChanged_IgnoresDeadlinesBeyondHorizonAndFinalStates() {
+        // Act
+        scheduler.onStatusChanged(opened(1L, LocalDateTime.now().plusHours(3)));
+        scheduler.onStatusChanged(new TournamentStatusChangedEvent(2L, Tournament.TournamentStatus.IN_PROGRESS,
+                Tournament.TournamentStatus.COMPLETED, LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now()));
+
+        // Assert
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void testProcessDueDeadlines_TransitionsLockedRows() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        scheduler.onStatusChanged(opened(1L, start));
+        when(tournamentRepository.lockIdsStartingBy(any(), eq("REGISTRATION_OPEN"), any())).thenReturn(List.of(1L));
+        when(tournamentRepository.lockIdsStartingBy(any(), eq("REGISTRATION_CLOSED"), any())).thenReturn(List.of());
+        when(tournamentRepository.lockIdsEndingBy(any(), anyString(), any())).thenReturn(List.of());
+        when(tournamentRepository.findLifecycleDeadlinesByIdIn(List.of(1L)))
+                .thenReturn(List.of(deadline(1L, Tournament.TournamentStatus.REGISTRATION_OPEN, start)));
+
+        // Act
+        scheduler.processDueDeadlines();
+
+        // Assert
+        verify(tournamentRepository).updateStatusByIdIn(eq(List.of(1L)), eq(Tournament.TournamentStatus.IN_PROGRESS), any());
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertEquals(Tournament.TournamentStatus.IN_PROGRESS,
+                ((TournamentStatusChangedEvent) events.getValue()).getNewStatus());
+        // Solo el despertar inicial: no queda nada por reintentar
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testProcessDueDeadlines_RetriesRowsSkippedByLock() {
+        // Arrange: la fila está bloqueada por una compra concurrente
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        scheduler.onStatusChanged(opened(1L, start));
+        when(tournamentRepository.lockIdsStartingBy(any(), anyString(), any())).thenReturn(List.of());
+        when(tournamentRepository.lockIdsEndingBy(any(), anyString(), any())).thenReturn(List.of());
+        when(tournamentRepository.findLifecycleDeadlinesByIdIn(any()))
+                .thenReturn(List.of(deadline(1L, Tournament.TournamentStatus.REGISTRATION_OPEN, start)));
+        Instant before = Instant.now();
+
+        // Act
+        scheduler.processDueDeadlines();
+
+        // Assert: se reprograma con el retraso de reintento
+        verify(tournamentRepository, never()).updateStatusByIdIn(any(), any(), any());
+        Instant retryAt = lastScheduledInstant(2);
+        assertFalse(retryAt.isBefore(before.plusSeconds(5)));
+        assertTrue(retryAt.isBefore(Instant.now().plusSeconds(6)));
+    }
+
+    @Test
+    void testProcessDueDeadlines_DropsRowsAlreadyTransitionedElsewhere() {
+        // Arrange: otra réplica ya ha iniciado el torneo
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        scheduler.onStatusChanged(opened(1L, start));
+        when(tournamentRepository.lockIdsStartingBy(any(), anyString(), any())).thenReturn(List.of());
+        when(tournamentRepository.lockIdsEndingBy(any(), anyString(), any())).thenReturn(List.of());
+        when(tournamentRepository.findLifecycleDeadlinesByIdIn(any()))
+                .thenReturn(List.of(deadline(1L, Tournament.TournamentStatus.IN_PROGRESS, start)));
+
+        // Act
+        scheduler.processDueDeadlines();
+
+        // Assert
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testProcessDueDeadlines_RetriesAfterTransactionFailure() {
+        // Arrange
+        scheduler.onStatusChanged(opened(1L, LocalDateTime.now().minusSeconds(1)));
+        when(tournamentRepository.lockIdsStartingBy(any(), anyString(), any()))
+                .thenThrow(new IllegalStateException("deadlock detected"));
+
+        // Act
+        scheduler.processDueDeadlines();
+
+        // Assert
+        verify(transactionManager).rollback(any());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private Instant lastScheduledInstant(int expectedCalls) {
+        ArgumentCaptor<Instant> instants = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(expectedCalls)).schedule(any(Runnable.class), instants.capture());
+        return instants.getValue();
+    }
+
+    private static TournamentStatusChangedEvent opened(Long id, LocalDateTime start) {
+        return new TournamentStatusChangedEvent(id, Tournament.TournamentStatus.PUBLISHED,
+                Tournament.TournamentStatus.REGISTRATION_OPEN, start, start.plusHours(4), LocalDateTime.now());
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static TournamentRepository.LifecycleDeadline deadline(Long id, Tournament.TournamentStatus status,
+                                                                   LocalDateTime start) {
+        return new TournamentRepository.LifecycleDeadline() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Tournament.TournamentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getStartDate() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndDate() {
+                return start.plusHours(4);
+            }
+        };
+    }
+}
@@ -10,12 +10,14 @@ import com.tournament.domain.repository.GameTypeRepository;
 import com.tournament.domain.repository.UserRepository;
 import com.tournament.application.dto.CreateTournamentRequest;
 import com.tournament.application.dto.TournamentResponse;
+import com.tournament.domain.event.TournamentStatusChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -27,6 +29,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +48,18 @@ class TournamentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RevenueService revenueService;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
     @InjectMocks
     private TournamentService tournamentService;
 
@@ -53,6 +68,8 @@ class TournamentServiceTest {
     private GameType testGameType;
     private User testOrganizer;
     private CreateTournamentRequest testRequest;
+    private TournamentResponse.CategoryResponse testCategoryResponse;
+    private TournamentResponse.GameTypeResponse testGameTypeResponse;
 
     @BeforeEach
     void setUp() {
@@ -72,6 +89,12 @@ class TournamentServiceTest {
         ReflectionTestUtils.setField(testGameType, "category", testCategory);
         ReflectionTestUtils.setField(testGameType, "isActive", true);
 
+        testCategoryResponse = TournamentResponse.CategoryResponse.builder()
+                .id(1L).code("FPS").description("First Person Shooter").alias("fps").build();
+        testGameTypeResponse = TournamentResponse.GameTypeResponse.builder()
+                .id(1L).code("CS2").fullName("Counter-Strike 2").playersCount(5)
+                .category(testCategoryResponse).build();
+
         testOrganizer = new User();
         ReflectionTestUtils.setField(testOrganizer, "id", 1L);
         ReflectionTestUtils.setField(testOrganizer, "username", "organizer1");
@@ -115,8 +138,8 @@ class TournamentServiceTest {
     void testCreateTournament_Success() {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(testOrganizer));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
-        when(gameTypeRepository.findById(1L)).thenReturn(Optional.of(testGameType));
+        when(referenceDataRegistry.findCategory(1L)).thenReturn(Optional.of(testCategoryResponse));
+        when(referenceDataRegistry.findGameType(1L)).thenReturn(Optional.of(testGameTypeResponse));
         when(tournamentRepository.save(any(Tournament.class))).thenReturn(testTournament);
 
         // Act
@@ -126,16 +149,21 @@ class TournamentServiceTest {
         assertNotNull(result);
 
         verify(userRepository).findById(1L);
-        verify(categoryRepository).findById(1L);
-        verify(gameTypeRepository).findById(1L);
+        verify(referenceDataRegistry, atLeastOnce()).findCategory(1L);
+        verify(referenceDataRegistry, atLeastOnce()).findGameType(1L);
+        verify(categoryRepository, never()).findById(any());
+        verify(gameTypeRepository, never()).findById(any());
         verify(tournamentRepository).save(any(Tournament.class));
+        verify(revenueService).openTournament(testTournament);
+        verify(businessMetrics).recordTournamentCreated(anyBoolean());
+        assertEquals("FPS", result.getCategory().getCode());
     }
 
     @Test
     void testCreateTournament_CategoryNotFound() {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(testOrganizer));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCategory(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
@@ -143,8 +171,8 @@ class TournamentServiceTest {
         });
 
         verify(userRepository).findById(1L);
-        verify(categoryRepository).findById(1L);
-        verify(gameTypeRepository, never()).findById(any());
+        verify(referenceDataRegistry, atLeastOnce()).findCategory(1L);
+        verify(referenceDataRegistry, never()).findGameType(any());
         verify(tournamentRepository, never()).save(any());
     }
 
@@ -152,8 +180,8 @@ class TournamentServiceTest {
     void testCreateTournament_GameTypeNotFound() {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(testOrganizer));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
-        when(gameTypeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCategory(1L)).thenReturn(Optional.of(testCategoryResponse));
+        when(referenceDataRegistry.findGameType(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
@@ -161,8 +189,8 @@ class TournamentServiceTest {
         });
 
         verify(userRepository).findById(1L);
-        verify(categoryRepository).findById(1L);
-        verify(gameTypeRepository).findById(1L);
+        verify(referenceDataRegistry, atLeastOnce()).findCategory(1L);
+        verify(referenceDataRegistry, atLeastOnce()).findGameType(1L);
         verify(tournamentRepository, never()).save(any());
     }
 
@@ -177,8 +205,8 @@ class TournamentServiceTest {
         });
 
         verify(userRepository).findById(1L);
-        verify(categoryRepository, never()).findById(any());
-        verify(gameTypeRepository, never()).findById(any());
+        verify(referenceDataRegistry, never()).findCategory(any());
+        verify(referenceDataRegistry, never()).findGameType(any());
         verify(tournamentRepository, never()).save(any());
     }
 
@@ -225,4 +253,20 @@ class TournamentServiceTest {
 
         verify(tournamentRepository).findById(1L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testUpdateTournamentStatus_PublishesEvent() {
+        // Arrange
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.save(any(Tournament.class))).thenReturn(testTournament);
+
+        // Act
+        tournamentService.updateTournamentStatus(1L, Tournament.TournamentStatus.REGISTRATION_OPEN);
+
+        // Assert
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof TournamentStatusChangedEvent changed &&
+                changed.getPreviousStatus() == Tournament.TournamentStatus.PUBLISHED &&
+                changed.getNewStatus() == Tournament.TournamentStatus.REGISTRATION_OPEN));
+    }
+}
@@ -0,0 +1,161 @@
+package com.tournament.application.service;
+
+import com.tournament.application.dto.UserImportResult;
+import com.tournament.domain.entity.User;
+import com.tournament.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class UserImportServiceTest {
+
+    private static final String HEADER = "username,email,password,firstName,lastName,role\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userImportService, "bcryptStrength", 4);
+        ReflectionTestUtils.setField(userImportService, "hashThreads", 2);
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+        userImportService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    void testImportUsers_InsertsValidRowsInBatches() throws Exception {
+        // Arrange
+        String csv = HEADER
+                + "ana,ana@uni.edu,secret1,Ana,Gómez,\n"
+                + "luis,luis@uni.edu,secret2,Luis,\"Pérez, Jr.\",PARTICIPANT\n"
+                + "\n"
+                + "eva,eva@uni.edu,secret3,Eva,Ruiz,participant\n";
+        when(userRepository.findExistingUsernames(any())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(csv));
+
+        // Assert - lotes de 2 y 1 filas
+        assertEquals(3, result.getTotalRows());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getRejected());
+
+        ArgumentCaptor<List<User>> batches = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).saveAll(batches.capture());
+        verify(userRepository, times(2)).flush();
+        List<User> firstBatch = batches.getAllValues().get(0);
+        assertEquals(2, firstBatch.size());
+
+        User luis = firstBatch.get(1);
+        assertEquals("luis", luis.getUsername());
+        assertEquals("Pérez, Jr.", luis.getLastName());
+        assertEquals(User.UserRole.PARTICIPANT, luis.getRole());
+        assertTrue(luis.getIsActive());
+        assertTrue(luis.getPasswordHash().startsWith("$2a$04$"));
+        assertEquals(User.UserRole.PARTICIPANT, batches.getAllValues().get(1).get(0).getRole());
+    }
+
+    @Test
+    void testImportUsers_RejectsInvalidAndDuplicateRows() throws Exception {
+        // Arrange
+        String csv = HEADER
+                + "ana,not-an-email,secret1,Ana,Gómez,\n"
+                + "root,root@uni.edu,secret1,Root,Admin,ADMIN\n"
+                + "sub,sub@uni.edu,secret1,Sub,Admin,SUBADMIN\n"
+                + "luis,luis@uni.edu,secret2,Luis,Pérez,\n"
+                + "luis,otro@uni.edu,secret2,Luis,Pérez,\n"
+                + "taken,taken@uni.edu,secret3,Eva,Ruiz,\n";
+        when(userRepository.findExistingUsernames(any())).thenReturn(Set.of("taken"));
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(csv));
+
+        // Assert
+        assertEquals(6, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getRejected());
+        assertEquals(List.of(2L, 3L, 4L, 6L, 7L), result.getErrors().stream().map(UserImportResult.RowError::getLine).toList());
+        assertEquals("El formato del email no es válido", result.getErrors().get(0).getMessage());
+        assertEquals("Rol no permitido en importación: SUBADMIN", result.getErrors().get(2).getMessage());
+        assertEquals("El nombre de usuario ya existe", result.getErrors().get(4).getMessage());
+    }
+
+    @Test
+    void testImportUsers_IsolatesConcurrentDuplicatesRowByRow() throws Exception {
+        // Arrange - otro registro inserta el email entre la comprobación y el batch
+        String csv = HEADER
+                + "ana,ana@uni.edu,secret1,Ana,Gómez,\n"
+                + "luis,luis@uni.edu,secret2,Luis,Pérez,\n";
+        when(userRepository.findExistingUsernames(any())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(userRepository.saveAll(anyList())).thenThrow(uniqueViolation("users_email_key"));
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(uniqueViolation("users_email_key"));
+
+        // Act
+        UserImportResult result = userImportService.importUsers(stream(csv));
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals("El email ya está registrado", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void testImportUsers_MissingColumnsIsRejected() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userImportService.importUsers(stream("username,email\nana,ana@uni.edu\n")));
+        assertTrue(exception.getMessage().contains("password"));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        SQLException sqlException = new SQLException("violación de restricción " + constraintName, "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
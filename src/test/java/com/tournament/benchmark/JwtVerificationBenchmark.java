@@ -0,0 +1,100 @@
+package com.tournament.benchmark;
+
+import com.tournament.domain.entity.User;
+import com.tournament.infrastructure.security.JwtTokenProvider;
+import com.tournament.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de autenticar una petición con JWT: validar el token y extraer username, userId y rol.
+ *
+ * - legacy: como antes, reconstruye clave y parser y parsea el token en cada llamada (cuatro veces por petición)
+ * - singleParse: un único parseo con clave y parser en caché (primera presentación del token)
+ * - cached: presentación repetida del mismo token, servida desde la caché de tokens verificados
+ * - cachedContended: lo mismo desde 8 hilos, para medir la contención en la caché particionada
+ *
+ * Ejecutar con: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=JwtVerificationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "1234567890123456789012345678901234567890123456789012345678901234";
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = newProvider(10000);
+        // Caché de tamaño 0: cada verificación parsea el token con clave y parser reutilizados
+        uncachedProvider = newProvider(0);
+
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "username", "benchmark");
+        ReflectionTestUtils.setField(user, "email", "benchmark@example.com");
+        ReflectionTestUtils.setField(user, "role", User.UserRole.PARTICIPANT);
+        token = provider.generateToken(user);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        Claims validated = legacyParse(token);
+        blackhole.consume(validated.getExpiration().before(new Date()));
+        blackhole.consume(legacyParse(token).getSubject());
+        blackhole.consume(legacyParse(token).get("userId", Long.class));
+        blackhole.consume(legacyParse(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        consume(uncachedProvider.verify(token).orElseThrow(), blackhole);
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        consume(provider.verify(token).orElseThrow(), blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void cachedContended(Blackhole blackhole) {
+        consume(provider.verify(token).orElseThrow(), blackhole);
+    }
+
+    private static void consume(VerifiedToken verified, Blackhole blackhole) {
+        blackhole.consume(verified.getUsername());
+        blackhole.consume(verified.getUserId());
+        blackhole.consume(verified.getRole());
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static JwtTokenProvider newProvider(int cacheSize) {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheSize", cacheSize);
+        return jwtTokenProvider;
+    }
+}
@@ -0,0 +1,121 @@
+package com.tournament.benchmark;
+
+import com.tournament.infrastructure.security.RateLimitFilter;
+import com.tournament.infrastructure.security.RateLimitProperties;
+import com.tournament.infrastructure.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sobrecoste del límite de peticiones por petición, con 100.000 clientes en memoria.
+ *
+ * - acquire: get + CAS sobre un bucket existente, un solo hilo
+ * - acquireContended: 4 hilos sobre la misma clave (peor caso de CAS)
+ * - filter: decisión completa del filtro (ruta, clave, bucket) sin contar el resto de la cadena
+ * - filterPurchase: compra de tickets, con sus dos reglas (por IP y por usuario)
+ *
+ * Objetivo: menos de 1 µs por petición.
+ * Ejecutar con: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=RateLimiterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 100_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    // Capacidad alta: se mide la ruta de concesión, que es la habitual
+    private final RateLimiter.Limit limit = RateLimiter.Limit.of(1_000_000_000, Duration.ofSeconds(1));
+
+    private RateLimiter rateLimiter;
+    private String[] keys;
+    private RateLimitFilter filter;
+    private MockHttpServletRequest[] requests;
+    private MockHttpServletRequest[] purchases;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(16, CLIENTS);
+        keys = new String[1024];
+        for (int i = 0; i < CLIENTS; i++) {
+            String key = "login:ip:10." + (i >> 16) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF);
+            rateLimiter.tryAcquire(key, limit);
+            if (i < keys.length) {
+                keys[i] = key;
+            }
+        }
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                rule("login", "/auth/login", RateLimitProperties.KeyType.IP),
+                rule("ticket-purchase-ip", "/tickets", RateLimitProperties.KeyType.IP),
+                rule("ticket-purchase", "/tickets", RateLimitProperties.KeyType.USER)));
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+
+        requests = new MockHttpServletRequest[keys.length];
+        purchases = new MockHttpServletRequest[keys.length];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new MockHttpServletRequest("POST", "/auth/login");
+            requests[i].setRemoteAddr("10.0." + (i >> 8) + "." + (i & 0xFF));
+            purchases[i] = new MockHttpServletRequest("POST", "/tickets");
+            purchases[i].setRemoteAddr("10.0." + (i >> 8) + "." + (i & 0xFF));
+            purchases[i].setParameter("userId", String.valueOf(i));
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public long acquire(Cursor cursor) {
+        return rateLimiter.tryAcquire(keys[cursor.next++ & (keys.length - 1)], limit);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long acquireContended() {
+        return rateLimiter.tryAcquire(keys[0], limit);
+    }
+
+    @Benchmark
+    public int filter(Cursor cursor) throws Exception {
+        MockHttpServletRequest request = requests[cursor.next++ & (requests.length - 1)];
+        // OncePerRequestFilter marca la petición; se limpia para que el filtro actúe en cada iteración
+        request.clearAttributes();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int filterPurchase(Cursor cursor) throws Exception {
+        MockHttpServletRequest request = purchases[cursor.next++ & (purchases.length - 1)];
+        request.clearAttributes();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    private static RateLimitProperties.Rule rule(String name, String path, RateLimitProperties.KeyType key) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPath(path);
+        rule.setKey(key);
+        rule.setCapacity(1_000_000_000);
+        rule.setPeriod(Duration.ofSeconds(1));
+        return rule;
+    }
+}
@@ -0,0 +1,113 @@
+package com.tournament.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.tournament.application.dto.TournamentResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara codificación y decodificación de 1000 TournamentResponse en JSON, CBOR y Smile.
+ *
+ * Ejecutar con: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=ResponseSerializationBenchmark
+ * El tamaño de cada formato se informa como contador auxiliar "bytes" de encode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    private static final TypeReference<List<TournamentResponse>> LIST_TYPE = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private List<TournamentResponse> tournaments;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        mapper.findAndRegisterModules();
+        // Misma configuración que Spring Boot aplica al ObjectMapper de la aplicación
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        tournaments = buildTournaments(1000);
+        encoded = mapper.writeValueAsBytes(tournaments);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws Exception {
+        byte[] result = mapper.writeValueAsBytes(tournaments);
+        size.bytes = result.length;
+        return result;
+    }
+
+    @Benchmark
+    public List<TournamentResponse> decode() throws Exception {
+        return mapper.readValue(encoded, LIST_TYPE);
+    }
+
+    /**
+     * Tamaño del último cuerpo codificado; con EVENTS se informa tal cual, sin normalizar por tiempo
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+    }
+
+    private static List<TournamentResponse> buildTournaments(int count) {
+        TournamentResponse.CategoryResponse category = TournamentResponse.CategoryResponse.builder()
+                .id(1L).code("FPS").description("First Person Shooter").alias("FPS").build();
+        TournamentResponse.GameTypeResponse gameType = TournamentResponse.GameTypeResponse.builder()
+                .id(3L).code("CSGO").fullName("Counter-Strike: Global Offensive").playersCount(5)
+                .category(category).build();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        List<TournamentResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(TournamentResponse.builder()
+                    .id((long) i)
+                    .name("Torneo " + i)
+                    .description("Descripción del torneo número " + i)
+                    .category(category)
+                    .gameType(gameType)
+                    .organizer(TournamentResponse.UserResponse.builder()
+                            .id((long) (i % 50)).username("organizer" + (i % 50))
+                            .email("organizer" + (i % 50) + "@example.com")
+                            .firstName("Org").lastName("Anizer").role("SUBADMIN").fullName("Org Anizer")
+                            .build())
+                    .isFree(i % 3 == 0)
+                    .price(BigDecimal.valueOf(25 + i % 10))
+                    .maxParticipants(64)
+                    .currentParticipants(i % 64)
+                    .startDate(now.plusDays(i % 30))
+                    .endDate(now.plusDays(i % 30 + 2))
+                    .status("REGISTRATION_OPEN")
+                    .commissionPercentage(BigDecimal.valueOf(5.0))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return result;
+    }
+}
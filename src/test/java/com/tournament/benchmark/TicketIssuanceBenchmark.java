@@ -0,0 +1,137 @@
+package com.tournament.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión masiva de tickets: 1000 tickets por transacción con la estrategia de IDs anterior y la nueva.
+ *
+ * - identity: lo que hace Hibernate con GenerationType.IDENTITY, un INSERT por fila y lectura
+ *   de la clave generada; el batching JDBC queda deshabilitado
+ * - pooledSequence: lo que hace con una secuencia pooled (allocationSize 50), un nextval cada 50
+ *   filas e INSERT en lotes de hibernate.jdbc.batch_size
+ *
+ * Por defecto usa H2 en memoria, donde no hay latencia de red y la diferencia es la mínima;
+ * con BENCHMARK_JDBC_URL (y BENCHMARK_JDBC_USER / BENCHMARK_JDBC_PASSWORD) se mide contra
+ * PostgreSQL, donde cada viaje de ida y vuelta ahorrado cuenta.
+ *
+ * Ejecutar con: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=TicketIssuanceBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketIssuanceBenchmark {
+
+    private static final int TICKETS = 1000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String INSERT_IDENTITY = "INSERT INTO bench_tickets_identity "
+            + "(user_id, tournament_id, unique_code, purchase_date, total_amount, status) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SEQUENCE = "INSERT INTO bench_tickets_sequence "
+            + "(id, user_id, tournament_id, unique_code, purchase_date, total_amount, status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCHMARK_JDBC_URL", "jdbc:h2:mem:tickets;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getenv().getOrDefault("BENCHMARK_JDBC_USER", "sa"),
+                System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", ""));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_tickets_identity");
+            statement.execute("DROP TABLE IF EXISTS bench_tickets_sequence");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_tickets_seq");
+            statement.execute("CREATE TABLE bench_tickets_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "user_id BIGINT, tournament_id BIGINT, unique_code VARCHAR(50), purchase_date TIMESTAMP, "
+                    + "total_amount DECIMAL(10,2), status VARCHAR(20))");
+            statement.execute("CREATE SEQUENCE bench_tickets_seq START WITH " + ALLOCATION_SIZE + " INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TABLE bench_tickets_sequence (id BIGINT PRIMARY KEY, "
+                    + "user_id BIGINT, tournament_id BIGINT, unique_code VARCHAR(50), purchase_date TIMESTAMP, "
+                    + "total_amount DECIMAL(10,2), status VARCHAR(20))");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE bench_tickets_identity");
+            statement.execute("DROP TABLE bench_tickets_sequence");
+            statement.execute("DROP SEQUENCE bench_tickets_seq");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_IDENTITY, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < TICKETS; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequence() throws SQLException {
+        long nextId = 0;
+        long hiId = -1;
+        try (PreparedStatement sequence = connection.prepareStatement("SELECT nextval('bench_tickets_seq')");
+             PreparedStatement insert = connection.prepareStatement(INSERT_SEQUENCE)) {
+            for (int i = 0; i < TICKETS; i++) {
+                if (nextId > hiId) {
+                    // Optimizador pooled: cada valor reserva el rango (valor - 49, valor]
+                    try (ResultSet value = sequence.executeQuery()) {
+                        value.next();
+                        hiId = value.getLong(1);
+                    }
+                    nextId = hiId - ALLOCATION_SIZE + 1;
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private static void bind(PreparedStatement insert, int firstIndex, int i) throws SQLException {
+        insert.setLong(firstIndex, 1 + i % 500);
+        insert.setLong(firstIndex + 1, 1 + i % 20);
+        insert.setString(firstIndex + 2, UUID.randomUUID().toString());
+        insert.setTimestamp(firstIndex + 3, Timestamp.valueOf(LocalDateTime.now()));
+        insert.setBigDecimal(firstIndex + 4, BigDecimal.valueOf(26.25));
+        insert.setString(firstIndex + 5, "ACTIVE");
+    }
+}
@@ -0,0 +1,78 @@
+package com.tournament.benchmark;
+
+import com.tournament.infrastructure.security.InMemoryRevokedTokenStore;
+import com.tournament.infrastructure.security.TokenRevocationService;
+import com.tournament.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de la comprobación de revocación en la ruta de autenticación, con 100.000 tokens revocados.
+ *
+ * - notRevoked: caso habitual, resuelto por el filtro de Bloom
+ * - revoked: positivo del filtro confirmado contra el conjunto exacto
+ * - sync: sincronización periódica sin revocaciones nuevas (incremental, sin reconstruir el filtro)
+ *
+ * Ejecutar con: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=TokenRevocationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenRevocationBenchmark {
+
+    private static final int REVOKED_TOKENS = 100_000;
+
+    private TokenRevocationService service;
+    private VerifiedToken revokedToken;
+    private VerifiedToken activeToken;
+
+    @Setup
+    public void setUp() {
+        service = new TokenRevocationService(new InMemoryRevokedTokenStore());
+        ReflectionTestUtils.setField(service, "expectedRevocations", REVOKED_TOKENS);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+        // Las revocaciones de la preparación caerían en el solape por defecto (1 minuto) y se
+        // releerían en cada iteración; sin solape, sync mide el caso estable sin novedades
+        ReflectionTestUtils.setField(service, "syncOverlap", Duration.ZERO);
+
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            VerifiedToken token = token(UUID.randomUUID().toString());
+            service.revoke(token);
+            revokedToken = token;
+        }
+        activeToken = token(UUID.randomUUID().toString());
+        service.sync();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return service.isRevoked(activeToken);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return service.isRevoked(revokedToken);
+    }
+
+    @Benchmark
+    public int sync() {
+        service.sync();
+        return service.size();
+    }
+
+    private static VerifiedToken token(String tokenId) {
+        Date now = new Date();
+        return new VerifiedToken(tokenId, "benchmark", 1L, "PARTICIPANT", "benchmark@example.com", 0,
+                now, new Date(now.getTime() + 3_600_000), Jwts.claims(Map.of("jti", tokenId)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.tournament.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.domain.event.AuditEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setBufferCapacity(4);
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setBlockTimeout(Duration.ofMillis(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testDropPolicy_DiscardsWhenBufferIsFull() {
+        // Arrange: sin hilo escritor el buffer no se vacía
+        AuditLogWriter writer = newWriter();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(writer.record(event(i)));
+        }
+
+        // Act
+        boolean accepted = writer.record(event(4));
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(1.0, meterRegistry.get("audit.events.dropped").tag("reason", "full").counter().count());
+        assertEquals(4.0, meterRegistry.get("audit.buffer.size").gauge().value());
+    }
+
+    @Test
+    void testBlockPolicy_DiscardsAfterTimeout() {
+        // Arrange
+        properties.setOverflowPolicy(AuditProperties.OverflowPolicy.BLOCK);
+        AuditLogWriter writer = newWriter();
+        for (int i = 0; i < 4; i++) {
+            writer.record(event(i));
+        }
+
+        // Act
+        boolean accepted = writer.record(event(4));
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(1.0, meterRegistry.get("audit.events.dropped").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void testWrite_UsesSingleMultiRowInsert() {
+        // Arrange
+        AuditLogWriter writer = newWriter();
+        List<AuditLogWriter.AuditRecord> batch = List.of(record(1), record(2), record(3));
+
+        // Act
+        writer.write(batch);
+
+        // Assert
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertTrue(sql.getValue().startsWith("INSERT INTO audit_logs"));
+        assertEquals(3, sql.getValue().split("CAST\\(\\? AS jsonb\\)", -1).length - 1);
+        assertEquals(3.0, meterRegistry.get("audit.events.written").counter().count());
+    }
+
+    @Test
+    void testWrite_FailureIsCountedAsDropped() {
+        // Arrange
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("sin conexión"));
+        AuditLogWriter writer = newWriter();
+
+        // Act
+        writer.write(List.of(record(1), record(2)));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("audit.events.dropped").tag("reason", "error").counter().count());
+        assertEquals(0.0, meterRegistry.get("audit.events.written").counter().count());
+    }
+
+    @Test
+    void testShutdown_FlushesPendingEvents() throws Exception {
+        // Arrange
+        AuditLogWriter writer = newWriter();
+        writer.start();
+        writer.record(event(1));
+        writer.record(event(2));
+
+        // Act
+        writer.shutdown();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("audit.buffer.size").gauge().value());
+        verify(jdbcTemplate, atLeastOnce()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private AuditLogWriter newWriter() {
+        return new AuditLogWriter(properties, jdbcTemplate, new ObjectMapper(), meterRegistry);
+    }
+
+    private static AuditEvent event(long ticketId) {
+        return AuditEvent.of(1L, "TICKET_CREATED", "TICKET", ticketId, Map.of("tournamentId", 7L));
+    }
+
+    private static AuditLogWriter.AuditRecord record(long ticketId) {
+        return new AuditLogWriter.AuditRecord(1L, "TICKET_CREATED", "TICKET", ticketId, Map.of("tournamentId", 7L),
+                "127.0.0.1", "JUnit", LocalDateTime.now(), System.nanoTime());
+    }
+}
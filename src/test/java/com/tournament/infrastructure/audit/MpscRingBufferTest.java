@@ -0,0 +1,85 @@
+package com.tournament.infrastructure.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    void testRejectsCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(1000));
+    }
+
+    @Test
+    void testOfferFailsWhenFullAndRecoversAfterDrain() {
+        // Arrange
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // Act & Assert
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(List.of(0, 1), drained);
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+
+        drained.clear();
+        buffer.drainTo(drained, 10);
+        assertEquals(List.of(2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothing() throws Exception {
+        // Arrange
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            received.addAll(batch);
+        }
+        executor.shutdownNow();
+
+        // Assert
+        assertEquals(producers * perProducer, received.size());
+        assertEquals(0, buffer.size());
+    }
+}
@@ -0,0 +1,200 @@
+package com.tournament.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dos bases H2 en memoria hacen de primario y réplica; cada una devuelve su nombre.
+ * Las peticiones pasan por ReadYourWritesFilter como en el contenedor de servlets.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private SwitchableDataSource replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("routing_primary", "primary");
+        replica = new SwitchableDataSource(node("routing_replica", "replica"));
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReadWriteRoutingDataSource(primary,
+                List.of(new ReadWriteRoutingDataSource.Replica("replica-1", replica)),
+                Duration.ofSeconds(1), meterRegistry);
+        readYourWritesFilter = new ReadYourWritesFilter(Duration.ofSeconds(30));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void testReadOnlyTransactions_GoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals(1.0, meterRegistry.get("datasource.reads").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void testReadYourWrites_SameRequestReadsFromPrimaryAfterWrite() throws Exception {
+        // Arrange
+        AtomicReference<String> node = new AtomicReference<>();
+
+        // Act
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("POST", "/api/tickets"), () -> {
+            readWrite.execute(status -> currentNode());
+            node.set(readOnly.execute(status -> currentNode()));
+        });
+
+        // Assert
+        assertEquals("primary", node.get());
+        assertNotNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void testReadYourWrites_OnlyForTheClientThatWrote() throws Exception {
+        // Arrange: la primera petición escribe y recibe la cookie
+        MockHttpServletResponse writeResponse = perform(new MockHttpServletRequest("POST", "/api/tickets"),
+                () -> readWrite.execute(status -> currentNode()));
+        Cookie marker = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        AtomicReference<String> writerNode = new AtomicReference<>();
+        AtomicReference<String> otherNode = new AtomicReference<>();
+
+        // Act
+        MockHttpServletRequest writerRead = new MockHttpServletRequest("GET", "/api/tickets");
+        writerRead.setCookies(new Cookie(marker.getName(), marker.getValue()));
+        perform(writerRead, () -> writerNode.set(readOnly.execute(status -> currentNode())));
+        perform(new MockHttpServletRequest("GET", "/api/tickets"),
+                () -> otherNode.set(readOnly.execute(status -> currentNode())));
+
+        // Assert
+        assertEquals("primary", writerNode.get());
+        assertEquals("replica", otherNode.get());
+    }
+
+    @Test
+    void testReadYourWrites_IgnoresRolledBackWrites() throws Exception {
+        // Arrange
+        AtomicReference<String> node = new AtomicReference<>();
+
+        // Act
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("POST", "/api/tickets"), () -> {
+            readWrite.executeWithoutResult(status -> {
+                currentNode();
+                status.setRollbackOnly();
+            });
+            node.set(readOnly.execute(status -> currentNode()));
+        });
+
+        // Assert
+        assertEquals("replica", node.get());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void testReadYourWrites_IgnoresMarkerBeyondWindow() throws Exception {
+        // Arrange: una cookie manipulada que pide leer del primario durante un día
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tickets");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE,
+                Long.toString(System.currentTimeMillis() + Duration.ofDays(1).toMillis())));
+        AtomicReference<String> node = new AtomicReference<>();
+
+        // Act
+        perform(request, () -> node.set(readOnly.execute(status -> currentNode())));
+
+        // Assert
+        assertEquals("replica", node.get());
+    }
+
+    @Test
+    void testReplicaFailure_FallsBackToPrimaryUntilHealthy() {
+        // Arrange
+        replica.down = true;
+
+        // Act & Assert
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+        assertEquals(0.0, meterRegistry.get("datasource.replicas.healthy").gauge().value());
+
+        // La réplica vuelve, pero no se usa hasta la siguiente comprobación
+        replica.down = false;
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        routing.checkReplicas();
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, Runnable handler) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                handler.run();
+            }
+        }));
+        return response;
+    }
+
+    private static DataSource node(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * Réplica que se puede desconectar durante el test
+     */
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
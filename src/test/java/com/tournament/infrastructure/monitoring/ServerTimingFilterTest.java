@@ -0,0 +1,81 @@
+package com.tournament.infrastructure.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void testSpan_WithoutActiveTimingIsNoop() {
+        // Act
+        try (RequestTiming.Span span = RequestTiming.span("db")) {
+            assertNotNull(span);
+        }
+
+        // Assert
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void testSpans_AccumulatePerName() {
+        // Arrange
+        RequestTiming timing = RequestTiming.begin();
+
+        // Act
+        try (RequestTiming.Span span = RequestTiming.span("db")) { }
+        try (RequestTiming.Span span = RequestTiming.span("db")) { }
+        try (RequestTiming.Span span = RequestTiming.span("json")) { }
+        timing.end();
+
+        // Assert
+        String header = timing.toServerTiming();
+        assertTrue(header.matches("db;dur=\\d+\\.\\d;desc=\"2 calls\", json;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d"), header);
+        assertTrue(timing.toLogFields().matches("db=\\d+\\.\\dms/2 json=\\d+\\.\\dms/1"), timing.toLogFields());
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void testFilter_AddsHeaderAfterBodyIsWritten() throws Exception {
+        // Arrange
+        ServerTimingFilter filter = new ServerTimingFilter(true, 0.0, Duration.ofMinutes(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act: el cuerpo se escribe dentro de un tramo, como hace el convertidor JSON
+        filter.doFilter(new MockHttpServletRequest("POST", "/tickets"), response, (req, res) -> {
+            try (RequestTiming.Span span = RequestTiming.span("json")) {
+                res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+                res.flushBuffer();
+            }
+        });
+
+        // Assert
+        assertEquals("{\"id\":1}", response.getContentAsString());
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).startsWith("json;dur="));
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).contains("total;dur="));
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void testFilter_HeaderCanBeDisabled() throws Exception {
+        // Arrange
+        ServerTimingFilter filter = new ServerTimingFilter(false, 1.0, Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/tickets/1"), response, (req, res) -> {
+            try (RequestTiming.Span span = RequestTiming.span("db")) {
+                assertNotNull(RequestTiming.current());
+            }
+        });
+
+        // Assert
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+        assertNull(RequestTiming.current());
+    }
+}
@@ -0,0 +1,96 @@
+package com.tournament.infrastructure.monitoring;
+
+import com.tournament.domain.entity.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class SlowQueryLogTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    @Test
+    void testDescribe_ShapesWithoutValues() {
+        // Arrange
+        Object[] arguments = {"TICKET-ABCDEF", List.of(1L, 2L, 3L), new Long[]{4L, 5L}, null,
+                PageRequest.of(2, 50, Sort.by("id")), Ticket.TicketStatus.ACTIVE, 42L};
+
+        // Act
+        String shapes = SlowQueryLog.describe(arguments);
+
+        // Assert
+        assertEquals("String(13), List[3], Long[2], null, Pageable(page=2, size=50, sort=1), TicketStatus.ACTIVE, Long", shapes);
+        assertFalse(shapes.contains("ABCDEF"));
+        assertEquals("Pageable(unpaged)", SlowQueryLog.shapeOf(Pageable.unpaged()));
+        assertEquals("", SlowQueryLog.describe(null));
+    }
+
+    @Test
+    void testInterceptor_CountsInvocationsOverThreshold() throws Throwable {
+        // Arrange: umbral cero, toda invocación es lenta
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MethodInterceptor interceptor = new SlowQueryLog(registry, Duration.ZERO, 0.0).interceptorFor(TestRepository.class);
+        when(invocation.getMethod()).thenReturn(TestRepository.class.getMethod("findByCode", String.class));
+        when(invocation.getArguments()).thenReturn(new Object[]{"X"});
+        when(invocation.proceed()).thenReturn(Optional.empty());
+
+        // Act
+        Object result = interceptor.invoke(invocation);
+
+        // Assert
+        assertEquals(Optional.empty(), result);
+        assertEquals(1.0, registry.get("repository.slow.invocations")
+                .tag("repository", "TestRepository").tag("method", "findByCode").counter().count());
+    }
+
+    @Test
+    void testInterceptor_FastInvocationsLeaveNoTrace() throws Throwable {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MethodInterceptor interceptor = new SlowQueryLog(registry, Duration.ofMinutes(1), 1.0).interceptorFor(TestRepository.class);
+        when(invocation.proceed()).thenReturn(Optional.empty());
+
+        // Act
+        interceptor.invoke(invocation);
+
+        // Assert
+        assertTrue(registry.find("repository.slow.invocations").counters().isEmpty());
+        verify(invocation, never()).getArguments();
+    }
+
+    @Test
+    void testInterceptor_CountsFailedInvocations() throws Throwable {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MethodInterceptor interceptor = new SlowQueryLog(registry, Duration.ZERO, 1.0).interceptorFor(TestRepository.class);
+        when(invocation.getMethod()).thenReturn(TestRepository.class.getMethod("findByCode", String.class));
+        when(invocation.getArguments()).thenReturn(new Object[]{"X"});
+        when(invocation.proceed()).thenThrow(new IllegalStateException("timeout"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> interceptor.invoke(invocation));
+        assertEquals(1.0, registry.get("repository.slow.invocations").counter().count());
+    }
+
+    interface TestRepository {
+        Optional<Object> findByCode(String code);
+    }
+}
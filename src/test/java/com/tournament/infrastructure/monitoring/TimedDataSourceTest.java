@@ -0,0 +1,62 @@
+package com.tournament.infrastructure.monitoring;
+
+import org.h2.jdbc.JdbcConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedDataSourceTest {
+
+    private final TimedDataSource dataSource =
+            new TimedDataSource(new DriverManagerDataSource("jdbc:h2:mem:timed;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) timing.end();
+    }
+
+    @Test
+    void testStatementsAndCommit_AreTimedAsDb() throws Exception {
+        // Arrange
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS timed (id BIGINT)");
+        }
+        RequestTiming timing = RequestTiming.begin();
+
+        // Act: un flush por lotes y su commit, como los emite Hibernate
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO timed (id) VALUES (?)")) {
+                insert.setLong(1, 1L);
+                insert.addBatch();
+                insert.setLong(1, 2L);
+                insert.addBatch();
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+        timing.end();
+
+        // Assert: executeBatch y commit, no la preparación ni los parámetros
+        assertTrue(timing.toLogFields().matches("db=\\d+\\.\\dms/2"), timing.toLogFields());
+    }
+
+    @Test
+    void testConnection_UnwrapsToTarget() throws Exception {
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+
+            // Assert
+            assertTrue(connection.isWrapperFor(JdbcConnection.class));
+            assertNotNull(connection.unwrap(JdbcConnection.class));
+            assertEquals(connection, connection);
+        }
+    }
+}
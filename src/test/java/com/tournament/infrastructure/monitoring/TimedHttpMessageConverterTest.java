@@ -0,0 +1,58 @@
+package com.tournament.infrastructure.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedHttpMessageConverterTest {
+
+    @Test
+    void testWrite_KeepsDelegateSettings() throws Exception {
+        // Arrange: tipos de medio propios del convertidor original
+        MappingJackson2HttpMessageConverter json = new MappingJackson2HttpMessageConverter();
+        json.setSupportedMediaTypes(List.of(MediaType.APPLICATION_JSON));
+        TimedHttpMessageConverter converter = new TimedHttpMessageConverter(json, "json");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        RequestTiming timing = RequestTiming.begin();
+
+        // Act
+        converter.write(Map.of("id", 1), Map.class, MediaType.APPLICATION_JSON, output);
+        timing.end();
+
+        // Assert
+        assertEquals(List.of(MediaType.APPLICATION_JSON), converter.getSupportedMediaTypes());
+        assertFalse(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_XML));
+        assertEquals("{\"id\":1}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertTrue(timing.toLogFields().matches("json=\\d+\\.\\dms/1"), timing.toLogFields());
+    }
+
+    @Test
+    void testRead_TimesBinaryFormats() throws Exception {
+        // Arrange
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        TimedHttpMessageConverter converter =
+                new TimedHttpMessageConverter(new MappingJackson2CborHttpMessageConverter(cborMapper), "cbor");
+        MockHttpInputMessage input = new MockHttpInputMessage(cborMapper.writeValueAsBytes(Map.of("id", 1)));
+        input.getHeaders().setContentType(MediaType.APPLICATION_CBOR);
+        RequestTiming timing = RequestTiming.begin();
+
+        // Act
+        Object read = converter.read(Map.class, null, input);
+        timing.end();
+
+        // Assert
+        assertEquals(Map.of("id", 1), read);
+        assertTrue(timing.toLogFields().matches("cbor=\\d+\\.\\dms/1"), timing.toLogFields());
+    }
+}
@@ -0,0 +1,163 @@
+package com.tournament.infrastructure.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecordingPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new RecordingPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(jdbcTemplate, transactionManager, publisher, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "retryBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(relay, "maxRetryBackoff", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMinutes(1));
+        relay.registerMetrics();
+    }
+
+    @Test
+    void testRelayBatch_PublishesOutsideTransactionAndDeletesWholeBatch() {
+        // Arrange: al publicar solo se ha confirmado la transacción que reclama el lote
+        stubPending(pending(2L, 0), pending(1L, 0));
+        publisher.onPublish = () -> verify(transactionManager, times(1)).commit(any());
+
+        // Act
+        int processed = relay.relayBatch();
+
+        // Assert
+        assertEquals(2, processed);
+        assertEquals(List.of(List.of(1L, 2L)), publisher.publishedIds());
+        verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        verify(jdbcTemplate, never()).update(anyString(), any(), any(), any());
+        assertEquals(2.0, meterRegistry.get("outbox.published").counter().count());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void testRelayBatch_IsolatesFailingEvent() {
+        // Arrange: el evento 2 no se puede publicar
+        publisher.failingIds = Set.of(2L);
+        stubPending(pending(1L, 0), pending(2L, 3), pending(3L, 0));
+
+        // Act
+        int processed = relay.relayBatch();
+
+        // Assert: lote rechazado, reintento individual hasta el primer fallo y el resto liberado
+        assertEquals(3, processed);
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(1L), List.of(2L)), publisher.publishedIds());
+        verify(jdbcTemplate).update(eq("UPDATE outbox_events SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? WHERE id = ?"),
+                any(Timestamp.class), eq("broker caído"), eq(2L));
+        verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class));
+        assertEquals(1.0, meterRegistry.get("outbox.published").counter().count());
+        assertEquals(1.0, meterRegistry.get("outbox.failed").counter().count());
+    }
+
+    @Test
+    void testRelayBatch_BrokerDownWaitsForOneEventOnly() {
+        // Arrange: ningún evento se puede publicar
+        publisher.failingIds = Set.of(1L, 2L, 3L, 4L);
+        stubPending(pending(1L, 0), pending(2L, 0), pending(3L, 0), pending(4L, 0));
+
+        // Act
+        int processed = relay.relayBatch();
+
+        // Assert: un intento de lote y uno individual; 2..4 se liberan sin contar intento
+        assertEquals(4, processed);
+        assertEquals(List.of(List.of(1L, 2L, 3L, 4L), List.of(1L)), publisher.publishedIds());
+        verify(jdbcTemplate).update(anyString(), any(Timestamp.class), anyString(), eq(1L));
+        verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+        assertEquals(0.0, meterRegistry.get("outbox.published").counter().count());
+        assertEquals(1.0, meterRegistry.get("outbox.failed").counter().count());
+    }
+
+    @Test
+    void testRelayBatch_EmptyOutbox() {
+        // Arrange
+        stubPending();
+
+        // Act & Assert
+        assertEquals(0, relay.relayBatch());
+        assertTrue(publisher.publishedIds().isEmpty());
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    void testBackoff_DoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(1), relay.backoff(0));
+        assertEquals(Duration.ofSeconds(8), relay.backoff(3));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(12));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(Integer.MAX_VALUE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPending(OutboxRelay.PendingEvent... events) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Timestamp.class), any(Timestamp.class), eq(10)))
+                .thenReturn(List.of(events));
+    }
+
+    private static OutboxRelay.PendingEvent pending(Long id, int attempts) {
+        return new OutboxRelay.PendingEvent(new OutboxMessage(id, "TICKET", id, "ticket.purchased", "{}",
+                LocalDateTime.now().minusSeconds(1)), attempts);
+    }
+
+    /**
+     * Publicador que registra los lotes recibidos y rechaza cualquier lote con alguno de failingIds
+     */
+    private static final class RecordingPublisher implements OutboxPublisher {
+
+        private final List<List<Long>> batches = new ArrayList<>();
+        private Set<Long> failingIds = Set.of();
+        private Runnable onPublish = () -> { };
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            onPublish.run();
+            List<Long> ids = messages.stream().map(OutboxMessage::id).toList();
+            batches.add(ids);
+            if (ids.stream().anyMatch(failingIds::contains)) {
+                throw new IllegalStateException("broker caído");
+            }
+        }
+
+        List<List<Long>> publishedIds() {
+            return batches;
+        }
+    }
+}
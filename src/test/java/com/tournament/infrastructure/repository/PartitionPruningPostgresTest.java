@@ -0,0 +1,118 @@
+package com.tournament.infrastructure.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba con EXPLAIN que las consultas de los repositorios sobre tablas particionadas (V8)
+ * leen una sola partición. Requiere PostgreSQL: se ejecuta si POSTGRES_TEST_URL está definida
+ * (usuario y contraseña en POSTGRES_TEST_USER / POSTGRES_TEST_PASSWORD), como en el job de CI
+ * con el servicio postgres, y migra un esquema propio que se elimina al terminar.
+ *
+ * Las consultas usan literales, que se podan al planificar; con parámetros enlazados PostgreSQL
+ * poda igualmente al ejecutar (planes genéricos con "Subplans Removed").
+ */
+@EnabledIfEnvironmentVariable(named = "POSTGRES_TEST_URL", matches = ".+")
+class PartitionPruningPostgresTest {
+
+    private static final String SCHEMA = "partition_pruning_test";
+    private static final Pattern TICKET_PARTITION = Pattern.compile("\\btickets_p\\d{2}\\b");
+    private static final Pattern AUDIT_PARTITION = Pattern.compile("\\baudit_logs_(p\\d{4}_\\d{2}|default)\\b");
+
+    private static SingleConnectionDataSource dataSource;
+    private static Flyway flyway;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        String url = System.getenv("POSTGRES_TEST_URL");
+        String user = System.getenv().getOrDefault("POSTGRES_TEST_USER", "postgres");
+        String password = System.getenv().getOrDefault("POSTGRES_TEST_PASSWORD", "");
+
+        flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        dataSource = new SingleConnectionDataSource(url, user, password, true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+        if (flyway != null) {
+            flyway.clean();
+        }
+    }
+
+    @Test
+    void testTicketQueriesByTournamentScanOnePartition() {
+        // Equivalentes SQL de findByTournamentId, countActiveByTournamentId, findActiveIdsAfter
+        // y expireActiveByTournamentIdAndIdIn
+        List<String> queries = List.of(
+                "SELECT * FROM tickets WHERE tournament_id = 42",
+                "SELECT COUNT(*) FROM tickets WHERE tournament_id = 42 AND status = 'ACTIVE'",
+                "SELECT id FROM tickets WHERE tournament_id = 42 AND status = 'ACTIVE' AND id > 0 ORDER BY id LIMIT 1000",
+                "UPDATE tickets SET status = 'EXPIRED' WHERE tournament_id = 42 AND status = 'ACTIVE' AND id IN (1, 2, 3)");
+
+        for (String query : queries) {
+            assertEquals(1, partitionsScanned(query, TICKET_PARTITION).size(), query);
+        }
+    }
+
+    @Test
+    void testTicketUpdateAndDeleteByIdScanOnePartition() {
+        // SQL que genera Hibernate al actualizar o borrar un Ticket: @PartitionKey añade tournament_id
+        List<String> statements = List.of(
+                "UPDATE tickets SET status = 'USED' WHERE id = 7 AND tournament_id = 42",
+                "DELETE FROM tickets WHERE id = 7 AND tournament_id = 42");
+
+        for (String statement : statements) {
+            assertEquals(1, partitionsScanned(statement, TICKET_PARTITION).size(), statement);
+        }
+    }
+
+    @Test
+    void testTicketQueryWithoutTournamentScansAllPartitions() {
+        assertEquals(16, partitionsScanned("SELECT * FROM tickets WHERE qr_code = 'QR'", TICKET_PARTITION).size());
+    }
+
+    @Test
+    void testAuditLogDateRangeScansOnlyThatMonth() {
+        YearMonth month = YearMonth.now();
+        String query = String.format("SELECT * FROM audit_logs WHERE created_at >= '%s' AND created_at < '%s'",
+                month.atDay(1), month.plusMonths(1).atDay(1));
+
+        assertEquals(Set.of("audit_logs_p" + String.format("%d_%02d", month.getYear(), month.getMonthValue())),
+                partitionsScanned(query, AUDIT_PARTITION));
+    }
+
+    private Set<String> partitionsScanned(String query, Pattern partition) {
+        String plan = jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + query, String.class).stream()
+                .collect(Collectors.joining("\n"));
+        Matcher matcher = partition.matcher(plan);
+        return matcher.results().map(result -> result.group()).collect(Collectors.toSet());
+    }
+}
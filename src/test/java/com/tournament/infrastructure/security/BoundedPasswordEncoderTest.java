@@ -0,0 +1,51 @@
+package com.tournament.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(4, 1, 4, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void testEncodeAndMatches_RunOnDedicatedExecutor() {
+        // Act
+        String hash = passwordEncoder.encode("password123");
+
+        // Assert
+        assertTrue(passwordEncoder.matches("password123", hash));
+        assertFalse(passwordEncoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void testUpgradeEncoding_DetectsDifferentCost() {
+        // Arrange
+        String currentCost = passwordEncoder.encode("password123");
+        String otherCost = "$2a$10$xJ6wyYCWnXdBJCX2fL2h.u0R7EqTB.nSyg3liLw0J4Br/cVpXzZRS";
+
+        // Act & Assert
+        assertFalse(passwordEncoder.upgradeEncoding(currentCost));
+        assertTrue(passwordEncoder.upgradeEncoding(otherCost));
+        assertFalse(passwordEncoder.upgradeEncoding(null));
+    }
+}
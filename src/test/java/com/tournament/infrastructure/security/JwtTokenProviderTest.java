@@ -9,6 +9,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -136,4 +140,151 @@ class JwtTokenProviderTest {
         boolean isValid = shortExpirationProvider.validateToken(token);
         assertFalse(isValid);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testVerify_ReturnsClaimsFromSingleParse() {
+        // Arrange
+        String token = jwtTokenProvider.generateToken(testUser);
+
+        // Act
+        VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+        VerifiedToken second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // Assert
+        assertEquals("testuser", first.getUsername());
+        assertEquals(1L, first.getUserId());
+        assertEquals("PARTICIPANT", first.getRole());
+        assertEquals(0, first.getTokenVersion());
+        assertSame(first, second); // la segunda presentación se sirve desde la caché
+    }
+
+    @Test
+    void testVerify_RejectsTamperedTokenAfterValidOneIsCached() {
+        // Arrange
+        String token = jwtTokenProvider.generateToken(testUser);
+        assertTrue(jwtTokenProvider.verify(token).isPresent());
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        // Act & Assert
+        assertTrue(jwtTokenProvider.verify(tampered).isEmpty());
+    }
+
+    @Test
+    void testVerify_CachedTokenHonoursExpiration() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 1000L);
+        String token = jwtTokenProvider.generateToken(testUser);
+        assertTrue(jwtTokenProvider.verify(token).isPresent());
+
+        // Act
+        Thread.sleep(1100);
+
+        // Assert
+        assertTrue(jwtTokenProvider.verify(token).isEmpty());
+        assertTrue(jwtTokenProvider.isTokenExpired(token));
+    }
+
+    @Test
+    void testEs256_TokenSignedWithActiveKeyAndPublishedInJwks() {
+        // Arrange
+        JwtKeyManager keyManager = es256KeyManager();
+        jwtTokenProvider.setKeyManager(keyManager);
+
+        // Act
+        String token = jwtTokenProvider.generateToken(testUser);
+        String kid = keyManager.activeKey().kid();
+
+        // Assert
+        assertTrue(jwtTokenProvider.validateToken(token));
+        assertEquals("testuser", jwtTokenProvider.extractUsername(token));
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyManager.getJwks().get("keys");
+        assertEquals(1, keys.size());
+        assertEquals(kid, keys.get(0).get("kid"));
+        assertEquals("EC", keys.get(0).get("kty"));
+    }
+
+    @Test
+    void testEs256_PreviousKeyStillVerifiesAfterRotation() {
+        // Arrange
+        JwtKeyManager keyManager = es256KeyManager();
+        jwtTokenProvider.setKeyManager(keyManager);
+        String oldToken = jwtTokenProvider.generateToken(testUser);
+        String oldKid = keyManager.activeKey().kid();
+
+        // Act - forzar la rotación
+        ReflectionTestUtils.setField(keyManager, "rotationInterval", Duration.ofSeconds(-1));
+        keyManager.refresh();
+        String newToken = jwtTokenProvider.generateToken(testUser);
+
+        // Assert
+        assertNotEquals(oldKid, keyManager.activeKey().kid());
+        assertTrue(jwtTokenProvider.validateToken(oldToken));
+        assertTrue(jwtTokenProvider.validateToken(newToken));
+    }
+
+    @Test
+    void testEs256_CachedTokenRejectedOnceItsKeyIsRetired() {
+        // Arrange: token verificado y en caché
+        JwtKeyManager keyManager = es256KeyManager();
+        jwtTokenProvider.setKeyManager(keyManager);
+        String oldToken = jwtTokenProvider.generateToken(testUser);
+        assertTrue(jwtTokenProvider.validateToken(oldToken));
+
+        // Act - rotar con retirada inmediata y volver a recargar para eliminar la clave anterior
+        ReflectionTestUtils.setField(keyManager, "rotationInterval", Duration.ofSeconds(-1));
+        ReflectionTestUtils.setField(keyManager, "jwtExpiration", -1000L);
+        keyManager.refresh();
+        keyManager.refresh();
+
+        // Assert
+        assertFalse(jwtTokenProvider.validateToken(oldToken));
+    }
+
+    @Test
+    void testEs256_NextKeyPublishedBeforeItSigns() {
+        // Arrange
+        JwtKeyManager keyManager = es256KeyManager();
+        ReflectionTestUtils.setField(keyManager, "activationDelay", Duration.ofMinutes(10));
+        jwtTokenProvider.setKeyManager(keyManager);
+        String activeKid = keyManager.activeKey().kid();
+
+        // Act - vence la clave activa
+        ReflectionTestUtils.setField(keyManager, "rotationInterval", Duration.ofSeconds(-1));
+        keyManager.refresh();
+        keyManager.refresh();
+
+        // Assert: la siguiente clave ya está en el JWKS pero aún no firma, y no se genera otra
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyManager.getJwks().get("keys");
+        assertEquals(2, keys.size());
+        assertEquals(activeKid, keyManager.activeKey().kid());
+        assertNotEquals(activeKid, keys.get(0).get("kid"));
+        assertTrue(jwtTokenProvider.validateToken(jwtTokenProvider.generateToken(testUser)));
+    }
+
+    @Test
+    void testEs256_RejectsHs512Token() {
+        // Arrange
+        String hmacToken = jwtTokenProvider.generateToken(testUser);
+        JwtTokenProvider es256Provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(es256Provider, "jwtSecret", TEST_SECRET);
+        ReflectionTestUtils.setField(es256Provider, "jwtExpiration", 86400000L);
+        es256Provider.setKeyManager(es256KeyManager());
+
+        // Act & Assert
+        assertFalse(es256Provider.validateToken(hmacToken));
+    }
+
+    private static JwtKeyManager es256KeyManager() {
+        JwtKeyManager keyManager = new JwtKeyManager();
+        ReflectionTestUtils.setField(keyManager, "algorithm", "ES256");
+        ReflectionTestUtils.setField(keyManager, "keystorePath", "");
+        ReflectionTestUtils.setField(keyManager, "rotationInterval", Duration.ofDays(7));
+        ReflectionTestUtils.setField(keyManager, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(keyManager, "activationDelay", Duration.ZERO);
+        keyManager.refresh();
+        return keyManager;
+    }
+}
@@ -0,0 +1,161 @@
+package com.tournament.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule login = new RateLimitProperties.Rule();
+        login.setName("login");
+        login.setPath("/auth/login");
+        login.setCapacity(2);
+        login.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties.Rule ticketsByIp = new RateLimitProperties.Rule();
+        ticketsByIp.setName("ticket-purchase-ip");
+        ticketsByIp.setPath("/tickets");
+        ticketsByIp.setCapacity(4);
+        ticketsByIp.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties.Rule tickets = new RateLimitProperties.Rule();
+        tickets.setName("ticket-purchase");
+        tickets.setPath("/tickets");
+        tickets.setKey(RateLimitProperties.KeyType.USER);
+        tickets.setCapacity(1);
+        tickets.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(login, ticketsByIp, tickets));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testLogin_RejectsWith429AfterCapacity() throws Exception {
+        // Act
+        MockHttpServletResponse first = send("POST", "/auth/login", "10.0.0.1");
+        MockHttpServletResponse second = send("POST", "/auth/login", "10.0.0.1");
+        MockHttpServletResponse third = send("POST", "/auth/login", "10.0.0.1");
+        MockHttpServletResponse otherIp = send("POST", "/auth/login", "10.0.0.2");
+
+        // Assert
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus());
+        assertEquals("30", third.getHeader("Retry-After"));
+        assertEquals(200, otherIp.getStatus());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("rule", "login").counter().count());
+    }
+
+    @Test
+    void testUnmatchedRoutes_AreNotLimited() throws Exception {
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send("GET", "/auth/login", "10.0.0.1").getStatus());
+            assertEquals(200, send("POST", "/tournaments", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    void testTicketPurchase_KeyedByAuthenticatedUser() throws Exception {
+        // Arrange - dos usuarios detrás de la misma IP
+        authenticateAs("alice");
+        assertEquals(200, send("POST", "/tickets", "10.0.0.1").getStatus());
+        assertEquals(429, send("POST", "/tickets", "10.0.0.1").getStatus());
+
+        // Act
+        authenticateAs("bob");
+        MockHttpServletResponse response = send("POST", "/tickets", "10.0.0.1");
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testTicketPurchase_AnonymousKeyedByUserIdParameter() throws Exception {
+        // Arrange - sin autenticación, dos compradores detrás de la misma IP
+        assertEquals(200, send("POST", "/tickets", "10.0.0.1", "1").getStatus());
+        assertEquals(429, send("POST", "/tickets", "10.0.0.1", "1").getStatus());
+
+        // Act
+        MockHttpServletResponse otherUser = send("POST", "/tickets", "10.0.0.1", "2");
+        MockHttpServletResponse noUser = send("POST", "/tickets", "10.0.0.1");
+
+        // Assert
+        assertEquals(200, otherUser.getStatus());
+        assertEquals(200, noUser.getStatus());
+    }
+
+    @Test
+    void testTicketPurchase_RotatingUserIdStillLimitedByIp() throws Exception {
+        // Arrange - un cliente anónimo cambia userId en cada petición
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(200, send("POST", "/tickets", "10.0.0.9", String.valueOf(i)).getStatus());
+        }
+
+        // Act
+        MockHttpServletResponse rotated = send("POST", "/tickets", "10.0.0.9", "5");
+        MockHttpServletResponse otherIp = send("POST", "/tickets", "10.0.0.10", "5");
+
+        // Assert
+        assertEquals(429, rotated.getStatus());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("rule", "ticket-purchase-ip").counter().count());
+        assertEquals(200, otherIp.getStatus());
+    }
+
+    @Test
+    void testRegistration_RunsAfterSpringSecurity() {
+        // Act
+        int order = new SecurityConfig().rateLimitFilterRegistration(filter).getOrder();
+
+        // Assert
+        assertTrue(order > SecurityProperties.DEFAULT_FILTER_ORDER);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        return send(method, path, remoteAddr, null);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr, String userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (userId != null) {
+            request.setParameter(RateLimitFilter.USER_PARAMETER, userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.tournament.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final RateLimiter.Limit FIVE_PER_MINUTE = RateLimiter.Limit.of(5, Duration.ofMinutes(1));
+
+    private AtomicLong clock;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+        rateLimiter = new RateLimiter(4, 100, clock::get);
+    }
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRejects() {
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("login:ip:1.2.3.4", FIVE_PER_MINUTE));
+        }
+        long wait = rateLimiter.tryAcquire("login:ip:1.2.3.4", FIVE_PER_MINUTE);
+
+        // Un permiso cada 12 segundos
+        assertEquals(TimeUnit.SECONDS.toNanos(12), wait);
+    }
+
+    @Test
+    void testTryAcquire_RefillsOverTime() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("k", FIVE_PER_MINUTE);
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        // Assert - un único permiso repuesto
+        assertEquals(0, rateLimiter.tryAcquire("k", FIVE_PER_MINUTE));
+        assertTrue(rateLimiter.tryAcquire("k", FIVE_PER_MINUTE) > 0);
+    }
+
+    @Test
+    void testTryAcquire_KeysAreIndependent() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("a", FIVE_PER_MINUTE);
+        }
+
+        // Act & Assert
+        assertTrue(rateLimiter.tryAcquire("a", FIVE_PER_MINUTE) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("b", FIVE_PER_MINUTE));
+    }
+
+    @Test
+    void testEvictIdle_RemovesOnlyFullBuckets() {
+        // Arrange
+        rateLimiter.tryAcquire("idle", FIVE_PER_MINUTE);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(13));
+        rateLimiter.tryAcquire("active", FIVE_PER_MINUTE);
+
+        // Act
+        int evicted = rateLimiter.evictIdle();
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    void testAdmit_BoundsBucketsPerStripe() {
+        // Arrange
+        RateLimiter bounded = new RateLimiter(1, 10, clock::get);
+
+        // Act - todas las claves siguen activas
+        for (int i = 0; i < 100; i++) {
+            bounded.tryAcquire("ip:" + i, FIVE_PER_MINUTE);
+        }
+
+        // Assert
+        assertEquals(10, bounded.size());
+    }
+
+    @Test
+    void testLimitOf_RejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.Limit.of(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.Limit.of(5, Duration.ZERO));
+    }
+}
@@ -0,0 +1,69 @@
+package com.tournament.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLruCacheTest {
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedWithinStripe() {
+        // Arrange: una sola partición de 2 entradas
+        StripedLruCache<String, Integer> cache = new StripedLruCache<>(1, 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // Act
+        cache.put("c", 3);
+
+        // Assert
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void testSize_BoundedAcrossStripes() {
+        // Arrange
+        StripedLruCache<Integer, Integer> cache = new StripedLruCache<>(4, 100);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+
+        // Assert: como máximo el límite redondeado por partición
+        assertTrue(cache.size() <= 100, "size=" + cache.size());
+        assertTrue(cache.size() > 0);
+    }
+
+    @Test
+    void testPut_ZeroSizeStoresNothing() {
+        // Arrange
+        StripedLruCache<String, Integer> cache = new StripedLruCache<>(4, 0);
+
+        // Act
+        cache.put("a", 1);
+
+        // Assert
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testRemoveIf_RemovesMatchingValues() {
+        // Arrange
+        StripedLruCache<String, Integer> cache = new StripedLruCache<>(4, 100);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        // Act
+        int removed = cache.removeIf(value -> value % 2 == 1);
+
+        // Assert
+        assertEquals(2, removed);
+        assertEquals(2, cache.get("b"));
+        assertNull(cache.remove("a"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.tournament.infrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private InMemoryRevokedTokenStore store;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRevokedTokenStore();
+        tokenRevocationService = new TokenRevocationService(store);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedRevocations", 1000);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void testRevoke_OnlyRevokedTokenIsRejected() {
+        // Arrange
+        VerifiedToken revoked = token("jti-1", 60_000);
+        VerifiedToken other = token("jti-2", 60_000);
+
+        // Act
+        tokenRevocationService.revoke(revoked);
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(revoked));
+        assertFalse(tokenRevocationService.isRevoked(other));
+        assertEquals(1, store.findActive(Instant.now()).size());
+    }
+
+    @Test
+    void testSync_LoadsRevocationsFromStore() {
+        // Arrange - revocación hecha por otra réplica
+        VerifiedToken token = token("jti-remote", 60_000);
+        store.revoke("jti-remote", token.getExpiration().toInstant());
+        assertFalse(tokenRevocationService.isRevoked(token));
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(token));
+    }
+
+    @Test
+    void testSync_PurgesExpiredRevocations() {
+        // Arrange
+        store.revoke("jti-expired", Instant.now().minusSeconds(1));
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertEquals(0, tokenRevocationService.size());
+        assertTrue(store.findActive(Instant.now().minusSeconds(10)).isEmpty());
+    }
+
+    @Test
+    void testSync_AfterInitialLoadReadsOnlyNewRevocations() {
+        // Arrange
+        RevokedTokenStore spiedStore = spy(store);
+        TokenRevocationService service = new TokenRevocationService(spiedStore);
+        ReflectionTestUtils.setField(service, "expectedRevocations", 1000);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(service, "syncOverlap", Duration.ofSeconds(5));
+        Instant initialLoad = Instant.now();
+        service.sync();
+        VerifiedToken token = token("jti-later", 60_000);
+        store.revoke("jti-later", token.getExpiration().toInstant());
+
+        // Act
+        service.sync();
+
+        // Assert: carga completa solo la primera vez; después, desde la carga anterior menos el solape
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(spiedStore, times(1)).findActive(any());
+        verify(spiedStore, times(1)).findRevokedSince(since.capture(), any());
+        assertFalse(since.getValue().isBefore(initialLoad.minusSeconds(5)), "since=" + since.getValue());
+        assertTrue(service.isRevoked(token));
+    }
+
+    private static VerifiedToken token(String tokenId, long ttlMillis) {
+        Date now = new Date();
+        return new VerifiedToken(tokenId, "testuser", 1L, "PARTICIPANT", "test@example.com", 0,
+                now, new Date(now.getTime() + ttlMillis), Jwts.claims(Map.of("jti", tokenId)));
+    }
+}
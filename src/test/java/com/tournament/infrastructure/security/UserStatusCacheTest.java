@@ -0,0 +1,144 @@
+package com.tournament.infrastructure.security;
+
+import com.tournament.domain.entity.User;
+import com.tournament.domain.event.UserStatusChangedEvent;
+import com.tournament.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class UserStatusCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserStatusCache userStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userStatusCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(userStatusCache, "maxSize", 100);
+    }
+
+    @Test
+    void testGet_LoadsOnceWithinTtl() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user("testuser", 0)));
+
+        // Act
+        Optional<UserStatus> first = userStatusCache.get("testuser");
+        Optional<UserStatus> second = userStatusCache.get("testuser");
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    void testGet_ReloadsAfterTtl() {
+        // Arrange
+        ReflectionTestUtils.setField(userStatusCache, "ttl", Duration.ZERO);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user("testuser", 0)));
+
+        // Act
+        userStatusCache.get("testuser");
+        userStatusCache.get("testuser");
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void testGet_UnknownUserIsNotCached() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<UserStatus> result = userStatusCache.get("ghost");
+        userStatusCache.get("ghost");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void testOnUserStatusChanged_NextGetReloads() {
+        // Arrange
+        when(userRepository.findByUsername("testuser"))
+                .thenReturn(Optional.of(user("testuser", 0)))
+                .thenReturn(Optional.of(user("testuser", 1)));
+        userStatusCache.get("testuser");
+
+        // Act
+        userStatusCache.onUserStatusChanged(new UserStatusChangedEvent(1L, "testuser", LocalDateTime.now()));
+        Optional<UserStatus> reloaded = userStatusCache.get("testuser");
+
+        // Assert
+        assertEquals(1, reloaded.orElseThrow().getTokenVersion());
+    }
+
+    @Test
+    void testGet_InvalidationDuringLoadIsNotOverwritten() {
+        // Arrange: la invalidación llega mientras se lee el estado anterior
+        when(userRepository.findByUsername("testuser"))
+                .thenAnswer(invocation -> {
+                    userStatusCache.invalidate("testuser");
+                    return Optional.of(user("testuser", 0));
+                })
+                .thenReturn(Optional.of(user("testuser", 1)));
+
+        // Act
+        Optional<UserStatus> stale = userStatusCache.get("testuser");
+        Optional<UserStatus> fresh = userStatusCache.get("testuser");
+
+        // Assert: el estado leído antes de la invalidación no se guardó
+        assertEquals(0, stale.orElseThrow().getTokenVersion());
+        assertEquals(1, fresh.orElseThrow().getTokenVersion());
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void testGet_FullCacheEvictsInsteadOfClearing() {
+        // Arrange
+        ReflectionTestUtils.setField(userStatusCache, "maxSize", 16);
+        when(userRepository.findByUsername(anyString()))
+                .thenAnswer(invocation -> Optional.of(user(invocation.getArgument(0), 0)));
+        for (int i = 0; i < 1000; i++) {
+            userStatusCache.get("user" + i);
+        }
+        clearInvocations(userRepository);
+
+        // Act: el último usuario cargado sigue en caché
+        userStatusCache.get("user999");
+
+        // Assert
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    private static User user(String username, int tokenVersion) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "username", username);
+        ReflectionTestUtils.setField(user, "role", User.UserRole.PARTICIPANT);
+        ReflectionTestUtils.setField(user, "isActive", true);
+        ReflectionTestUtils.setField(user, "tokenVersion", tokenVersion);
+        return user;
+    }
+}
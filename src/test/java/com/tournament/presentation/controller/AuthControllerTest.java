@@ -1,8 +1,10 @@
 package com.tournament.presentation.controller;
 
+import com.tournament.application.service.AuthService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -15,6 +17,9 @@ class AuthControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private AuthService authService;
+
     @Test
     void testGetRegisterInfo() throws Exception {
         mockMvc.perform(get("/api/auth/register")
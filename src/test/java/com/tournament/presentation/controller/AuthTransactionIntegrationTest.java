@@ -0,0 +1,107 @@
+package com.tournament.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.application.dto.LoginRequest;
+import com.tournament.application.dto.RegisterRequest;
+import com.tournament.domain.repository.RefreshTokenRepository;
+import com.tournament.domain.repository.UserRepository;
+import com.tournament.infrastructure.security.TestSecurityConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests de integración del hashing de contraseñas fuera de transacción.
+ *
+ * Sin @Transactional en la clase: la transacción del test envolvería la petición y ocultaría
+ * si AuthService abre la suya alrededor de BCrypt.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnableJpaAuditing
+@Import(TestSecurityConfig.class)
+class AuthTransactionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRegisterAndLogin_HashOutsideTransaction() throws Exception {
+        // Arrange
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), any());
+
+        RegisterRequest register = new RegisterRequest();
+        ReflectionTestUtils.setField(register, "username", "hashuser");
+        ReflectionTestUtils.setField(register, "email", "hash@example.com");
+        ReflectionTestUtils.setField(register, "password", "password123");
+        ReflectionTestUtils.setField(register, "firstName", "Hash");
+        ReflectionTestUtils.setField(register, "lastName", "User");
+
+        LoginRequest login = new LoginRequest();
+        ReflectionTestUtils.setField(login, "username", "hashuser");
+        ReflectionTestUtils.setField(login, "password", "password123");
+
+        // Act
+        mockMvc.perform(post("/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(register)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+
+        // Assert: encode en el registro y matches en el login, ambos sin transacción
+        assertTrue(transactionActive.size() >= 2, "hashes=" + transactionActive);
+        assertFalse(transactionActive.contains(true), "hashes=" + transactionActive);
+        assertTrue(userRepository.findByUsername("hashuser").isPresent());
+    }
+}
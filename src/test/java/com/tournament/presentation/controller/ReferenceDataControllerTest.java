@@ -0,0 +1,62 @@
+package com.tournament.presentation.controller;
+
+import com.tournament.application.dto.TournamentResponse;
+import com.tournament.application.service.ReferenceDataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class ReferenceDataControllerTest {
+
+    private static final String ETAG = "\"c-0123456789abcdef0123456789abcdef\"";
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReferenceDataController(referenceDataRegistry)).build();
+        when(referenceDataRegistry.getCategoriesETag()).thenReturn(ETAG);
+        when(referenceDataRegistry.getCategories()).thenReturn(List.of(TournamentResponse.CategoryResponse.builder()
+                .id(1L).code("FPS").description("First Person Shooter").alias("FPS Games").build()));
+    }
+
+    @Test
+    void testGetCategories_ReturnsBodyWithETag() throws Exception {
+        mockMvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$[0].code").value("FPS"));
+    }
+
+    @Test
+    void testGetCategories_NotModifiedWhenETagMatches() throws Exception {
+        mockMvc.perform(get("/categories").header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetCategories_FullResponseWhenETagIsStale() throws Exception {
+        mockMvc.perform(get("/categories").header("If-None-Match", "\"c-stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+}
@@ -3,6 +3,7 @@ package com.tournament.presentation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tournament.application.dto.CreateTournamentRequest;
 import com.tournament.application.dto.TournamentResponse;
+import com.tournament.application.service.ReferenceDataRegistry;
 import com.tournament.domain.entity.*;
 import com.tournament.domain.repository.*;
 import com.tournament.infrastructure.security.TestSecurityConfig;
@@ -22,6 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -51,6 +55,9 @@ class TournamentControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -91,6 +98,10 @@ class TournamentControllerIntegrationTest {
         ReflectionTestUtils.setField(testGameType, "createdAt", LocalDateTime.now());
         testGameType = gameTypeRepository.save(testGameType);
 
+        // Como en el arranque: los datos de referencia ya están en memoria antes de la primera
+        // petición, para que esta no los recargue después de fijar el ETag
+        referenceDataRegistry.refresh();
+
         // Crear organizador
         testOrganizer = new User();
         ReflectionTestUtils.setField(testOrganizer, "username", "organizer");
@@ -187,6 +198,150 @@ class TournamentControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testGetTournament_NotModifiedWhenETagMatches() throws Exception {
+        // Arrange
+        Long tournamentId = (Long) ReflectionTestUtils.getField(testTournament, "id");
+        String etag = mockMvc.perform(get("/tournaments/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tournaments/{id}", tournamentId)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetTournament_ETagChangesWhenOrganizerChanges() throws Exception {
+        // Arrange
+        Long tournamentId = (Long) ReflectionTestUtils.getField(testTournament, "id");
+        String etag = mockMvc.perform(get("/tournaments/{id}", tournamentId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act: el organizador se serializa dentro del torneo
+        ReflectionTestUtils.setField(testOrganizer, "lastName", "Renamed");
+        userRepository.saveAndFlush(testOrganizer);
+
+        // Assert
+        mockMvc.perform(get("/tournaments/{id}", tournamentId)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.organizer.lastName").value("Renamed"));
+    }
+
+    @Test
+    void testGetAllTournaments_FieldsProjection() throws Exception {
+        // Act & Assert
+        Long tournamentId = (Long) ReflectionTestUtils.getField(testTournament, "id");
+        mockMvc.perform(get("/tournaments").param("fields", "id,name,category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(tournamentId))
+                .andExpect(jsonPath("$[0].name").value("Test Tournament"))
+                .andExpect(jsonPath("$[0].category.code").value("FPS"))
+                .andExpect(jsonPath("$[0].organizer").doesNotExist())
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    void testGetAllTournaments_SummaryViewIsSmaller() throws Exception {
+        // Act
+        int fullBytes = mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray().length;
+        int summaryBytes = mockMvc.perform(get("/tournaments").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].organizerId").exists())
+                .andExpect(jsonPath("$[0].organizer").doesNotExist())
+                .andReturn().getResponse().getContentAsByteArray().length;
+
+        // Assert
+        assertTrue(summaryBytes * 2 < fullBytes,
+                "summary=" + summaryBytes + " full=" + fullBytes);
+    }
+
+    @Test
+    void testGetAllTournaments_BinaryContentNegotiation() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tournaments").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"));
+        mockMvc.perform(get("/tournaments").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"));
+        mockMvc.perform(get("/tournaments").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testGetAllTournaments_ETagDependsOnEncoding() throws Exception {
+        // Arrange
+        String jsonEtag = mockMvc.perform(get("/tournaments").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+        String cborEtag = mockMvc.perform(get("/tournaments").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert: el ETag de JSON no valida la representación CBOR
+        assertNotEquals(jsonEtag, cborEtag);
+        mockMvc.perform(get("/tournaments").accept("application/cbor")
+                .header("If-None-Match", jsonEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tournaments").accept("application/cbor")
+                .header("If-None-Match", cborEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+
+    @Test
+    void testGetAllTournaments_UnknownField() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tournaments").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllTournaments_NotModifiedWhenETagMatches() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tournaments")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetAllTournaments_ETagDependsOnProjection() throws Exception {
+        // Arrange
+        String fullEtag = mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String summaryEtag = mockMvc.perform(get("/tournaments").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert: otra proyección no puede validarse con el ETag de la vista completa
+        assertNotEquals(fullEtag, summaryEtag);
+        mockMvc.perform(get("/tournaments").param("view", "summary")
+                .header("If-None-Match", fullEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].organizerId").exists());
+        mockMvc.perform(get("/tournaments").param("fields", "name,id")
+                .header("If-None-Match", mockMvc.perform(get("/tournaments").param("fields", "id,name"))
+                        .andReturn().getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetAllTournaments_Success() throws Exception {
         // Act & Assert